@@ -0,0 +1,111 @@
+package com.budgy.backend.bills;
+
+import com.budgy.backend.dto.projection.RecurringBillView;
+import com.budgy.backend.enums.BillStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Bill Due Index
+ * <p>
+ * A user's recurring bills sorted by (dueDate, id). Range and next-K lookups binary search
+ * the first bill due on or after a day, so they cost O(log n) plus the bills returned.
+ * The bills not yet paid are kept in a second sorted array, for the overdue part of dueBy.
+ * <p>
+ * Immutable: with and without return a changed copy, so one instance can serve concurrent
+ * readers from the cache while a write replaces it.
+ */
+public final class BillDueIndex {
+
+    private static final Comparator<RecurringBillView> BY_DUE_DATE =
+            Comparator.comparing(RecurringBillView::dueDate).thenComparing(RecurringBillView::id);
+
+    private final RecurringBillView[] bills;
+    private final RecurringBillView[] unpaid;
+
+    private BillDueIndex(RecurringBillView[] bills) {
+        this.bills = bills;
+        this.unpaid = Arrays.stream(bills)
+                .filter(bill -> bill.status() != BillStatus.PAID)
+                .toArray(RecurringBillView[]::new);
+    }
+
+    public static BillDueIndex build(List<RecurringBillView> bills) {
+        RecurringBillView[] sorted = bills.toArray(RecurringBillView[]::new);
+        Arrays.sort(sorted, BY_DUE_DATE);
+        return new BillDueIndex(sorted);
+    }
+
+    /**
+     * Bills due from..to (inclusive), by due date
+     */
+    public List<RecurringBillView> dueBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        return List.of(Arrays.copyOfRange(bills, firstDueOnOrAfter(bills, from), firstDueOnOrAfter(bills, to.plusDays(1))));
+    }
+
+    /**
+     * Bills still relevant on today up to to (inclusive), by due date: those due before today
+     * that are not paid (pending or overdue), then every bill due from today through to
+     */
+    public List<RecurringBillView> dueBy(LocalDate today, LocalDate to) {
+        List<RecurringBillView> due = new ArrayList<>(
+                Arrays.asList(unpaid).subList(0, firstDueOnOrAfter(unpaid, today)));
+        due.addAll(dueBetween(today, to));
+        return List.copyOf(due);
+    }
+
+    /**
+     * The first count bills due on or after from, by due date
+     */
+    public List<RecurringBillView> next(LocalDate from, int count) {
+        int start = firstDueOnOrAfter(bills, from);
+        return List.of(Arrays.copyOfRange(bills, start, Math.min(bills.length, start + count)));
+    }
+
+    /**
+     * Copy with the bill added, or replacing the bill with the same id
+     */
+    public BillDueIndex with(RecurringBillView bill) {
+        List<RecurringBillView> changed = new ArrayList<>(bills.length + 1);
+        for (RecurringBillView existing : bills) {
+            if (!existing.id().equals(bill.id())) {
+                changed.add(existing);
+            }
+        }
+        changed.add(bill);
+        return build(changed);
+    }
+
+    /**
+     * Copy without the bill with the given id
+     */
+    public BillDueIndex without(Long billId) {
+        return new BillDueIndex(Arrays.stream(bills)
+                .filter(existing -> !existing.id().equals(billId))
+                .toArray(RecurringBillView[]::new));
+    }
+
+    /**
+     * Position of the first of the sorted bills due on or after day (bills.length if none)
+     */
+    private static int firstDueOnOrAfter(RecurringBillView[] bills, LocalDate day) {
+        int low = 0;
+        int high = bills.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (bills[middle].dueDate().isBefore(day)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
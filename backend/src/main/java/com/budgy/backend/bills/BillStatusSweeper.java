@@ -0,0 +1,161 @@
+package com.budgy.backend.bills;
+
+import com.budgy.backend.cache.UserCacheInvalidator;
+import com.budgy.backend.dto.projection.DueBill;
+import com.budgy.backend.enums.BillStatus;
+import com.budgy.backend.repositories.RecurringBillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bill Status Sweeper
+ * <p>
+ * Moves manual (not auto-paid) bills between statuses with set-based updates: bills with a
+ * matching payment become PAID, and pending bills past their due date become OVERDUE. Auto-paid
+ * bills are left to RecurringBillMaterializer, which also moves paid bills to their next cycle.
+ * <p>
+ * Candidates are read in (dueDate, id) keyset batches of bills.status.batch-size ids, and each
+ * batch is updated by id in its own short database transaction, so no run holds row locks on
+ * more than one batch. The updates re-check their conditions, so bills changed since they were
+ * read are skipped rather than overwritten.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BillStatusSweeper {
+
+    // Start of the keyset, before any due date
+    private static final LocalDate FIRST_CURSOR_DATE = LocalDate.of(1000, 1, 1);
+
+    private static final List<BillStatus> UNPAID = List.of(BillStatus.PENDING, BillStatus.OVERDUE);
+
+    private final RecurringBillRepository recurringBillRepository;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${bills.status.batch-size:1000}")
+    private int batchSize;
+
+    // A payment may be made up to this many days before the due date
+    @Value("${bills.status.payment-window-days:5}")
+    private int paymentWindowDays;
+
+    @Scheduled(initialDelayString = "${bills.status.fixed-delay:1h}",
+            fixedDelayString = "${bills.status.fixed-delay:1h}")
+    public void sweepScheduled() {
+        sweep(LocalDate.now());
+    }
+
+    /**
+     * Mark paid and overdue bills as of today
+     * A batch that fails is logged and skipped; its bills are picked up by the next run.
+     */
+    public SweepResult sweep(LocalDate today) {
+        long started = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Paid first, so a late payment does not flag its bill overdue first
+        BatchCounts paid = forEachBatch(transactionTemplate, today.plusDays(paymentWindowDays), UNPAID,
+                batch -> markPaid(batch, today));
+        BatchCounts overdue = forEachBatch(transactionTemplate, today.minusDays(1), List.of(BillStatus.PENDING),
+                batch -> markOverdue(batch, today));
+
+        SweepResult result = new SweepResult(paid.updated(), overdue.updated(),
+                paid.failed() + overdue.failed(), (System.nanoTime() - started) / 1_000_000);
+        log.info("Swept recurring bill statuses as of {}: {} marked paid, {} marked overdue, " +
+                        "{} batches failed, in {} ms", today, result.paid(), result.overdue(),
+                result.failedBatches(), result.elapsedMillis());
+        return result;
+    }
+
+    private BatchUpdate markPaid(List<DueBill> batch, LocalDate today) {
+        List<Long> ids = ids(batch);
+        recurringBillRepository.linkPayments(ids, paymentWindowDays, today);
+        List<DueBill> paid = recurringBillRepository.findPaidCycles(ids, BillStatus.PAID);
+        if (paid.isEmpty()) {
+            return new BatchUpdate(0, Set.of());
+        }
+        int updated = recurringBillRepository.markPaid(ids(paid), BillStatus.PAID);
+        return new BatchUpdate(updated, userIds(paid));
+    }
+
+    private BatchUpdate markOverdue(List<DueBill> batch, LocalDate today) {
+        List<DueBill> overdue = recurringBillRepository.findOverdueCycles(ids(batch), today, BillStatus.PENDING);
+        if (overdue.isEmpty()) {
+            return new BatchUpdate(0, Set.of());
+        }
+        int updated = recurringBillRepository.markOverdue(ids(overdue), today, BillStatus.PENDING, BillStatus.OVERDUE);
+        return new BatchUpdate(updated, userIds(overdue));
+    }
+
+    /**
+     * Read candidate bills batch by batch and update each batch in its own database transaction
+     * Each update re-reads which bills of its batch still qualify and reports their users only,
+     * whose caches are invalidated after its transaction commits.
+     */
+    private BatchCounts forEachBatch(TransactionTemplate transactionTemplate, LocalDate horizon,
+                                     List<BillStatus> statuses, Function<List<DueBill>, BatchUpdate> update) {
+        int updated = 0;
+        int failed = 0;
+        LocalDate cursorDate = FIRST_CURSOR_DATE;
+        Long cursorId = 0L;
+        while (true) {
+            List<DueBill> batch = recurringBillRepository.findManualDueAfter(
+                    horizon, statuses, cursorDate, cursorId, Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return new BatchCounts(updated, failed);
+            }
+            DueBill last = batch.getLast();
+            cursorDate = last.dueDate();
+            cursorId = last.id();
+
+            try {
+                updated += transactionTemplate.execute(status -> {
+                    BatchUpdate result = update.apply(batch);
+                    if (result.updated() > 0) {
+                        // Statuses feed the cached bill index and forecast
+                        result.userIds().forEach(userCacheInvalidator::invalidate);
+                    }
+                    return result.updated();
+                });
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("Bill status batch ending at ({}, {}) failed", cursorDate, cursorId, e);
+            }
+        }
+    }
+
+    private static List<Long> ids(List<DueBill> bills) {
+        return bills.stream().map(DueBill::id).toList();
+    }
+
+    private static Set<Long> userIds(List<DueBill> bills) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        bills.forEach(bill -> userIds.add(bill.userId()));
+        return userIds;
+    }
+
+    /**
+     * Bills updated by one run and how long it took
+     */
+    public record SweepResult(int paid, int overdue, int failedBatches, long elapsedMillis) {
+    }
+
+    private record BatchUpdate(int updated, Set<Long> userIds) {
+    }
+
+    private record BatchCounts(int updated, int failed) {
+    }
+}
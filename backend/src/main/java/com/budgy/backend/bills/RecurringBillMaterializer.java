@@ -0,0 +1,215 @@
+package com.budgy.backend.bills;
+
+import com.budgy.backend.cache.UserCacheInvalidator;
+import com.budgy.backend.dto.projection.BudgetView;
+import com.budgy.backend.dto.projection.DueBill;
+import com.budgy.backend.entities.Budget;
+import com.budgy.backend.entities.RecurringBill;
+import com.budgy.backend.entities.Transaction;
+import com.budgy.backend.entities.User;
+import com.budgy.backend.enums.BillStatus;
+import com.budgy.backend.enums.TransactionType;
+import com.budgy.backend.repositories.BudgetRepository;
+import com.budgy.backend.repositories.RecurringBillRepository;
+import com.budgy.backend.repositories.UserRepository;
+import com.budgy.backend.services.TransactionBatchWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Recurring Bill Materializer
+ * <p>
+ * Posts due bills as EXPENSE transactions and moves them to their next cycle. Due bills are
+ * read across users in (dueDate, id) keyset chunks; each chunk is handled on a virtual thread,
+ * at most bills.materialize.parallelism at a time, one database transaction per user.
+ * <p>
+ * Within a user's transaction the bills are locked and re-checked, every due cycle of an
+ * auto-paid bill from its creation day on becomes a transaction (through TransactionBatchWriter,
+ * so balance, budget, rollup and journal effects are applied in bulk), and the bill's due date
+ * is advanced past today. Posting and advancing commit together, and transactions carry their bill cycle under
+ * a unique key, so a run that crashes or overlaps another run never posts a cycle twice.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecurringBillMaterializer {
+
+    // Start of the keyset, before any due date
+    private static final LocalDate FIRST_CURSOR_DATE = LocalDate.of(1000, 1, 1);
+
+    private final RecurringBillRepository recurringBillRepository;
+    private final UserRepository userRepository;
+    private final BudgetRepository budgetRepository;
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${bills.materialize.chunk-size:500}")
+    private int chunkSize;
+
+    // Chunks handled concurrently, one pooled connection each
+    @Value("${bills.materialize.parallelism:4}")
+    private int parallelism;
+
+    @Scheduled(initialDelayString = "${bills.materialize.fixed-delay:1h}",
+            fixedDelayString = "${bills.materialize.fixed-delay:1h}")
+    public void materializeScheduled() {
+        materializeDueBills(LocalDate.now());
+    }
+
+    /**
+     * Post and advance every bill due by today
+     * A user whose bills fail is logged and skipped; their bills stay due for the next run.
+     *
+     * @return number of transactions posted
+     */
+    public int materializeDueBills(LocalDate today) {
+        long started = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger posted = new AtomicInteger();
+        AtomicInteger advanced = new AtomicInteger();
+        AtomicInteger failedUsers = new AtomicInteger();
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            LocalDate cursorDate = FIRST_CURSOR_DATE;
+            Long cursorId = 0L;
+            while (true) {
+                List<DueBill> chunk = recurringBillRepository.findDueAfter(
+                        today, BillStatus.PAID, cursorDate, cursorId, Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                DueBill last = chunk.getLast();
+                cursorDate = last.dueDate();
+                cursorId = last.id();
+
+                // Reading ahead waits for a free slot, so at most parallelism chunks are in memory
+                permits.acquireUninterruptibly();
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        Map<Long, List<Long>> billIdsByUser = chunk.stream().collect(Collectors.groupingBy(
+                                DueBill::userId, Collectors.mapping(DueBill::id, Collectors.toList())));
+                        billIdsByUser.forEach((userId, billIds) -> {
+                            try {
+                                MaterializedBills result = transactionTemplate.execute(status ->
+                                        materializeUser(userId, billIds, today));
+                                posted.addAndGet(result.posted());
+                                advanced.addAndGet(result.advanced());
+                            } catch (RuntimeException e) {
+                                failedUsers.incrementAndGet();
+                                log.error("Bill materialization failed for user {}", userId, e);
+                            }
+                        });
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        }
+
+        log.info("Materialized recurring bills due by {}: {} transactions posted, {} bills advanced, " +
+                        "{} users failed, in {} ms", today, posted.get(), advanced.get(), failedUsers.get(),
+                (System.nanoTime() - started) / 1_000_000);
+        return posted.get();
+    }
+
+    /**
+     * Post the due cycles of one user's bills and advance them, in the caller's database transaction
+     */
+    private MaterializedBills materializeUser(Long userId, List<Long> billIds, LocalDate today) {
+        // Same lock order as every ledger event: user row first
+        if (userRepository.lockLedgerVersion(userId).isEmpty()) {
+            return new MaterializedBills(0, 0);
+        }
+        // Bills another run already advanced are no longer due and drop out here
+        List<RecurringBill> bills = recurringBillRepository.lockDueBills(billIds, today);
+        if (bills.isEmpty()) {
+            return new MaterializedBills(0, 0);
+        }
+
+        // Bills are booked against the user's budget of the same category, if any
+        Map<String, Long> budgetIdsByCategory = budgetRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(BudgetView::category, BudgetView::id, (first, second) -> first));
+        User user = entityManager.getReference(User.class, userId);
+
+        List<Transaction> transactions = new ArrayList<>();
+        int advanced = 0;
+        for (RecurringBill bill : bills) {
+            LocalDate firstDueDate = bill.getDueDate();
+            // Cycles due before the bill was created were paid outside the app, they are only skipped
+            LocalDate firstPostedDate = bill.getCreatedAt() != null ? bill.getCreatedAt().toLocalDate() : firstDueDate;
+            long cycle = 0;
+            LocalDate dueDate = firstDueDate;
+            // A paid bill's current cycle is settled
+            boolean settled = bill.getStatus() == BillStatus.PAID;
+            while (!dueDate.isAfter(today)) {
+                if (!settled) {
+                    if (!bill.isAutoPay()) {
+                        // Manual bills wait at their first unpaid cycle
+                        break;
+                    }
+                    if (!dueDate.isBefore(firstPostedDate)) {
+                        Long budgetId = budgetIdsByCategory.get(bill.getCategory());
+                        transactions.add(toTransaction(bill, dueDate, user,
+                                budgetId != null ? entityManager.getReference(Budget.class, budgetId) : null));
+                    }
+                }
+                // Counted from the current due date, so catching up several months keeps its day of month
+                dueDate = bill.getRecurrence().plusCycles(firstDueDate, ++cycle);
+                settled = false;
+            }
+            if (!dueDate.equals(firstDueDate)) {
+                bill.setDueDate(dueDate);
+                bill.setStatus(BillStatus.PENDING);
+                advanced++;
+            }
+        }
+
+        if (!transactions.isEmpty()) {
+            transactionBatchWriter.insert(userId, transactions);
+        }
+        // Due dates feed the cached forecast
+        userCacheInvalidator.invalidate(userId);
+        return new MaterializedBills(transactions.size(), advanced);
+    }
+
+    private static Transaction toTransaction(RecurringBill bill, LocalDate dueDate, User user, Budget budget) {
+        Transaction transaction = new Transaction();
+        transaction.setName(bill.getName());
+        transaction.setTransactionDate(dueDate);
+        // Expenses are stored negative
+        transaction.setAmount(bill.getAmount().abs().negate());
+        transaction.setCategory(bill.getCategory());
+        transaction.setType(TransactionType.EXPENSE);
+        transaction.setUser(user);
+        transaction.setBudget(budget);
+        transaction.setRecurringBill(bill);
+        transaction.setBillDueDate(dueDate);
+        return transaction;
+    }
+
+    private record MaterializedBills(int posted, int advanced) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.budgy.backend.cache;
+
+/**
+ * Counters of a cache since startup
+ * Evictions are entries dropped to stay within max-size, expirations entries older than ttl.
+ */
+public record CacheStats(
+        int size,
+        long hits,
+        long misses,
+        long evictions,
+        long expirations,
+        long invalidations
+) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,43 @@
+package com.budgy.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Cache Stats Logger
+ * <p>
+ * Logs the hit/miss/eviction counters of every UserCache bean, plus the caches registered
+ * with it that are kept out of the beans on purpose (see PrincipalCache).
+ */
+@Slf4j
+@Component
+public class CacheStatsLogger {
+
+    private final List<UserCache<?>> caches;
+
+    public CacheStatsLogger(List<UserCache<?>> caches) {
+        this.caches = new CopyOnWriteArrayList<>(caches);
+    }
+
+    public void register(UserCache<?> cache) {
+        caches.add(cache);
+    }
+
+    @Scheduled(fixedDelayString = "${caches.stats-log-interval:5m}",
+            initialDelayString = "${caches.stats-log-interval:5m}")
+    public void logStats() {
+        for (UserCache<?> cache : caches) {
+            CacheStats stats = cache.stats();
+            if (stats.hits() + stats.misses() > 0) {
+                log.info("{} cache: size={}, hits={}, misses={}, hitRate={}%, evictions={}, expirations={}, invalidations={}",
+                        cache.name(), stats.size(), stats.hits(), stats.misses(),
+                        String.format("%.1f", stats.hitRate() * 100),
+                        stats.evictions(), stats.expirations(), stats.invalidations());
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.budgy.backend.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * User Cache
+ * <p>
+ * Bounded in-memory cache holding one value per user. Entries are evicted least-recently-used
+ * once max-size is reached and expire after ttl. Writes that change a user's balance or
+ * transactions call UserCacheInvalidator.invalidate(userId), which evicts the user from every
+ * cache when their database transaction commits.
+ * <p>
+ * A load that overlaps an eviction of the same user is returned but not cached: each user
+ * maps to a generation counter that eviction bumps, and a loaded value is only stored if the
+ * counter did not move while it was computed.
+ */
+public class UserCache<V> {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry<V>> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public UserCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        // Access order: iteration starts at the least recently used entry
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public V get(Long userId, Supplier<V> loader) {
+        return get(userId, value -> true, loader);
+    }
+
+    /**
+     * Get the user's value, computing and caching it on a miss
+     * A cached value rejected by isCurrent (e.g. computed for an earlier month) counts as a miss.
+     * The loader runs outside the cache lock, so a slow load never blocks other users.
+     */
+    public V get(Long userId, Predicate<V> isCurrent, Supplier<V> loader) {
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            Entry<V> entry = entries.get(userId);
+            if (entry != null) {
+                if (now - entry.loadedAt() >= ttlNanos) {
+                    entries.remove(userId);
+                    expirations.increment();
+                } else if (isCurrent.test(entry.value())) {
+                    hits.increment();
+                    return entry.value();
+                }
+            }
+        }
+        misses.increment();
+
+        long generation = generations.get(stripe(userId));
+        V value = loader.get();
+
+        synchronized (entries) {
+            if (generations.get(stripe(userId)) == generation) {
+                entries.put(userId, new Entry<>(value, now));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drop the user's value right away
+     * Writers go through UserCacheInvalidator so this happens after their commit.
+     */
+    public void evict(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        invalidations.increment();
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    /**
+     * Apply a change to the user's cached value in place of dropping it; the entry keeps its age
+     * Loads in flight are discarded as on evict, since they may have read the data before the change.
+     */
+    public void update(Long userId, UnaryOperator<V> change) {
+        generations.incrementAndGet(stripe(userId));
+        synchronized (entries) {
+            Entry<V> entry = entries.get(userId);
+            if (entry != null) {
+                entries.put(userId, new Entry<>(change.apply(entry.value()), entry.loadedAt()));
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Long> userIds = entries.keySet().iterator();
+        while (entries.size() > maxSize && userIds.hasNext()) {
+            userIds.next();
+            userIds.remove();
+            evictions.increment();
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), GENERATION_STRIPES);
+    }
+
+    public CacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(size, hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), invalidations.sum());
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
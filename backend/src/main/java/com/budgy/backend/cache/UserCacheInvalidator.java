@@ -0,0 +1,51 @@
+package com.budgy.backend.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * User Cache Invalidator
+ * <p>
+ * Single entry point for writes that change what the user caches were computed from
+ * (balance, transactions, recurring bills). Their counters are logged by CacheStatsLogger.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidator {
+
+    private final List<UserCache<?>> caches;
+
+    /**
+     * Evict the user from every cache once the current database transaction commits
+     * (immediately when called outside a transaction). A rolled back write changes
+     * nothing, so it keeps the entries.
+     */
+    public void invalidate(Long userId) {
+        AfterCommit.run(() -> evict(userId));
+    }
+
+    /**
+     * Same as invalidate, except that the user's value in updated is changed in place
+     * (see UserCache.update) instead of evicted, for caches that can follow the write cheaply
+     */
+    public <V> void invalidate(Long userId, UserCache<V> updated, UnaryOperator<V> change) {
+        AfterCommit.run(() -> {
+            for (UserCache<?> cache : caches) {
+                if (cache == updated) {
+                    updated.update(userId, change);
+                } else {
+                    cache.evict(userId);
+                }
+            }
+        });
+    }
+
+    private void evict(Long userId) {
+        for (UserCache<?> cache : caches) {
+            cache.evict(userId);
+        }
+    }
+}
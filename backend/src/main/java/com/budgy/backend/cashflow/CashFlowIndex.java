@@ -0,0 +1,108 @@
+package com.budgy.backend.cashflow;
+
+import com.budgy.backend.dto.projection.DailyTotal;
+import com.budgy.backend.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Cash Flow Index
+ * <p>
+ * Day-level prefix sums of a user's cash flow, in cents, indexed by epoch day. Element i of
+ * each array holds the total of the days before firstDay + i, so the total of any range of
+ * days is one subtraction, however long the range.
+ * <p>
+ * Immutable once built, so one instance can serve concurrent readers from the cache.
+ */
+public final class CashFlowIndex {
+
+    public static final CashFlowIndex EMPTY = new CashFlowIndex(0, new long[1], new long[1], new long[1], new long[1]);
+
+    private final long firstDay;
+    private final long[] income;
+    private final long[] expenses;
+    private final long[] savings;
+    private final long[] net;
+
+    private CashFlowIndex(long firstDay, long[] income, long[] expenses, long[] savings, long[] net) {
+        this.firstDay = firstDay;
+        this.income = income;
+        this.expenses = expenses;
+        this.savings = savings;
+        this.net = net;
+    }
+
+    /**
+     * Build the index from daily totals sorted by day
+     * Each total must already be a sum of normalized amounts (see TransactionRepository.sumDailyByUserId):
+     * a raw sum of expenses stored with both signs cannot be repaired here.
+     */
+    public static CashFlowIndex build(List<DailyTotal> totals) {
+        if (totals.isEmpty()) {
+            return EMPTY;
+        }
+        long firstDay = totals.get(0).day().toEpochDay();
+        int days = Math.toIntExact(totals.get(totals.size() - 1).day().toEpochDay() - firstDay + 1);
+
+        // Per-day values at i + 1, turned into prefix sums below
+        long[] income = new long[days + 1];
+        long[] expenses = new long[days + 1];
+        long[] savings = new long[days + 1];
+        long[] net = new long[days + 1];
+        for (DailyTotal total : totals) {
+            int i = Math.toIntExact(total.day().toEpochDay() - firstDay) + 1;
+            TransactionType type = total.type();
+            BigDecimal amount = total.amount();
+
+            // Signs are normalized here too, so a day total is read the same way whatever produced it
+            switch (type) {
+                case INCOME -> income[i] += cents(type.signedAmount(amount));
+                case EXPENSE -> expenses[i] += cents(type.signedAmount(amount));
+                default -> savings[i] += cents(type.savedDelta(amount));
+            }
+            net[i] += cents(type.balanceDelta(amount));
+        }
+        for (int i = 1; i <= days; i++) {
+            income[i] += income[i - 1];
+            expenses[i] += expenses[i - 1];
+            savings[i] += savings[i - 1];
+            net[i] += net[i - 1];
+        }
+        return new CashFlowIndex(firstDay, income, expenses, savings, net);
+    }
+
+    /**
+     * Totals of the days from..to (inclusive); days outside the indexed span count as zero
+     */
+    public CashFlowTotals sum(LocalDate from, LocalDate to) {
+        int start = position(from.toEpochDay());
+        int end = position(to.toEpochDay() + 1);
+        return new CashFlowTotals(
+                income[end] - income[start],
+                expenses[end] - expenses[start],
+                savings[end] - savings[start],
+                net[end] - net[start]);
+    }
+
+    /**
+     * Prefix position of an epoch day, clamped to the indexed span
+     */
+    private int position(long epochDay) {
+        long offset = epochDay - firstDay;
+        return (int) Math.max(0, Math.min(offset, income.length - 1));
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Totals in cents: expenses are negative whatever sign they were stored with, savings are saved minus
+     * withdrawn, and net is the change to the balance
+     */
+    public record CashFlowTotals(long income, long expenses, long savings, long net) {
+    }
+}
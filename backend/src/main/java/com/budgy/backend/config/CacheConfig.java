@@ -0,0 +1,49 @@
+package com.budgy.backend.config;
+
+import com.budgy.backend.bills.BillDueIndex;
+import com.budgy.backend.cache.UserCache;
+import com.budgy.backend.cashflow.CashFlowIndex;
+import com.budgy.backend.dto.response.DashboardStatsDTO;
+import com.budgy.backend.forecast.ForecastModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Cache Configuration
+ * <p>
+ * Per-user in-memory caches. Every UserCache bean is evicted by UserCacheInvalidator.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public UserCache<DashboardStatsDTO> dashboardStatsCache(
+            @Value("${caches.dashboard-stats.max-size:10000}") int maxSize,
+            @Value("${caches.dashboard-stats.ttl:5m}") Duration ttl) {
+        return new UserCache<>("Dashboard stats", maxSize, ttl);
+    }
+
+    @Bean
+    public UserCache<CashFlowIndex> cashFlowIndexCache(
+            @Value("${caches.cash-flow.max-size:2000}") int maxSize,
+            @Value("${caches.cash-flow.ttl:30m}") Duration ttl) {
+        return new UserCache<>("Cash flow", maxSize, ttl);
+    }
+
+    @Bean
+    public UserCache<ForecastModel> forecastModelCache(
+            @Value("${caches.forecast.max-size:10000}") int maxSize,
+            @Value("${caches.forecast.ttl:1h}") Duration ttl) {
+        return new UserCache<>("Forecast", maxSize, ttl);
+    }
+
+    @Bean
+    public UserCache<BillDueIndex> billDueIndexCache(
+            @Value("${caches.bill-due-dates.max-size:10000}") int maxSize,
+            @Value("${caches.bill-due-dates.ttl:1h}") Duration ttl) {
+        return new UserCache<>("Bill due dates", maxSize, ttl);
+    }
+}
@@ -0,0 +1,12 @@
+package com.budgy.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (ledger snapshots, dashboard cache upkeep, recurring bills)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
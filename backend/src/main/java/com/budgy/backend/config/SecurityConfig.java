@@ -1,7 +1,10 @@
 package com.budgy.backend.config;
 
+import com.budgy.backend.security.BoundedPasswordEncoder;
 import com.budgy.backend.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -17,6 +20,8 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.time.Duration;
+
 /**
  * Security Configuration
  * <p>
@@ -37,10 +42,17 @@ public class SecurityConfig {
      * IMPORTANT: This is a STATIC method to avoid circular dependency.
      * Static @Bean methods are initialized early in the Spring context lifecycle,
      * before other beans that might depend on them.
+     * <p>
+     * BCrypt runs on a bounded pool of its own (see BoundedPasswordEncoder), so login and
+     * registration bursts cannot take over the request threads.
      */
     @Bean
-    public static PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public static PasswordEncoder passwordEncoder(
+            @Value("${password-hashing.strength:10}") int strength,
+            @Value("${password-hashing.threads:0}") int threads,
+            @Value("${password-hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${password-hashing.max-wait:5s}") Duration maxWait) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), strength, threads, queueCapacity, maxWait);
     }
 
     @Bean
@@ -68,6 +80,10 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/auth/**").permitAll()           // Login & register
                         .requestMatchers(HttpMethod.POST, "/api/v1/users").permitAll()  // User registration
 
+                        // Async results (ledger writes, streamed exports) are dispatched again once ready;
+                        // the original request was already authorized and the JWT context is not kept
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // All other endpoints require authentication
                         .anyRequest().authenticated()
                 )
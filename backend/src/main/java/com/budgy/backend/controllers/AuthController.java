@@ -5,7 +5,9 @@ import com.budgy.backend.dto.UserDTO;
 import com.budgy.backend.dto.response.LoginResponse;
 import com.budgy.backend.dto.response.UserResponseDTO;
 import com.budgy.backend.security.JwtUtil;
+import com.budgy.backend.security.TokenRevocations;
 import com.budgy.backend.security.UserDetailsImpl;
+import com.budgy.backend.security.VerifiedToken;
 import com.budgy.backend.services.UserService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -19,11 +21,12 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Authentication Controller
  * <p>
- * Handles authentication-related endpoints: login, register, and token validation.
+ * Handles authentication-related endpoints: login, register, logout and token validation.
  */
 @AllArgsConstructor
 @RestController
@@ -33,6 +36,7 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final UserService userService;
+    private final TokenRevocations tokenRevocations;
 
     /**
      * Login Endpoint
@@ -78,6 +82,9 @@ public class AuthController {
             return ResponseEntity
                     .status(401)
                     .body(Map.of("error", "Invalid email or password"));
+        } catch (RejectedExecutionException e) {
+            // Password hashing is saturated: 503 from GlobalExceptionHandler
+            throw e;
         } catch (Exception e) {
             return ResponseEntity
                     .status(500)
@@ -113,6 +120,8 @@ public class AuthController {
 
             return ResponseEntity.status(201).body(response);
 
+        } catch (RejectedExecutionException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity
                     .status(400)
@@ -147,7 +156,7 @@ public class AuthController {
             UserDetails userDetails = userService.loadUserByUsername(username);
 
             // Validate token
-            if (jwtUtil.validateToken(token, userDetails)) {
+            if (jwtUtil.validateToken(token, userDetails) && !tokenRevocations.isRevoked(jwtUtil.verify(token))) {
                 UserDetailsImpl userDetailsImpl = (UserDetailsImpl) userDetails;
                 com.budgy.backend.entities.User user = userDetailsImpl.getUser();
 
@@ -166,7 +175,7 @@ public class AuthController {
             } else {
                 Map<String, Object> errorResponse = new HashMap<>();
                 errorResponse.put("valid", false);
-                errorResponse.put("message", "Token is invalid or expired");
+                errorResponse.put("message", "Token is invalid, expired or revoked");
                 return ResponseEntity.status(401).body(errorResponse);
             }
 
@@ -177,4 +186,38 @@ public class AuthController {
             return ResponseEntity.status(401).body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Logout Endpoint
+     * <p>
+     * POST /api/v1/auth/logout
+     * Headers: Authorization: Bearer <jwt-token>
+     * Revokes the token, so it is rejected until it would have expired anyway.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return ResponseEntity
+                    .status(401)
+                    .body(Map.of("error", "Missing or invalid Authorization header"));
+        }
+
+        VerifiedToken token;
+        try {
+            token = jwtUtil.verify(authorizationHeader.substring(7));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(401)
+                    .body(Map.of("error", "Invalid Token"));
+        }
+
+        // Tokens issued before token ids existed expire on their own
+        if (token.tokenId() == null) {
+            return ResponseEntity
+                    .status(400)
+                    .body(Map.of("error", "Token cannot be revoked individually"));
+        }
+        tokenRevocations.revokeToken(token);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,14 +1,28 @@
 package com.budgy.backend.controllers;
 
+import com.budgy.backend.dto.response.BalanceHistoryDTO;
+import com.budgy.backend.dto.response.CashFlowSeriesDTO;
+import com.budgy.backend.dto.response.CategoryBreakdownDTO;
 import com.budgy.backend.dto.response.DashboardStatsDTO;
+import com.budgy.backend.dto.response.ForecastDTO;
+import com.budgy.backend.enums.CashFlowGranularity;
+import com.budgy.backend.exceptions.BadRequestException;
+import com.budgy.backend.services.BalanceHistoryService;
+import com.budgy.backend.services.CashFlowService;
+import com.budgy.backend.services.CategoryBreakdownService;
 import com.budgy.backend.services.DashboardService;
+import com.budgy.backend.services.ForecastService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 /**
  * Dashboard Controller
  * <p>
@@ -20,6 +34,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final CashFlowService cashFlowService;
+    private final CategoryBreakdownService categoryBreakdownService;
+    private final BalanceHistoryService balanceHistoryService;
+    private final ForecastService forecastService;
 
     /**
      * Get Dashboard Statistics
@@ -37,4 +55,78 @@ public class DashboardController {
         DashboardStatsDTO stats = dashboardService.getDashboardStats(userId);
         return ResponseEntity.ok(stats);
     }
-}
\ No newline at end of file
+
+    /**
+     * Get Cash Flow Series
+     * <p>
+     * GET /api/v1/users/{userId}/dashboard/cash-flow?from=2025-01-01&to=2025-03-31&granularity=day|week|month
+     * <p>
+     * Returns income, expenses, net savings and net balance change per bucket, for charts
+     */
+    @GetMapping("/cash-flow")
+    public ResponseEntity<CashFlowSeriesDTO> getCashFlow(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        CashFlowGranularity cashFlowGranularity;
+        try {
+            cashFlowGranularity = CashFlowGranularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported granularity: " + granularity);
+        }
+
+        CashFlowSeriesDTO series = cashFlowService.getCashFlow(userId, from, to, cashFlowGranularity);
+        return ResponseEntity.ok(series);
+    }
+
+    /**
+     * Get Category Breakdown
+     * <p>
+     * GET /api/v1/users/{userId}/dashboard/categories?from=2025-03-01&to=2025-03-31&top=5
+     * <p>
+     * Returns spend per category, the top-N categories and each category's change
+     * versus the previous equivalent period. Defaults to the current month.
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<CategoryBreakdownDTO> getCategoryBreakdown(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer top) {
+        CategoryBreakdownDTO breakdown = categoryBreakdownService.getCategoryBreakdown(userId, from, to, top);
+        return ResponseEntity.ok(breakdown);
+    }
+
+    /**
+     * Get Balance History
+     * <p>
+     * GET /api/v1/users/{userId}/dashboard/balance-history?from=2024-04-01&to=2025-03-31
+     * <p>
+     * Returns the end-of-day balance for every day of the range (default: the last 30 days)
+     */
+    @GetMapping("/balance-history")
+    public ResponseEntity<BalanceHistoryDTO> getBalanceHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        BalanceHistoryDTO history = balanceHistoryService.getBalanceHistory(userId, from, to);
+        return ResponseEntity.ok(history);
+    }
+
+    /**
+     * Get Balance Forecast
+     * <p>
+     * GET /api/v1/users/{userId}/dashboard/forecast?months=3
+     * <p>
+     * Returns the expected balance for each remaining day of the current month and at the end
+     * of each of the next months, from recurring bills and average spend per category
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<ForecastDTO> getForecast(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Integer months) {
+        ForecastDTO forecast = forecastService.getForecast(userId, months);
+        return ResponseEntity.ok(forecast);
+    }
+}
@@ -0,0 +1,42 @@
+package com.budgy.backend.controllers;
+
+import com.budgy.backend.dto.response.LedgerBalanceDTO;
+import com.budgy.backend.ledger.LedgerReplayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ledger Controller
+ * <p>
+ * Exposes balances computed from the ledger journal
+ */
+@RestController
+@RequestMapping("/api/v1/users/{userId}/ledger")
+@RequiredArgsConstructor
+public class LedgerController {
+
+    private final LedgerReplayService ledgerReplayService;
+
+    /**
+     * Get Ledger Balances
+     * <p>
+     * GET /api/v1/users/{userId}/ledger/balances?at=2025-03-31T23:59:59
+     * <p>
+     * Returns the balance, budget spent and pot saved as of the given time (now if omitted)
+     */
+    @GetMapping("/balances")
+    public ResponseEntity<LedgerBalanceDTO> getBalances(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        LedgerBalanceDTO balances = ledgerReplayService.getBalances(userId, at);
+        return ResponseEntity.ok(balances);
+    }
+}
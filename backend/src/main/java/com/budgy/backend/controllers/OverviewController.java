@@ -0,0 +1,38 @@
+package com.budgy.backend.controllers;
+
+import com.budgy.backend.dto.response.OverviewDTO;
+import com.budgy.backend.services.OverviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Overview Controller
+ * <p>
+ * Serves the whole Overview page in one round trip
+ */
+@RestController
+@RequestMapping("/api/v1/users/{userId}/overview")
+@RequiredArgsConstructor
+public class OverviewController {
+
+    private final OverviewService overviewService;
+
+    /**
+     * Get Overview
+     * <p>
+     * GET /api/v1/users/{userId}/overview
+     * <p>
+     * Returns dashboard stats, budgets, saving pots, bills due in the next 30 days and the
+     * 5 most recent transactions. Sections that could not be loaded in time are listed in
+     * failedSections.
+     */
+    @GetMapping
+    public ResponseEntity<OverviewDTO> getOverview(@PathVariable Long userId) {
+        OverviewDTO overview = overviewService.getOverview(userId);
+        return ResponseEntity.ok(overview);
+    }
+}
@@ -34,11 +34,30 @@ public class RecurringBillController {
         return ResponseEntity.ok(bills);
     }
 
+    /**
+     * Bills due from from through date, by due date
+     * Without from, every bill due by date except those paid before today: pending and
+     * overdue bills stay listed however long ago they were due.
+     */
     @GetMapping("/upcoming")
     public ResponseEntity<List<RecurringBillResponseDTO>> getUpcomingBills(
             @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<RecurringBillResponseDTO> bills = recurringBillService.getUpcomingBills(userId, date);
+        List<RecurringBillResponseDTO> bills = from != null
+                ? recurringBillService.getUpcomingBills(userId, from, date)
+                : recurringBillService.getBillsDueBy(userId, LocalDate.now(), date);
+        return ResponseEntity.ok(bills);
+    }
+
+    /**
+     * The next count bills due from today, by due date
+     */
+    @GetMapping("/next")
+    public ResponseEntity<List<RecurringBillResponseDTO>> getNextBills(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Integer count) {
+        List<RecurringBillResponseDTO> bills = recurringBillService.getNextBills(userId, LocalDate.now(), count);
         return ResponseEntity.ok(bills);
     }
 
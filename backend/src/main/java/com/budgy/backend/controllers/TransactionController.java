@@ -1,17 +1,31 @@
 package com.budgy.backend.controllers;
 
 import com.budgy.backend.dto.TransactionDTO;
+import com.budgy.backend.dto.response.CursorPageResponseDTO;
+import com.budgy.backend.dto.response.ImportReportDTO;
 import com.budgy.backend.dto.response.TransactionResponseDTO;
+import com.budgy.backend.enums.ExportFormat;
+import com.budgy.backend.enums.ImportFormat;
+import com.budgy.backend.exceptions.BadRequestException;
+import com.budgy.backend.ledger.LedgerWriter;
+import com.budgy.backend.services.TransactionExportService;
+import com.budgy.backend.services.TransactionImportService;
 import com.budgy.backend.services.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/users/{userId}/transactions")
@@ -19,55 +33,141 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionImportService transactionImportService;
+    private final LedgerWriter ledgerWriter;
 
     @GetMapping
-    public ResponseEntity<List<TransactionResponseDTO>> getAllTransactionsByUser(@PathVariable Long userId) {
-        List<TransactionResponseDTO> transactions = transactionService.getAllTransactionsByUser(userId);
+    public ResponseEntity<CursorPageResponseDTO<TransactionResponseDTO>> getAllTransactionsByUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageResponseDTO<TransactionResponseDTO> transactions = transactionService.getAllTransactionsByUser(userId, cursor, limit);
         return ResponseEntity.ok(transactions);
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<TransactionResponseDTO>> getTransactionsByType(
+    public ResponseEntity<CursorPageResponseDTO<TransactionResponseDTO>> getTransactionsByType(
+            @PathVariable Long userId,
+            @PathVariable String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageResponseDTO<TransactionResponseDTO> transactions = transactionService.getTransactionsByUserAndType(userId, type, cursor, limit);
+        return ResponseEntity.ok(transactions);
+    }
+
+    @GetMapping("/budget/{budgetId}")
+    public ResponseEntity<CursorPageResponseDTO<TransactionResponseDTO>> getTransactionsByBudget(
             @PathVariable Long userId,
-            @PathVariable String type) {
-        List<TransactionResponseDTO> transactions = transactionService.getTransactionsByUserAndType(userId, type);
+            @PathVariable Long budgetId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageResponseDTO<TransactionResponseDTO> transactions = transactionService.getTransactionsByBudget(userId, budgetId, cursor, limit);
+        return ResponseEntity.ok(transactions);
+    }
+
+    @GetMapping("/saving-pot/{savingPotId}")
+    public ResponseEntity<CursorPageResponseDTO<TransactionResponseDTO>> getTransactionsBySavingPot(
+            @PathVariable Long userId,
+            @PathVariable Long savingPotId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageResponseDTO<TransactionResponseDTO> transactions = transactionService.getTransactionsBySavingPot(userId, savingPotId, cursor, limit);
         return ResponseEntity.ok(transactions);
     }
 
     @GetMapping("/date-range")
-    public ResponseEntity<List<TransactionResponseDTO>> getTransactionsByDateRange(
+    public ResponseEntity<CursorPageResponseDTO<TransactionResponseDTO>> getTransactionsByDateRange(
             @PathVariable Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<TransactionResponseDTO> transactions = transactionService.getTransactionsByDateRange(userId, startDate, endDate);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageResponseDTO<TransactionResponseDTO> transactions =
+                transactionService.getTransactionsByDateRange(userId, startDate, endDate, cursor, limit);
         return ResponseEntity.ok(transactions);
     }
 
+    /**
+     * Export the full ledger
+     * <p>
+     * GET /api/v1/users/{userId}/transactions/export?format=csv|ndjson
+     * Rows are streamed to the client as they are read, newest first.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+
+        StreamingResponseBody body = transactionExportService.exportTransactions(userId, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * Import a bank statement
+     * <p>
+     * POST /api/v1/users/{userId}/transactions/import?format=csv|ofx (multipart, field "file")
+     * Valid rows are imported in batches; the response lists every skipped row with the reason.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportReportDTO> importTransactions(
+            @PathVariable Long userId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "csv") String format) throws IOException {
+        ImportFormat importFormat;
+        try {
+            importFormat = ImportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported import format: " + format);
+        }
+
+        try (InputStream input = file.getInputStream()) {
+            ImportReportDTO report = transactionImportService.importTransactions(userId, importFormat, input);
+            return ResponseEntity.ok(report);
+        }
+    }
+
     @GetMapping("/{transactionId}")
     public ResponseEntity<TransactionResponseDTO> getTransactionById(@PathVariable Long transactionId) {
         TransactionResponseDTO transaction = transactionService.getTransactionById(transactionId);
         return ResponseEntity.ok(transaction);
     }
 
+    // ==================== LEDGER WRITES ====================
+    // Writes go through the user's ledger lane and the response is sent once their batch commits
+
     @PostMapping
-    public ResponseEntity<TransactionResponseDTO> createTransaction(
+    public CompletableFuture<ResponseEntity<TransactionResponseDTO>> createTransaction(
             @PathVariable Long userId,
             @Valid @RequestBody TransactionDTO transactionDTO) {
-        TransactionResponseDTO transaction = transactionService.createTransaction(userId, transactionDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(transaction);
+        return ledgerWriter.submit(userId, () -> transactionService.createTransaction(userId, transactionDTO))
+                .thenApply(transaction -> ResponseEntity.status(HttpStatus.CREATED).body(transaction));
     }
 
     @PutMapping("/{transactionId}")
-    public ResponseEntity<TransactionResponseDTO> updateTransaction(
+    public CompletableFuture<ResponseEntity<TransactionResponseDTO>> updateTransaction(
+            @PathVariable Long userId,
             @PathVariable Long transactionId,
             @Valid @RequestBody TransactionDTO transactionDTO) {
-        TransactionResponseDTO transaction = transactionService.updateTransaction(transactionId, transactionDTO);
-        return ResponseEntity.ok(transaction);
+        return ledgerWriter.submit(userId, () -> transactionService.updateTransaction(transactionId, transactionDTO))
+                .thenApply(ResponseEntity::ok);
     }
 
     @DeleteMapping("/{transactionId}")
-    public ResponseEntity<Void> deleteTransaction(@PathVariable Long transactionId) {
-        transactionService.deleteTransaction(transactionId);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteTransaction(
+            @PathVariable Long userId,
+            @PathVariable Long transactionId) {
+        return ledgerWriter.submit(userId, () -> transactionService.deleteTransaction(transactionId))
+                .thenApply(ignored -> ResponseEntity.noContent().build());
     }
-}
\ No newline at end of file
+}
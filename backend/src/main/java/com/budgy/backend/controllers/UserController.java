@@ -2,11 +2,13 @@ package com.budgy.backend.controllers;
 
 import com.budgy.backend.dto.UserDTO;
 import com.budgy.backend.dto.response.UserResponseDTO;
+import com.budgy.backend.security.VerifiedToken;
 import com.budgy.backend.services.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -45,8 +47,13 @@ public class UserController {
     @PutMapping("/{id}")
     public ResponseEntity<UserResponseDTO> updateUser(
             @PathVariable Long id,
-            @Valid @RequestBody UserDTO userDTO) {
-        UserResponseDTO user = userService.updateUser(id, userDTO);
+            @Valid @RequestBody UserDTO userDTO,
+            Authentication authentication) {
+        // The request's token survives a password change made with it
+        String callerTokenId = authentication != null && authentication.getCredentials() instanceof VerifiedToken token
+                ? token.tokenId()
+                : null;
+        UserResponseDTO user = userService.updateUser(id, userDTO, callerTokenId);
         return ResponseEntity.ok(user);
     }
 
@@ -2,12 +2,14 @@ package com.budgy.backend.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Data
 @Builder
@@ -21,4 +23,13 @@ public class BudgetDTO {
     private BigDecimal limitAmount;
 
     private String color;
+
+    // weekly, monthly (default) or custom
+    private String period;
+
+    // Custom periods only: periods of periodDays days, repeating from periodAnchor
+    private LocalDate periodAnchor;
+
+    @Positive(message = "Period days must be positive")
+    private Integer periodDays;
 }
\ No newline at end of file
@@ -28,4 +28,8 @@ public class RecurringBillDTO {
     private String category;
 
     private String status; // PAID, PENDING, OVERDUE
+
+    private String recurrence; // WEEKLY, MONTHLY (default), QUARTERLY, YEARLY
+
+    private Boolean autoPay; // Post as a transaction when due, defaults to false
 }
\ No newline at end of file
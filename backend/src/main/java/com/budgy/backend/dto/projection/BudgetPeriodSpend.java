@@ -0,0 +1,25 @@
+package com.budgy.backend.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Spend and transaction count of a budget in the period starting on periodStart
+ * budget_period_totals stores exact sums; a total that drifted below zero reads as zero, as Budget.spent does.
+ */
+public record BudgetPeriodSpend(
+        Long budgetId,
+        LocalDate periodStart,
+        BigDecimal spent,
+        Integer transactionCount
+) {
+
+    public BudgetPeriodSpend {
+        if (spent != null && spent.signum() < 0) {
+            spent = BigDecimal.ZERO;
+        }
+        if (transactionCount != null && transactionCount < 0) {
+            transactionCount = 0;
+        }
+    }
+}
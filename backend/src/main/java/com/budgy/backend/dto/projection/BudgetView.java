@@ -0,0 +1,25 @@
+package com.budgy.backend.dto.projection;
+
+import com.budgy.backend.enums.BudgetPeriod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a budget row
+ */
+public record BudgetView(
+        Long id,
+        String category,
+        BigDecimal spent,
+        BigDecimal limitAmount,
+        Integer transactionCount,
+        String color,
+        BudgetPeriod period,
+        LocalDate periodAnchor,
+        Integer periodDays,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.budgy.backend.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Absolute sum and count of one category's transactions in a period and in the period before it
+ */
+public record CategoryTotal(
+        String category,
+        BigDecimal currentAmount,
+        BigDecimal previousAmount,
+        Long currentCount,
+        Long previousCount
+) {
+}
@@ -0,0 +1,19 @@
+package com.budgy.backend.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * End-of-day balance on a day with transactions, plus the balance before the range started
+ * <p>
+ * An interface projection because it is read by a native (window function) query.
+ * day is null on the first row, whose end balance is the opening balance.
+ */
+public interface DailyBalance {
+
+    LocalDate getDay();
+
+    BigDecimal getEndBalance();
+
+    BigDecimal getOpeningBalance();
+}
@@ -0,0 +1,16 @@
+package com.budgy.backend.dto.projection;
+
+import com.budgy.backend.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Sum of a user's transactions of one type on one day, with the sign the type is reported with
+ */
+public record DailyTotal(
+        LocalDate day,
+        TransactionType type,
+        BigDecimal amount
+) {
+}
@@ -0,0 +1,23 @@
+package com.budgy.backend.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Everything the dashboard needs, read in one query
+ * Sums are monthly rollup amounts per type for the current and previous month
+ * (normalized by type: EXPENSE negative, the others positive).
+ */
+public record DashboardTotals(
+        BigDecimal currentBalance,
+        BigDecimal currentIncome,
+        BigDecimal currentExpenses,
+        BigDecimal currentSavings,
+        BigDecimal currentWithdrawals,
+        BigDecimal previousIncome,
+        BigDecimal previousExpenses,
+        BigDecimal previousSavings,
+        BigDecimal previousWithdrawals,
+        Long currentCount,
+        Long previousCount
+) {
+}
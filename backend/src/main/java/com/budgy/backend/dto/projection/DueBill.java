@@ -0,0 +1,13 @@
+package com.budgy.backend.dto.projection;
+
+import java.time.LocalDate;
+
+/**
+ * A recurring bill whose due date has come, with the keyset position it was read at
+ */
+public record DueBill(
+        Long id,
+        Long userId,
+        LocalDate dueDate
+) {
+}
@@ -0,0 +1,16 @@
+package com.budgy.backend.dto.projection;
+
+import com.budgy.backend.enums.LedgerAccountType;
+
+import java.math.BigDecimal;
+
+/**
+ * Total of one ledger account (a snapshot row or a replayed sum), or one journal row's deltas
+ */
+public record LedgerAccountTotal(
+        LedgerAccountType accountType,
+        Long accountId,
+        BigDecimal amount,
+        Long count
+) {
+}
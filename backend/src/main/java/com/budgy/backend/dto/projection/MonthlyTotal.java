@@ -0,0 +1,20 @@
+package com.budgy.backend.dto.projection;
+
+import com.budgy.backend.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * Sum and count of a user's transactions of one type and category in one month
+ * Read either from monthly_rollups or recomputed from transactions, to compare the two.
+ */
+public record MonthlyTotal(
+        Long userId,
+        Integer year,
+        Integer month,
+        TransactionType type,
+        String category,
+        BigDecimal amount,
+        Long count
+) {
+}
@@ -0,0 +1,25 @@
+package com.budgy.backend.dto.projection;
+
+import com.budgy.backend.enums.BillRecurrence;
+import com.budgy.backend.enums.BillStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a recurring bill row
+ */
+public record RecurringBillView(
+        Long id,
+        String name,
+        BigDecimal amount,
+        LocalDate dueDate,
+        BillStatus status,
+        String category,
+        BillRecurrence recurrence,
+        boolean autoPay,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
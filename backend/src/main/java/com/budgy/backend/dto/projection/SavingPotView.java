@@ -0,0 +1,20 @@
+package com.budgy.backend.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a saving pot row
+ */
+public record SavingPotView(
+        Long id,
+        String name,
+        BigDecimal saved,
+        BigDecimal goal,
+        Integer transactionCount,
+        String icon,
+        String color,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
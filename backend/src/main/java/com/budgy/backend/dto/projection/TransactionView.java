@@ -0,0 +1,29 @@
+package com.budgy.backend.dto.projection;
+
+import com.budgy.backend.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a transaction row
+ * <p>
+ * Selected with a JPQL constructor expression so reads skip entity hydration.
+ * budgetId and savingPotId come straight from the foreign key columns.
+ */
+public record TransactionView(
+        Long id,
+        String name,
+        LocalDate transactionDate,
+        BigDecimal amount,
+        String category,
+        TransactionType type,
+        String icon,
+        String color,
+        Long budgetId,
+        Long savingPotId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,26 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * End-of-day balance for every day of a range
+ * <p>
+ * openingBalance is the balance before the first day's transactions.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceHistoryDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private BigDecimal openingBalance;
+    private List<BalancePointDTO> points;
+}
@@ -0,0 +1,18 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalancePointDTO {
+    private LocalDate date;
+    private BigDecimal balance;    // Balance at the end of the day
+}
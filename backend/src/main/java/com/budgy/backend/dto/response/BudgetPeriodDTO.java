@@ -0,0 +1,21 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetPeriodDTO {
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private BigDecimal spent;
+    private Integer transactionCount;
+    private Double utilizationPercent;
+}
@@ -6,7 +6,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -19,6 +21,20 @@ public class BudgetResponseDTO {
     private BigDecimal limitAmount;
     private Integer transactionCount;
     private String color;
+
+    /**
+     * Period Statistics
+     */
+    private String period;
+    private LocalDate periodAnchor;
+    private Integer periodDays;
+    private LocalDate periodStart;         // First day of the current period
+    private LocalDate periodEnd;           // Last day of the current period
+    private BigDecimal periodSpent;        // Spent in the current period
+    private Integer periodTransactionCount;
+    private Double utilizationPercent;     // periodSpent as a percentage of limitAmount
+    private List<BudgetPeriodDTO> history; // Previous periods, most recent first
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
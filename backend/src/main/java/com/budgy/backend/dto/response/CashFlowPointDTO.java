@@ -0,0 +1,22 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashFlowPointDTO {
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private BigDecimal income;
+    private BigDecimal expenses;   // Negative, as stored
+    private BigDecimal savings;    // Saved minus withdrawn
+    private BigDecimal net;        // Change to the balance
+}
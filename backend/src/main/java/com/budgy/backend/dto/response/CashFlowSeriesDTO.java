@@ -0,0 +1,25 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Cash flow of a date range, one point per day, week or month
+ * <p>
+ * The first and last points are cut to the range, so they may cover a partial week or month.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashFlowSeriesDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private String granularity;
+    private List<CashFlowPointDTO> points;
+}
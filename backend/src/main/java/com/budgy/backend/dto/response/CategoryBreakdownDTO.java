@@ -0,0 +1,31 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Spend per category for a period, compared with the previous equivalent period
+ * <p>
+ * categories holds every category with spend in either period, highest spend first;
+ * topCategories is the first N of them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryBreakdownDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private LocalDate previousFrom;
+    private LocalDate previousTo;
+    private BigDecimal totalSpent;
+    private BigDecimal previousTotalSpent;
+    private List<CategorySpendDTO> topCategories;
+    private List<CategorySpendDTO> categories;
+}
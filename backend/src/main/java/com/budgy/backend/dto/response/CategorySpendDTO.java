@@ -0,0 +1,22 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorySpendDTO {
+    private String category;
+    private BigDecimal spent;              // Positive amount spent in the period
+    private int transactionCount;
+    private Double sharePercent;           // Share of the period's total spend
+    private BigDecimal previousSpent;      // Spent in the previous equivalent period
+    private BigDecimal change;             // Change since the previous period
+    private Double changePercent;          // Percentage change
+}
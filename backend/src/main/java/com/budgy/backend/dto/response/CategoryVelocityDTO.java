@@ -0,0 +1,18 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryVelocityDTO {
+    private String category;
+    private BigDecimal dailySpend;     // Positive average spend per day, bills excluded
+    private BigDecimal monthlySpend;   // dailySpend over an average month
+}
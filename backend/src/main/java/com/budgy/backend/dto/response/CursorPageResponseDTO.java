@@ -0,0 +1,24 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing
+ * <p>
+ * Pass nextCursor back as the "cursor" request parameter to fetch the following page.
+ * nextCursor is null when there are no more rows.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
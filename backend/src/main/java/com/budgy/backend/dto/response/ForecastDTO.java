@@ -0,0 +1,26 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Balance forecast: every remaining day of the current month, then one point per month
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForecastDTO {
+    private LocalDate asOf;
+    private BigDecimal currentBalance;
+    private BigDecimal endOfMonthBalance;
+    private List<ForecastPointDTO> days;
+    private List<ForecastMonthDTO> months;
+    private List<CategoryVelocityDTO> categoryVelocities;
+}
@@ -0,0 +1,21 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForecastMonthDTO {
+    private String month;          // Format: "YYYY-MM"
+    private BigDecimal income;
+    private BigDecimal spending;   // Spend beyond bills, negative
+    private BigDecimal savings;    // Change to the balance from saving pot transfers
+    private BigDecimal bills;      // Negative
+    private BigDecimal endBalance;
+}
@@ -0,0 +1,19 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForecastPointDTO {
+    private LocalDate date;
+    private BigDecimal balance;    // Expected end-of-day balance
+    private BigDecimal bills;      // Bills due that day, negative
+}
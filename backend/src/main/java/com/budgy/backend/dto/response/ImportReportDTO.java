@@ -0,0 +1,24 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bank statement import
+ * <p>
+ * Rows listed in errors were skipped; every other row was imported.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportDTO {
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private List<ImportRowErrorDTO> errors;
+}
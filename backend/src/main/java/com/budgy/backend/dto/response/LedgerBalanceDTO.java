@@ -0,0 +1,26 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Ledger counters of a user as of one ledger version, computed from snapshot plus journal
+ * <p>
+ * budgets hold spent per budget, savingPots hold saved per pot.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerBalanceDTO {
+    private Long userId;
+    private Long version;
+    private BigDecimal balance;
+    private List<LedgerAccountDTO> budgets;
+    private List<LedgerAccountDTO> savingPots;
+}
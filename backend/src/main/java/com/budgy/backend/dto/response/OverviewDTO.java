@@ -0,0 +1,28 @@
+package com.budgy.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the Overview page shows, in one response
+ * <p>
+ * A section that failed or ran out of time is null and listed in failedSections
+ * with the reason, so the page can still render the others.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverviewDTO {
+    private DashboardStatsDTO stats;
+    private List<BudgetResponseDTO> budgets;
+    private List<SavingPotResponseDTO> savingPots;
+    private List<RecurringBillResponseDTO> upcomingBills;
+    private List<TransactionResponseDTO> recentTransactions;
+    private Map<String, String> failedSections;
+}
@@ -20,6 +20,8 @@ public class RecurringBillResponseDTO {
     private LocalDate dueDate;
     private String status;
     private String category;
+    private String recurrence;
+    private boolean autoPay;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
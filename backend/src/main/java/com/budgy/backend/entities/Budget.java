@@ -1,5 +1,6 @@
 package com.budgy.backend.entities;
 
+import com.budgy.backend.enums.BudgetPeriod;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -11,6 +12,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,26 +26,40 @@ import java.util.List;
 public class Budget {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "budgets_seq")
+    @SequenceGenerator(name = "budgets_seq", sequenceName = "budgets_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
     @Column(nullable = false)
     private String category;
 
+    // spent and transactionCount are inserted as zero and then changed only by the ledger's
+    // delta updates (BudgetRepository.applySpentDelta), never written back from the entity
     @NotNull
-    @Column(nullable = false, precision = 10, scale = 2)
+    @Column(nullable = false, updatable = false, precision = 10, scale = 2)
     private BigDecimal spent = BigDecimal.ZERO;
 
     @NotNull
     @Column(name = "limit_amount", nullable = false, precision = 10, scale = 2)
     private BigDecimal limitAmount;
 
-    @Column(name = "transaction_count", nullable = false)
+    @Column(name = "transaction_count", nullable = false, updatable = false)
     private Integer transactionCount = 0;
 
     private String color;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BudgetPeriod period = BudgetPeriod.MONTHLY;
+
+    // Only used by CUSTOM periods
+    @Column(name = "period_anchor")
+    private LocalDate periodAnchor;
+
+    @Column(name = "period_days")
+    private Integer periodDays;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,29 @@
+package com.budgy.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Spend and transaction count of a budget in one period
+ * Rows are only changed through BudgetPeriodTotalRepository, never saved as entities.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "budget_period_totals")
+public class BudgetPeriodTotal {
+
+    @EmbeddedId
+    private BudgetPeriodTotalId id;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal spent;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Integer transactionCount;
+}
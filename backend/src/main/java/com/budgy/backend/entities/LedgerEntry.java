@@ -0,0 +1,61 @@
+package com.budgy.backend.entities;
+
+import com.budgy.backend.enums.LedgerAccountType;
+import com.budgy.backend.enums.LedgerEventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the append-only ledger journal: the signed change a ledger event made to one account
+ * Rows are never updated, so there are no setters.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "ledger_journal")
+public class LedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_journal_seq")
+    @SequenceGenerator(name = "ledger_journal_seq", sequenceName = "ledger_journal_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(nullable = false, updatable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, updatable = false, length = 20)
+    private LedgerEventType eventType;
+
+    @Column(name = "transaction_id", updatable = false)
+    private Long transactionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, updatable = false, length = 20)
+    private LedgerAccountType accountType;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+
+    @Column(name = "amount_delta", nullable = false, updatable = false, precision = 10, scale = 2)
+    private BigDecimal amountDelta;
+
+    @Column(name = "count_delta", nullable = false, updatable = false)
+    private Integer countDelta;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
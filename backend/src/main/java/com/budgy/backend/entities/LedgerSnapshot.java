@@ -0,0 +1,52 @@
+package com.budgy.backend.entities;
+
+import com.budgy.backend.enums.LedgerAccountType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Value of one ledger account after all of a user's journal rows up to a version
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "ledger_snapshots")
+public class LedgerSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_snapshots_seq")
+    @SequenceGenerator(name = "ledger_snapshots_seq", sequenceName = "ledger_snapshots_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(nullable = false, updatable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, updatable = false, length = 20)
+    private LedgerAccountType accountType;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+
+    @Column(nullable = false, updatable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "item_count", nullable = false, updatable = false)
+    private Integer itemCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package com.budgy.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Sum and count of a user's transactions of one type and category in one month
+ * Rows are only changed through MonthlyRollupRepository.addDelta, never saved as entities.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "monthly_rollups")
+public class MonthlyRollup {
+
+    @EmbeddedId
+    private MonthlyRollupId id;
+
+    @Column(name = "total_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Integer transactionCount;
+}
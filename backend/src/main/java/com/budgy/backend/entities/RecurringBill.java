@@ -1,5 +1,6 @@
 package com.budgy.backend.entities;
 
+import com.budgy.backend.enums.BillRecurrence;
 import com.budgy.backend.enums.BillStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -24,7 +25,8 @@ import java.time.LocalDateTime;
 public class RecurringBill {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurring_bills_seq")
+    @SequenceGenerator(name = "recurring_bills_seq", sequenceName = "recurring_bills_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -44,6 +46,15 @@ public class RecurringBill {
     @Column(nullable = false, length = 20)
     private BillStatus status = BillStatus.PENDING;
 
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BillRecurrence recurrence = BillRecurrence.MONTHLY;
+
+    // Posted as an EXPENSE transaction when due (see RecurringBillMaterializer); opt-in
+    @Column(name = "auto_pay", nullable = false)
+    private boolean autoPay = false;
+
     @NotBlank
     @Column(nullable = false)
     private String category;
@@ -24,22 +24,25 @@ import java.util.List;
 public class SavingPot {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saving_pots_seq")
+    @SequenceGenerator(name = "saving_pots_seq", sequenceName = "saving_pots_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
     @Column(nullable = false)
     private String name;
 
+    // saved and transactionCount are inserted as zero and then changed only by the ledger's
+    // delta updates (SavingPotRepository.applySavedDelta), never written back from the entity
     @NotNull
-    @Column(nullable = false, precision = 10, scale = 2)
+    @Column(nullable = false, updatable = false, precision = 10, scale = 2)
     private BigDecimal saved = BigDecimal.ZERO;
 
     @NotNull
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal goal;
 
-    @Column(name = "transaction_count", nullable = false)
+    @Column(name = "transaction_count", nullable = false, updatable = false)
     private Integer transactionCount = 0;
 
     private String icon;
@@ -0,0 +1,34 @@
+package com.budgy.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A revoked token, or all tokens of a user issued up to issuedBefore (see TokenRevocations)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "token_revocations")
+public class TokenRevocation {
+
+    // "t:<token id>" or "u:<user id>"
+    @Id
+    @Column(name = "revocation_key", length = 64)
+    private String revocationKey;
+
+    @Column(name = "issued_before")
+    private Instant issuedBefore;
+
+    // Token of the user that stays valid, e.g. the one that changed the password
+    @Column(name = "exempt_token_id", length = 64)
+    private String exemptTokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
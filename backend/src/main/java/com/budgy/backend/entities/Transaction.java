@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -64,6 +65,14 @@ public class Transaction {
     @JoinColumn(name = "saving_pot_id")
     private SavingPot savingPot;
 
+    // Set on transactions posted for a recurring bill: the bill and the cycle (due date) paid
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recurring_bill_id")
+    private RecurringBill recurringBill;
+
+    @Column(name = "bill_due_date")
+    private LocalDate billDueDate;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -24,7 +24,8 @@ import java.util.List;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -43,9 +44,14 @@ public class User {
     @Column(length = 10)
     private String initials;
 
-    @Column(name = "current_balance", precision = 10, scale = 2)
+    // Inserted as zero, then changed by UserRepository.addToBalance only
+    @Column(name = "current_balance", updatable = false, precision = 10, scale = 2)
     private BigDecimal currentBalance = BigDecimal.ZERO;
 
+    // Bumped by UserRepository.addToBalance only, never written from the entity
+    @Column(name = "ledger_version", insertable = false, updatable = false)
+    private Long ledgerVersion;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,11 @@
+package com.budgy.backend.enums;
+
+/**
+ * Where JwtAuthenticationFilter gets the principal of a request (jwt.auth-mode)
+ */
+public enum AuthMode {
+    // The user row, through PrincipalCache
+    DATABASE,
+    // The verified token's claims alone; revoked tokens are rejected by TokenRevocations
+    CLAIMS
+}
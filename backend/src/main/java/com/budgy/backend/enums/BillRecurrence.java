@@ -0,0 +1,47 @@
+package com.budgy.backend.enums;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * How often a recurring bill is due
+ * Cycle n is due n cycles after the bill's due date, counted in whole units from that date.
+ */
+public enum BillRecurrence {
+    WEEKLY(ChronoUnit.WEEKS, 1, new BigDecimal("7")),
+    MONTHLY(ChronoUnit.MONTHS, 1, new BigDecimal("30.436875")),
+    QUARTERLY(ChronoUnit.MONTHS, 3, new BigDecimal("91.310625")),
+    YEARLY(ChronoUnit.YEARS, 1, new BigDecimal("365.2425"));
+
+    private final ChronoUnit unit;
+    private final int step;
+    private final BigDecimal averageDays;
+
+    BillRecurrence(ChronoUnit unit, int step, BigDecimal averageDays) {
+        this.unit = unit;
+        this.step = step;
+        this.averageDays = averageDays;
+    }
+
+    /**
+     * Due date of the cycle that comes the given number of cycles after dueDate
+     */
+    public LocalDate plusCycles(LocalDate dueDate, long cycles) {
+        return dueDate.plus(cycles * step, unit);
+    }
+
+    /**
+     * Number of whole cycles from dueDate to day (0 if day is before dueDate)
+     */
+    public long cyclesBetween(LocalDate dueDate, LocalDate day) {
+        return Math.max(0, unit.between(dueDate, day) / step);
+    }
+
+    /**
+     * Average length of a cycle in days, in the Gregorian calendar
+     */
+    public BigDecimal averageDays() {
+        return averageDays;
+    }
+}
@@ -0,0 +1,53 @@
+package com.budgy.backend.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Window a budget's spend is counted over
+ * CUSTOM periods are periodDays long and repeat from periodAnchor, in both directions.
+ */
+public enum BudgetPeriod {
+    WEEKLY,
+    MONTHLY,
+    CUSTOM;
+
+    /**
+     * First day of the period containing the given day
+     * Same rule as BudgetPeriodTotalRepository.PERIOD_START.
+     */
+    public LocalDate startOf(LocalDate day, LocalDate periodAnchor, Integer periodDays) {
+        return switch (this) {
+            case WEEKLY -> day.with(DayOfWeek.MONDAY);
+            case MONTHLY -> day.withDayOfMonth(1);
+            case CUSTOM -> day.minusDays(Math.floorMod(ChronoUnit.DAYS.between(periodAnchor, day), periodDays));
+        };
+    }
+
+    /**
+     * First day of the period after the one starting on start
+     */
+    public LocalDate nextStart(LocalDate start, Integer periodDays) {
+        return switch (this) {
+            case WEEKLY -> start.plusWeeks(1);
+            case MONTHLY -> start.plusMonths(1);
+            case CUSTOM -> start.plusDays(periodDays);
+        };
+    }
+
+    /**
+     * Start of the period containing today followed by the starts of the count - 1 periods before it
+     */
+    public List<LocalDate> recentStarts(LocalDate today, LocalDate periodAnchor, Integer periodDays, int count) {
+        List<LocalDate> starts = new ArrayList<>(count);
+        LocalDate start = startOf(today, periodAnchor, periodDays);
+        for (int i = 0; i < count; i++) {
+            starts.add(start);
+            start = startOf(start.minusDays(1), periodAnchor, periodDays);
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,23 @@
+package com.budgy.backend.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum CashFlowGranularity {
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * Last day of the bucket containing the given day
+     * Weeks run Monday to Sunday.
+     */
+    public LocalDate bucketEnd(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH -> day.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+}
@@ -0,0 +1,6 @@
+package com.budgy.backend.enums;
+
+public enum ImportFormat {
+    CSV,
+    OFX
+}
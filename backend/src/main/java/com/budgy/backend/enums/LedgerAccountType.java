@@ -0,0 +1,12 @@
+package com.budgy.backend.enums;
+
+/**
+ * Counter a ledger journal row applies to
+ * BALANCE is users.current_balance (account id = user id), BUDGET is budgets.spent
+ * and SAVING_POT is saving_pots.saved, each with its transaction_count.
+ */
+public enum LedgerAccountType {
+    BALANCE,
+    BUDGET,
+    SAVING_POT
+}
@@ -0,0 +1,8 @@
+package com.budgy.backend.enums;
+
+public enum LedgerEventType {
+    OPENING,
+    CREATE,
+    UPDATE,
+    DELETE
+}
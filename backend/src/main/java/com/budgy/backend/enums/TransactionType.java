@@ -1,8 +1,57 @@
 package com.budgy.backend.enums;
 
+import java.math.BigDecimal;
+
 public enum TransactionType {
     INCOME,
     EXPENSE,
     SAVING,
-    WITHDRAW
-}
\ No newline at end of file
+    WITHDRAW;
+
+    /**
+     * Signed effect of a transaction of this type on the user's balance
+     * INCOME and WITHDRAW add money, EXPENSE and SAVING take it away.
+     * The sign of the stored amount is ignored, as in User.addToBalance/subtractFromBalance.
+     */
+    public BigDecimal balanceDelta(BigDecimal amount) {
+        if (amount == null) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal absoluteAmount = amount.abs();
+        return (this == INCOME || this == WITHDRAW) ? absoluteAmount : absoluteAmount.negate();
+    }
+
+    /**
+     * Amount with the sign this type is reported with: EXPENSE negative, every other type positive
+     * Not every write path normalizes the stored amount (imports keep the statement's sign), so
+     * aggregates such as the monthly rollups normalize it themselves.
+     */
+    public BigDecimal signedAmount(BigDecimal amount) {
+        if (amount == null) {
+            return BigDecimal.ZERO;
+        }
+        return this == EXPENSE ? amount.abs().negate() : amount.abs();
+    }
+
+    /**
+     * Signed effect on the spent amount of the linked budget (only EXPENSE counts)
+     */
+    public BigDecimal spentDelta(BigDecimal amount) {
+        return this == EXPENSE && amount != null ? amount.abs() : BigDecimal.ZERO;
+    }
+
+    /**
+     * Signed effect on the saved amount of the linked saving pot
+     * SAVING moves money into the pot, WITHDRAW takes it out.
+     */
+    public BigDecimal savedDelta(BigDecimal amount) {
+        if (amount == null) {
+            return BigDecimal.ZERO;
+        }
+        return switch (this) {
+            case SAVING -> amount.abs();
+            case WITHDRAW -> amount.abs().negate();
+            default -> BigDecimal.ZERO;
+        };
+    }
+}
@@ -0,0 +1,199 @@
+package com.budgy.backend.forecast;
+
+import com.budgy.backend.dto.projection.MonthlyTotal;
+import com.budgy.backend.dto.projection.RecurringBillView;
+import com.budgy.backend.enums.BillRecurrence;
+import com.budgy.backend.enums.BillStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Forecast Model
+ * <p>
+ * What a user's balance forecast is computed from: the current balance, the average daily
+ * income, savings transfers and spend per category over the recent months, and the recurring
+ * bills. Bills repeat from their due date by their recurrence; spend already covered by bills
+ * is taken out of the category averages so it is not counted twice.
+ * <p>
+ * Projecting a day is arithmetic on these few values, without reading history. Immutable
+ * once built, so one instance can serve concurrent readers from the cache.
+ */
+public final class ForecastModel {
+
+    // Average length of a month in the Gregorian calendar
+    public static final BigDecimal DAYS_PER_MONTH = new BigDecimal("30.436875");
+
+    private static final int RATE_SCALE = 6;
+
+    private final LocalDate builtOn;
+    private final BigDecimal balance;
+    private final BigDecimal dailyIncome;
+    private final BigDecimal dailySavings;
+    private final List<CategoryVelocity> velocities;
+    private final BigDecimal dailySpending;
+    private final List<ScheduledBill> bills;
+
+    private ForecastModel(LocalDate builtOn, BigDecimal balance, BigDecimal dailyIncome, BigDecimal dailySavings,
+                          List<CategoryVelocity> velocities, List<ScheduledBill> bills) {
+        this.builtOn = builtOn;
+        this.balance = balance;
+        this.dailyIncome = dailyIncome;
+        this.dailySavings = dailySavings;
+        this.velocities = velocities;
+        this.dailySpending = velocities.stream()
+                .map(CategoryVelocity::dailyAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        this.bills = bills;
+    }
+
+    /**
+     * @param today   day the model is built on; the forecast starts the day after
+     * @param history monthly rollup totals from historyStart through the current month
+     * @param bills   all of the user's recurring bills
+     */
+    public static ForecastModel build(LocalDate today, BigDecimal balance, LocalDate historyStart,
+                                      List<MonthlyTotal> history, List<RecurringBillView> bills) {
+        // Averages cover the days since the first month with history, today included
+        LocalDate firstMonth = history.stream()
+                .map(total -> LocalDate.of(total.year(), total.month(), 1))
+                .min(Comparator.naturalOrder())
+                .orElse(today.withDayOfMonth(1));
+        long days = ChronoUnit.DAYS.between(firstMonth.isAfter(historyStart) ? firstMonth : historyStart, today) + 1;
+        BigDecimal historyDays = BigDecimal.valueOf(Math.max(days, 1));
+
+        BigDecimal income = BigDecimal.ZERO;
+        BigDecimal savings = BigDecimal.ZERO;
+        Map<String, BigDecimal> spendByCategory = new HashMap<>();
+        for (MonthlyTotal total : history) {
+            BigDecimal delta = total.type().balanceDelta(total.amount());
+            switch (total.type()) {
+                case INCOME -> income = income.add(delta);
+                case EXPENSE -> spendByCategory.merge(total.category(), delta, BigDecimal::add);
+                default -> savings = savings.add(delta);
+            }
+        }
+
+        // Remove the bills' daily share from the history of their category
+        Map<String, BigDecimal> billsByCategory = new HashMap<>();
+        for (RecurringBillView bill : bills) {
+            billsByCategory.merge(bill.category(),
+                    bill.amount().abs().divide(bill.recurrence().averageDays(), RATE_SCALE, RoundingMode.HALF_UP),
+                    BigDecimal::add);
+        }
+        List<CategoryVelocity> velocities = spendByCategory.entrySet().stream()
+                .map(entry -> {
+                    BigDecimal covered = billsByCategory.getOrDefault(entry.getKey(), BigDecimal.ZERO);
+                    BigDecimal daily = entry.getValue().divide(historyDays, RATE_SCALE, RoundingMode.HALF_UP)
+                            .add(covered);
+                    return new CategoryVelocity(entry.getKey(), daily.min(BigDecimal.ZERO));
+                })
+                .filter(velocity -> velocity.dailyAmount().signum() != 0)
+                .sorted(Comparator.comparing(CategoryVelocity::dailyAmount)
+                        .thenComparing(CategoryVelocity::category))
+                .toList();
+
+        List<ScheduledBill> scheduled = bills.stream()
+                .map(bill -> new ScheduledBill(bill.amount().abs().negate(), bill.dueDate(),
+                        bill.recurrence(), bill.status() == BillStatus.PAID))
+                .toList();
+
+        return new ForecastModel(today, balance,
+                income.divide(historyDays, RATE_SCALE, RoundingMode.HALF_UP),
+                savings.divide(historyDays, RATE_SCALE, RoundingMode.HALF_UP),
+                velocities, scheduled);
+    }
+
+    // ==================== PROJECTION ====================
+
+    /**
+     * Expected balance at the end of the given day (after builtOn)
+     */
+    public BigDecimal balanceAt(LocalDate day) {
+        long days = ChronoUnit.DAYS.between(builtOn, day);
+        return balance
+                .add(dailyNet().multiply(BigDecimal.valueOf(days)))
+                .add(billsBetween(builtOn.plusDays(1), day))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Total of the bill occurrences due from..to (inclusive), negative
+     * Unpaid bills already due are expected to be paid on the first day after builtOn.
+     */
+    public BigDecimal billsBetween(LocalDate from, LocalDate to) {
+        LocalDate firstDay = builtOn.plusDays(1);
+        BigDecimal total = BigDecimal.ZERO;
+        for (ScheduledBill bill : bills) {
+            if (!bill.paid() && !bill.dueDate().isAfter(builtOn)
+                    && !firstDay.isBefore(from) && !firstDay.isAfter(to)) {
+                total = total.add(bill.amount());
+            }
+            // Skip the cycles that ended before the forecast
+            long elapsed = bill.recurrence().cyclesBetween(bill.dueDate(), builtOn);
+            for (long cycle = Math.max(elapsed, bill.paid() ? 1 : 0); ; cycle++) {
+                LocalDate due = bill.recurrence().plusCycles(bill.dueDate(), cycle);
+                if (due.isAfter(to)) {
+                    break;
+                }
+                if (due.isAfter(builtOn) && !due.isBefore(from)) {
+                    total = total.add(bill.amount());
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Expected flows over a number of days, excluding bills
+     */
+    public BigDecimal income(long days) {
+        return scaled(dailyIncome, days);
+    }
+
+    public BigDecimal spending(long days) {
+        return scaled(dailySpending, days);
+    }
+
+    public BigDecimal savings(long days) {
+        return scaled(dailySavings, days);
+    }
+
+    public LocalDate builtOn() {
+        return builtOn;
+    }
+
+    public BigDecimal balance() {
+        return balance;
+    }
+
+    public List<CategoryVelocity> velocities() {
+        return velocities;
+    }
+
+    private BigDecimal dailyNet() {
+        return dailyIncome.add(dailySavings).add(dailySpending);
+    }
+
+    private static BigDecimal scaled(BigDecimal daily, long days) {
+        return daily.multiply(BigDecimal.valueOf(days)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Average daily spend of a category beyond its bills, negative
+     */
+    public record CategoryVelocity(String category, BigDecimal dailyAmount) {
+    }
+
+    /**
+     * A bill repeating from dueDate; a paid bill's first occurrence is already settled
+     */
+    private record ScheduledBill(BigDecimal amount, LocalDate dueDate, BillRecurrence recurrence, boolean paid) {
+    }
+}
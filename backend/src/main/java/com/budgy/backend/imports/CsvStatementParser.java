@@ -0,0 +1,164 @@
+package com.budgy.backend.imports;
+
+import com.budgy.backend.dto.TransactionDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * CSV statement parser
+ * <p>
+ * The first line is a header. Recognised columns (case-insensitive, any order):
+ * date, name, amount, category, type, icon, color, budgetId, savingPotId.
+ * When type is missing it is inferred from the sign of the amount (negative = EXPENSE).
+ * Quoted fields may contain commas and doubled quotes but not line breaks.
+ */
+public class CsvStatementParser implements StatementParser {
+
+    static final String DEFAULT_CATEGORY = "Uncategorized";
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    private String nextLine;
+    private int lineNumber;
+
+    public CsvStatementParser(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (columns == null) {
+            readHeader();
+        }
+        if (nextLine == null) {
+            nextLine = readDataLine();
+        }
+        return nextLine != null;
+    }
+
+    @Override
+    public StatementRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        return parseLine(lineNumber, line);
+    }
+
+    private void readHeader() {
+        columns = new HashMap<>();
+        String header = readLine();
+        if (header == null) {
+            return;
+        }
+        List<String> names = splitLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+    }
+
+    private String readDataLine() {
+        String line;
+        do {
+            line = readLine();
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private StatementRow parseLine(int row, String line) {
+        List<String> fields = splitLine(line);
+        try {
+            String amountText = field(fields, "amount");
+            BigDecimal amount = amountText == null ? null : new BigDecimal(amountText);
+
+            String dateText = field(fields, "date");
+            LocalDate date = dateText == null ? null : LocalDate.parse(dateText);
+
+            String type = field(fields, "type");
+            if (type == null && amount != null) {
+                type = amount.signum() < 0 ? "EXPENSE" : "INCOME";
+            }
+
+            String category = field(fields, "category");
+            String budgetId = field(fields, "budgetid");
+            String savingPotId = field(fields, "savingpotid");
+
+            TransactionDTO dto = TransactionDTO.builder()
+                    .name(field(fields, "name"))
+                    .transactionDate(date)
+                    .amount(amount)
+                    .category(category != null ? category : DEFAULT_CATEGORY)
+                    .type(type)
+                    .icon(field(fields, "icon"))
+                    .color(field(fields, "color"))
+                    .budgetId(budgetId != null ? Long.valueOf(budgetId) : null)
+                    .savingPotId(savingPotId != null ? Long.valueOf(savingPotId) : null)
+                    .build();
+            return StatementRow.parsed(row, dto);
+        } catch (RuntimeException e) {
+            return StatementRow.failed(row, "Unparseable value: " + e.getMessage());
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> splitLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
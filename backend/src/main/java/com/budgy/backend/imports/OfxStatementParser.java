@@ -0,0 +1,145 @@
+package com.budgy.backend.imports;
+
+import com.budgy.backend.dto.TransactionDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * OFX statement parser
+ * <p>
+ * Handles both SGML (OFX 1.x, unclosed leaf tags) and XML (OFX 2.x) statements.
+ * Each STMTTRN aggregate becomes one row: DTPOSTED, TRNAMT and NAME (or MEMO) are read,
+ * and the type is inferred from the sign of the amount (negative = EXPENSE).
+ * The document is tokenized tag by tag, so only the current transaction is kept in memory.
+ */
+public class OfxStatementParser implements StatementParser {
+
+    private static final String TRANSACTION_TAG = "STMTTRN";
+
+    private final BufferedReader reader;
+    private StatementRow nextRow;
+    private int transactionNumber;
+    private boolean exhausted;
+
+    public OfxStatementParser(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow == null && !exhausted) {
+            nextRow = readTransaction();
+        }
+        return nextRow != null;
+    }
+
+    @Override
+    public StatementRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        StatementRow row = nextRow;
+        nextRow = null;
+        return row;
+    }
+
+    /**
+     * Advance to the next STMTTRN aggregate and parse it, or return null at end of input
+     */
+    private StatementRow readTransaction() {
+        Map<String, String> fields = null;
+        String tag;
+        while ((tag = readTag()) != null) {
+            if (tag.equals(TRANSACTION_TAG)) {
+                fields = new HashMap<>();
+            } else if (tag.equals("/" + TRANSACTION_TAG) && fields != null) {
+                return toRow(++transactionNumber, fields);
+            } else if (fields != null && !tag.startsWith("/")) {
+                fields.put(tag, readText());
+            }
+        }
+        exhausted = true;
+        return null;
+    }
+
+    private StatementRow toRow(int row, Map<String, String> fields) {
+        try {
+            String amountText = fields.get("TRNAMT");
+            BigDecimal amount = amountText == null || amountText.isEmpty() ? null : new BigDecimal(amountText.replace(',', '.'));
+
+            String posted = fields.get("DTPOSTED");
+            LocalDate date = posted == null || posted.length() < 8
+                    ? null
+                    : LocalDate.parse(posted.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+
+            String name = fields.get("NAME");
+            if (name == null || name.isEmpty()) {
+                name = fields.get("MEMO");
+            }
+
+            TransactionDTO dto = TransactionDTO.builder()
+                    .name(name)
+                    .transactionDate(date)
+                    .amount(amount)
+                    .category(CsvStatementParser.DEFAULT_CATEGORY)
+                    .type(amount != null && amount.signum() < 0 ? "EXPENSE" : "INCOME")
+                    .build();
+            return StatementRow.parsed(row, dto);
+        } catch (RuntimeException e) {
+            return StatementRow.failed(row, "Unparseable value: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Skip to the next '<' and return the upper-cased tag name, or null at end of input
+     */
+    private String readTag() {
+        try {
+            int c;
+            while ((c = reader.read()) != -1 && c != '<') {
+                // skip text outside of the fields we care about
+            }
+            if (c == -1) {
+                return null;
+            }
+            StringBuilder tag = new StringBuilder();
+            while ((c = reader.read()) != -1 && c != '>') {
+                tag.append((char) c);
+            }
+            return tag.toString().trim().toUpperCase(Locale.ROOT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read the text following a tag, up to (not including) the next '<'
+     */
+    private String readText() {
+        try {
+            StringBuilder text = new StringBuilder();
+            reader.mark(1);
+            int c;
+            while ((c = reader.read()) != -1 && c != '<') {
+                text.append((char) c);
+                reader.mark(1);
+            }
+            if (c == '<') {
+                reader.reset();
+            }
+            return text.toString().trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.budgy.backend.imports;
+
+import com.budgy.backend.enums.ImportFormat;
+
+import java.io.Reader;
+import java.util.Iterator;
+
+/**
+ * Incremental bank statement parser
+ * <p>
+ * Rows are read from the underlying reader one at a time as the iterator advances,
+ * so a statement is never held in memory as a whole.
+ */
+public interface StatementParser extends Iterator<StatementRow> {
+
+    static StatementParser of(ImportFormat format, Reader reader) {
+        return switch (format) {
+            case CSV -> new CsvStatementParser(reader);
+            case OFX -> new OfxStatementParser(reader);
+        };
+    }
+}
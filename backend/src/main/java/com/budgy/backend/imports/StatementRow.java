@@ -0,0 +1,23 @@
+package com.budgy.backend.imports;
+
+import com.budgy.backend.dto.TransactionDTO;
+
+/**
+ * One parsed line of a bank statement
+ * <p>
+ * Either transaction is set, or error explains why the line could not be parsed.
+ */
+public record StatementRow(int rowNumber, TransactionDTO transaction, String error) {
+
+    public static StatementRow parsed(int rowNumber, TransactionDTO transaction) {
+        return new StatementRow(rowNumber, transaction, null);
+    }
+
+    public static StatementRow failed(int rowNumber, String error) {
+        return new StatementRow(rowNumber, null, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,99 @@
+package com.budgy.backend.ledger;
+
+import com.budgy.backend.entities.LedgerEntry;
+import com.budgy.backend.enums.LedgerAccountType;
+import com.budgy.backend.enums.LedgerEventType;
+import com.budgy.backend.exceptions.ResourceNotFoundException;
+import com.budgy.backend.repositories.BudgetRepository;
+import com.budgy.backend.repositories.LedgerJournalRepository;
+import com.budgy.backend.repositories.SavingPotRepository;
+import com.budgy.backend.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Ledger Journal
+ * <p>
+ * The only writer of the ledger counters (user balance, budget spent, pot saved and their
+ * transaction counts). Postings are applied with single-statement atomic updates and then
+ * appended to the ledger_journal table in the same database transaction, so the counters can
+ * always be rebuilt from the journal (see LedgerReplayService).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LedgerJournal {
+
+    private final UserRepository userRepository;
+    private final BudgetRepository budgetRepository;
+    private final SavingPotRepository savingPotRepository;
+    private final LedgerJournalRepository ledgerJournalRepository;
+
+    /**
+     * Apply postings to the live counters
+     * Exactly one BALANCE posting is required: its update bumps the user's ledger version and
+     * is run first, so every ledger event locks the user row before any budget or pot row.
+     *
+     * @return the ledger version of this event, to pass to append
+     * @throws ResourceNotFoundException if the user, a budget or a saving pot does not exist
+     */
+    public long apply(Long userId, List<LedgerPosting> postings) {
+        List<LedgerPosting> balances = postings.stream()
+                .filter(posting -> posting.accountType() == LedgerAccountType.BALANCE)
+                .toList();
+        if (balances.size() != 1) {
+            throw new IllegalArgumentException("A ledger event needs exactly one BALANCE posting, got " + balances.size());
+        }
+
+        if (userRepository.addToBalance(userId, balances.get(0).amountDelta()) == 0) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+
+        for (LedgerPosting posting : postings) {
+            switch (posting.accountType()) {
+                case BUDGET -> {
+                    if (budgetRepository.applySpentDelta(posting.accountId(), posting.amountDelta(), posting.countDelta()) == 0) {
+                        throw new ResourceNotFoundException("Budget", "id", posting.accountId());
+                    }
+                }
+                case SAVING_POT -> {
+                    if (savingPotRepository.applySavedDelta(posting.accountId(), posting.amountDelta(), posting.countDelta()) == 0) {
+                        throw new ResourceNotFoundException("SavingPot", "id", posting.accountId());
+                    }
+                }
+                case BALANCE -> {
+                    // already applied
+                }
+            }
+        }
+
+        // Our own update holds the row lock, so this is the version it just wrote
+        return userRepository.findLedgerVersion(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+    }
+
+    /**
+     * Record applied postings in the journal
+     * Postings that change nothing are skipped.
+     */
+    public void append(Long userId, long version, LedgerEventType eventType, Long transactionId,
+                       List<LedgerPosting> postings) {
+        List<LedgerEntry> entries = postings.stream()
+                .filter(posting -> !posting.isZero())
+                .map(posting -> LedgerEntry.builder()
+                        .userId(userId)
+                        .version(version)
+                        .eventType(eventType)
+                        .transactionId(transactionId)
+                        .accountType(posting.accountType())
+                        .accountId(posting.accountId())
+                        .amountDelta(posting.amountDelta())
+                        .countDelta(posting.countDelta())
+                        .build())
+                .toList();
+        ledgerJournalRepository.saveAll(entries);
+    }
+}
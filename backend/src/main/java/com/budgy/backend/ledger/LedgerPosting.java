@@ -0,0 +1,71 @@
+package com.budgy.backend.ledger;
+
+import com.budgy.backend.enums.LedgerAccountType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Signed change of one ledger account, before it is applied and journaled
+ */
+public record LedgerPosting(
+        LedgerAccountType accountType,
+        Long accountId,
+        BigDecimal amountDelta,
+        int countDelta
+) {
+
+    public static LedgerPosting balance(Long userId, BigDecimal delta) {
+        return new LedgerPosting(LedgerAccountType.BALANCE, userId, delta, 0);
+    }
+
+    public static LedgerPosting budget(Long budgetId, BigDecimal spentDelta, int countDelta) {
+        return new LedgerPosting(LedgerAccountType.BUDGET, budgetId, spentDelta, countDelta);
+    }
+
+    public static LedgerPosting savingPot(Long savingPotId, BigDecimal savedDelta, int countDelta) {
+        return new LedgerPosting(LedgerAccountType.SAVING_POT, savingPotId, savedDelta, countDelta);
+    }
+
+    public boolean isZero() {
+        return amountDelta.signum() == 0 && countDelta == 0;
+    }
+
+    /**
+     * The postings of consecutive events merged into as few postings as leave the counters the same
+     * Budget and pot counters are clamped at zero on every update, and clamping after two deltas of
+     * the same sign equals clamping after their sum, so only an account's same-sign runs are merged
+     * (in event order). The unclamped balance postings merge into one.
+     */
+    public static List<LedgerPosting> coalesce(List<List<LedgerPosting>> events) {
+        List<LedgerPosting> merged = new ArrayList<>();
+        Map<Account, Integer> lastRun = new HashMap<>();
+        for (List<LedgerPosting> event : events) {
+            for (LedgerPosting posting : event) {
+                Account account = new Account(posting.accountType(), posting.accountId());
+                Integer index = lastRun.get(account);
+                if (index != null && merged.get(index).mergesWith(posting)) {
+                    LedgerPosting run = merged.get(index);
+                    merged.set(index, new LedgerPosting(run.accountType(), run.accountId(),
+                            run.amountDelta().add(posting.amountDelta()), run.countDelta() + posting.countDelta()));
+                } else {
+                    lastRun.put(account, merged.size());
+                    merged.add(posting);
+                }
+            }
+        }
+        return merged;
+    }
+
+    private boolean mergesWith(LedgerPosting next) {
+        return accountType == LedgerAccountType.BALANCE
+                || (amountDelta.signum() * next.amountDelta().signum() >= 0
+                && Integer.signum(countDelta) * Integer.signum(next.countDelta()) >= 0);
+    }
+
+    private record Account(LedgerAccountType type, Long id) {
+    }
+}
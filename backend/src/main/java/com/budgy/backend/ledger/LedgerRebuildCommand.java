@@ -0,0 +1,34 @@
+package com.budgy.backend.ledger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ledger rebuild command
+ * <p>
+ * Replays the journal into users.current_balance, budgets.spent and saving_pots.saved, then exits:
+ * java -jar backend.jar --ledger.rebuild=true --spring.main.web-application-type=none
+ * The exit code is 1 if any user failed to rebuild.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.rebuild", havingValue = "true")
+public class LedgerRebuildCommand implements ApplicationRunner {
+
+    private final LedgerReplayService ledgerReplayService;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Rebuilding ledger counters from the journal");
+        int failures = ledgerReplayService.rebuildAll();
+        System.exit(SpringApplication.exit(context, () -> failures == 0 ? 0 : 1));
+    }
+}
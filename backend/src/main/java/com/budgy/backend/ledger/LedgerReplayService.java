@@ -0,0 +1,269 @@
+package com.budgy.backend.ledger;
+
+import com.budgy.backend.dto.projection.BudgetView;
+import com.budgy.backend.dto.projection.LedgerAccountTotal;
+import com.budgy.backend.dto.projection.SavingPotView;
+import com.budgy.backend.dto.response.LedgerAccountDTO;
+import com.budgy.backend.dto.response.LedgerBalanceDTO;
+import com.budgy.backend.entities.LedgerSnapshot;
+import com.budgy.backend.enums.LedgerAccountType;
+import com.budgy.backend.exceptions.ResourceNotFoundException;
+import com.budgy.backend.repositories.BudgetRepository;
+import com.budgy.backend.repositories.LedgerJournalRepository;
+import com.budgy.backend.repositories.LedgerSnapshotRepository;
+import com.budgy.backend.repositories.SavingPotRepository;
+import com.budgy.backend.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ledger Replay Service
+ * <p>
+ * Computes ledger counters from the journal: the value of an account at version V is its
+ * latest snapshot at or below V with the user's journal rows after that snapshot, up to V,
+ * applied one by one. Like the live updates, each row clamps budget spent, pot saved and
+ * their counts at zero, so a replay matches the counters even after an underflow.
+ * Also takes the periodic per-user snapshots and rebuilds the live counters from the journal.
+ * Snapshots and rebuilds are called from the scheduler and the rebuild pool, not through the
+ * proxy, so they open their transactions with a TransactionTemplate.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerReplayService {
+
+    private final UserRepository userRepository;
+    private final BudgetRepository budgetRepository;
+    private final SavingPotRepository savingPotRepository;
+    private final LedgerJournalRepository ledgerJournalRepository;
+    private final LedgerSnapshotRepository ledgerSnapshotRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${ledger.snapshot.min-versions:500}")
+    private long snapshotMinVersions;
+
+    @Value("${ledger.rebuild.parallelism:4}")
+    private int rebuildParallelism;
+
+    // ==================== POINT-IN-TIME BALANCES ====================
+
+    /**
+     * Ledger counters as of a point in time, or the current ones if at is null
+     *
+     * @throws ResourceNotFoundException if user not found
+     */
+    @Transactional(readOnly = true)
+    public LedgerBalanceDTO getBalances(Long userId, LocalDateTime at) {
+        long currentVersion = userRepository.findLedgerVersion(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        long version = at == null
+                ? currentVersion
+                : ledgerJournalRepository.findVersionAt(userId, at).orElse(0L);
+        return toBalance(userId, version, totalsAt(userId, version));
+    }
+
+    /**
+     * Per-account totals of a user at a ledger version, keyed by account
+     * Must run inside a transaction so the snapshot and journal reads see the same data.
+     */
+    private Map<AccountKey, LedgerAccountTotal> totalsAt(Long userId, long version) {
+        long snapshotVersion = ledgerSnapshotRepository.findLatestVersion(userId, version).orElse(0L);
+
+        List<LedgerAccountTotal> snapshot = snapshotVersion > 0
+                ? ledgerSnapshotRepository.findTotals(userId, snapshotVersion)
+                : List.of();
+        return replay(snapshot, ledgerJournalRepository.findEntries(userId, snapshotVersion, version));
+    }
+
+    /**
+     * Apply journal rows, in journal order, to snapshot totals
+     * Budget and pot rows are clamped at zero after every row, as the live updates do
+     * (BudgetRepository.applySpentDelta, SavingPotRepository.applySavedDelta); the balance is not.
+     */
+    static Map<AccountKey, LedgerAccountTotal> replay(List<LedgerAccountTotal> snapshot, List<LedgerAccountTotal> entries) {
+        Map<AccountKey, LedgerAccountTotal> totals = new LinkedHashMap<>();
+        snapshot.forEach(total -> totals.put(new AccountKey(total.accountType(), total.accountId()), total));
+        for (LedgerAccountTotal entry : entries) {
+            totals.compute(new AccountKey(entry.accountType(), entry.accountId()), (key, total) -> clamp(total == null
+                    ? entry
+                    : new LedgerAccountTotal(total.accountType(), total.accountId(),
+                            total.amount().add(entry.amount()), total.count() + entry.count())));
+        }
+        return totals;
+    }
+
+    private static LedgerAccountTotal clamp(LedgerAccountTotal total) {
+        if (total.accountType() == LedgerAccountType.BALANCE) {
+            return total;
+        }
+        return new LedgerAccountTotal(total.accountType(), total.accountId(),
+                total.amount().signum() < 0 ? BigDecimal.ZERO : total.amount(), Math.max(0, total.count()));
+    }
+
+    private LedgerBalanceDTO toBalance(Long userId, long version, Map<AccountKey, LedgerAccountTotal> totals) {
+        LedgerAccountTotal balance = totals.get(new AccountKey(LedgerAccountType.BALANCE, userId));
+        return LedgerBalanceDTO.builder()
+                .userId(userId)
+                .version(version)
+                .balance(balance != null ? balance.amount() : BigDecimal.ZERO)
+                .budgets(accounts(totals, LedgerAccountType.BUDGET))
+                .savingPots(accounts(totals, LedgerAccountType.SAVING_POT))
+                .build();
+    }
+
+    private static List<LedgerAccountDTO> accounts(Map<AccountKey, LedgerAccountTotal> totals, LedgerAccountType type) {
+        return totals.values().stream()
+                .filter(total -> total.accountType() == type)
+                .sorted(Comparator.comparing(LedgerAccountTotal::accountId))
+                .map(total -> LedgerAccountDTO.builder()
+                        .id(total.accountId())
+                        .amount(total.amount())
+                        .transactionCount(total.count())
+                        .build())
+                .toList();
+    }
+
+    // ==================== SNAPSHOTS ====================
+
+    /**
+     * Snapshot every user whose ledger moved ledger.snapshot.min-versions past their last snapshot
+     */
+    @Scheduled(initialDelayString = "${ledger.snapshot.fixed-delay:10m}",
+            fixedDelayString = "${ledger.snapshot.fixed-delay:10m}")
+    public void snapshotDueUsers() {
+        List<Long> userIds = ledgerSnapshotRepository.findUserIdsDueForSnapshot(snapshotMinVersions);
+        for (Long userId : userIds) {
+            try {
+                takeSnapshot(userId);
+            } catch (DataIntegrityViolationException e) {
+                // Another node wrote the same snapshot first
+                log.debug("Ledger snapshot for user {} already exists", userId);
+            }
+        }
+        if (!userIds.isEmpty()) {
+            log.info("Took ledger snapshots for {} users", userIds.size());
+        }
+    }
+
+    /**
+     * Store the user's totals at the current ledger version
+     *
+     * @return false if a snapshot at this version already exists
+     */
+    public boolean takeSnapshot(Long userId) {
+        return Boolean.TRUE.equals(transaction(false).execute(status -> {
+            long version = userRepository.findLedgerVersion(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+            if (version == 0 || ledgerSnapshotRepository.findLatestVersion(userId, version).orElse(0L) == version) {
+                return false;
+            }
+
+            List<LedgerSnapshot> snapshot = totalsAt(userId, version).values().stream()
+                    .map(total -> LedgerSnapshot.builder()
+                            .userId(userId)
+                            .version(version)
+                            .accountType(total.accountType())
+                            .accountId(total.accountId())
+                            .amount(total.amount())
+                            .itemCount(Math.toIntExact(total.count()))
+                            .build())
+                    .toList();
+            ledgerSnapshotRepository.saveAll(snapshot);
+            return true;
+        }));
+    }
+
+    // ==================== REBUILD ====================
+
+    /**
+     * Rebuild the live counters of every user from the journal, ledger.rebuild.parallelism users at a time
+     *
+     * @return number of users whose rebuild failed (each failure is logged)
+     */
+    public int rebuildAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        AtomicInteger failures = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildParallelism);
+        try {
+            CompletableFuture.allOf(userIds.stream()
+                            .map(userId -> CompletableFuture.runAsync(() -> {
+                                try {
+                                    rebuild(userId);
+                                } catch (RuntimeException e) {
+                                    failures.incrementAndGet();
+                                    log.error("Ledger rebuild failed for user {}", userId, e);
+                                }
+                            }, executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+
+        log.info("Rebuilt ledger counters of {} users ({} failed)", userIds.size() - failures.get(), failures.get());
+        return failures.get();
+    }
+
+    /**
+     * Overwrite a user's balance, budget spent and pot saved with the values replayed from the journal
+     * The user row stays locked meanwhile, so no ledger event of the user can commit in between.
+     *
+     * @throws ResourceNotFoundException if user not found
+     */
+    public void rebuild(Long userId) {
+        transaction(false).executeWithoutResult(status -> {
+            long version = userRepository.lockLedgerVersion(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+            Map<AccountKey, LedgerAccountTotal> totals = totalsAt(userId, version);
+
+            LedgerAccountTotal balance = totals.get(new AccountKey(LedgerAccountType.BALANCE, userId));
+            userRepository.resetBalance(userId, balance != null ? balance.amount() : BigDecimal.ZERO);
+
+            // Budgets and pots without journal rows go back to zero
+            for (BudgetView budget : budgetRepository.findByUserId(userId)) {
+                LedgerAccountTotal total = totals.get(new AccountKey(LedgerAccountType.BUDGET, budget.id()));
+                budgetRepository.resetSpent(budget.id(), amount(total), count(total));
+            }
+            for (SavingPotView savingPot : savingPotRepository.findByUserId(userId)) {
+                LedgerAccountTotal total = totals.get(new AccountKey(LedgerAccountType.SAVING_POT, savingPot.id()));
+                savingPotRepository.resetSaved(savingPot.id(), amount(total), count(total));
+            }
+        });
+    }
+
+    private static BigDecimal amount(LedgerAccountTotal total) {
+        return total == null ? BigDecimal.ZERO : total.amount();
+    }
+
+    private static int count(LedgerAccountTotal total) {
+        return total == null ? 0 : Math.toIntExact(total.count());
+    }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    record AccountKey(LedgerAccountType type, Long id) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.budgy.backend.ledger;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Ledger Writer
+ * <p>
+ * Serializes ledger mutations per user on striped single-writer lanes. A user id always
+ * maps to the same lane, so writes from all of a user's devices are applied one after the
+ * other by one thread instead of waiting on each other's row locks in the database.
+ * <p>
+ * Each lane coalesces bursts into one database transaction (group commit): after the first
+ * queued mutation it keeps collecting until max-batch-size is reached or max-latency has
+ * passed, then runs them all and commits once. Callers get a CompletableFuture that
+ * completes when their batch has committed. If a batch fails, its mutations are retried
+ * one transaction each so only the failing mutation reports an error.
+ */
+@Slf4j
+@Component
+public class LedgerWriter {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final long maxLatencyNanos;
+    private final Lane[] lanes;
+
+    private volatile boolean closed;
+
+    public LedgerWriter(PlatformTransactionManager transactionManager,
+                        @Value("${ledger.lanes:0}") int lanes,
+                        @Value("${ledger.max-batch-size:64}") int maxBatchSize,
+                        @Value("${ledger.max-latency:5ms}") Duration maxLatency,
+                        @Value("${ledger.queue-capacity:10000}") int queueCapacity,
+                        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                        @Value("${ledger.reserved-connections:5}") int reservedConnections) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatencyNanos = maxLatency.toNanos();
+
+        int laneCount = laneCount(lanes, Runtime.getRuntime().availableProcessors(), poolSize, reservedConnections);
+        if (lanes > laneCount) {
+            log.warn("ledger.lanes={} leaves fewer than {} of {} pooled connections to requests, using {} lanes",
+                    lanes, reservedConnections, poolSize, laneCount);
+        }
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            this.lanes[i] = new Lane(i, queueCapacity);
+        }
+    }
+
+    /**
+     * Queue a mutation on the user's lane
+     *
+     * @return future completed with the mutation's result once its batch has committed,
+     * or exceptionally with the exception the mutation threw
+     * @throws RejectedExecutionException if the lane's queue is full or the writer is shutting down
+     */
+    public <T> CompletableFuture<T> submit(Long userId, Supplier<T> mutation) {
+        if (closed) {
+            throw new RejectedExecutionException("Ledger writer is shutting down");
+        }
+        Command<T> command = new Command<>(mutation, new CompletableFuture<>());
+        if (!laneFor(userId).queue.offer(command)) {
+            throw new RejectedExecutionException("Ledger queue is full, try again later");
+        }
+        return command.future;
+    }
+
+    public CompletableFuture<Void> submit(Long userId, Runnable mutation) {
+        return submit(userId, () -> {
+            mutation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Lanes to run: the configured count (0 = one per core), capped so that committing lanes,
+     * which hold a pooled connection each, leave reservedConnections of the pool to everything else
+     */
+    static int laneCount(int lanes, int cores, int poolSize, int reservedConnections) {
+        int wanted = lanes > 0 ? lanes : cores;
+        return Math.max(1, Math.min(wanted, poolSize - reservedConnections));
+    }
+
+    int laneIndex(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), lanes.length);
+    }
+
+    private Lane laneFor(Long userId) {
+        return lanes[laneIndex(userId)];
+    }
+
+    /**
+     * Stop accepting mutations and let every lane commit what is already queued
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        closed = true;
+        for (Lane lane : lanes) {
+            lane.thread.join();
+        }
+    }
+
+    // ==================== LANE ====================
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Command<?>> queue;
+        private final Thread thread;
+
+        Lane(int index, int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this, "ledger-lane-" + index);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (!closed || !queue.isEmpty()) {
+                try {
+                    List<Command<?>> batch = nextBatch();
+                    if (!batch.isEmpty()) {
+                        commit(batch);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    // Never let one bad batch kill the lane
+                    log.error("Ledger lane {} failed to process a batch", thread.getName(), e);
+                }
+            }
+        }
+
+        /**
+         * Wait for the first mutation, then collect more until the batch is full or max-latency passed
+         */
+        private List<Command<?>> nextBatch() throws InterruptedException {
+            List<Command<?>> batch = new ArrayList<>();
+            Command<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return batch;
+            }
+            batch.add(first);
+
+            long deadline = System.nanoTime() + maxLatencyNanos;
+            while (batch.size() < maxBatchSize) {
+                // Take whatever is already queued without waiting
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= maxBatchSize || remaining <= 0) {
+                    break;
+                }
+                Command<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+            return batch;
+        }
+
+        private void commit(List<Command<?>> batch) {
+            List<Object> results;
+            try {
+                results = transactionTemplate.execute(status -> {
+                    List<Object> values = new ArrayList<>(batch.size());
+                    for (Command<?> command : batch) {
+                        values.add(command.mutation.get());
+                    }
+                    return values;
+                });
+            } catch (RuntimeException e) {
+                if (batch.size() == 1) {
+                    batch.get(0).future.completeExceptionally(e);
+                } else {
+                    // One mutation spoiled the batch; find it by committing each on its own
+                    batch.forEach(this::commitAlone);
+                }
+                return;
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(results.get(i));
+            }
+        }
+
+        private void commitAlone(Command<?> command) {
+            try {
+                Object result = transactionTemplate.execute(status -> command.mutation.get());
+                command.complete(result);
+            } catch (RuntimeException e) {
+                command.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private record Command<T>(Supplier<T> mutation, CompletableFuture<T> future) {
+
+        @SuppressWarnings("unchecked")
+        void complete(Object result) {
+            future.complete((T) result);
+        }
+    }
+}
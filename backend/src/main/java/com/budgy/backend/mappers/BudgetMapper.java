@@ -1,9 +1,20 @@
 package com.budgy.backend.mappers;
 
 import com.budgy.backend.dto.BudgetDTO;
+import com.budgy.backend.dto.projection.BudgetPeriodSpend;
+import com.budgy.backend.dto.projection.BudgetView;
+import com.budgy.backend.dto.response.BudgetPeriodDTO;
 import com.budgy.backend.dto.response.BudgetResponseDTO;
 import com.budgy.backend.entities.Budget;
 import com.budgy.backend.entities.User;
+import com.budgy.backend.enums.BudgetPeriod;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class BudgetMapper {
 
@@ -16,25 +27,95 @@ public class BudgetMapper {
                 .limitAmount(budget.getLimitAmount())
                 .transactionCount(budget.getTransactionCount())
                 .color(budget.getColor())
+                .period(budget.getPeriod().name())
+                .periodAnchor(budget.getPeriodAnchor())
+                .periodDays(budget.getPeriodDays())
                 .createdAt(budget.getCreatedAt())
                 .updatedAt(budget.getUpdatedAt())
                 .build();
     }
 
+    // Projection → Response DTO
+    public static BudgetResponseDTO toResponse(BudgetView view) {
+        return BudgetResponseDTO.builder()
+                .id(view.id())
+                .category(view.category())
+                .spent(view.spent())
+                .limitAmount(view.limitAmount())
+                .transactionCount(view.transactionCount())
+                .color(view.color())
+                .period(view.period().name())
+                .periodAnchor(view.periodAnchor())
+                .periodDays(view.periodDays())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .build();
+    }
+
+    /**
+     * Projection plus period counters → Response DTO with current period and history
+     *
+     * @param periodStarts start of the current period followed by the previous ones, most recent first
+     * @param spendByStart the budget's period counters by period start; missing periods had no transactions
+     */
+    public static BudgetResponseDTO toResponse(BudgetView view, List<LocalDate> periodStarts,
+                                               Map<LocalDate, BudgetPeriodSpend> spendByStart) {
+        List<BudgetPeriodDTO> periods = new ArrayList<>(periodStarts.size());
+        for (LocalDate start : periodStarts) {
+            BudgetPeriodSpend spend = spendByStart.get(start);
+            BigDecimal spent = spend != null ? spend.spent() : BigDecimal.ZERO;
+            periods.add(BudgetPeriodDTO.builder()
+                    .periodStart(start)
+                    .periodEnd(view.period().nextStart(start, view.periodDays()).minusDays(1))
+                    .spent(spent)
+                    .transactionCount(spend != null ? spend.transactionCount() : 0)
+                    .utilizationPercent(utilization(spent, view.limitAmount()))
+                    .build());
+        }
+
+        BudgetResponseDTO response = toResponse(view);
+        BudgetPeriodDTO current = periods.get(0);
+        response.setPeriodStart(current.getPeriodStart());
+        response.setPeriodEnd(current.getPeriodEnd());
+        response.setPeriodSpent(current.getSpent());
+        response.setPeriodTransactionCount(current.getTransactionCount());
+        response.setUtilizationPercent(current.getUtilizationPercent());
+        response.setHistory(periods.subList(1, periods.size()));
+        return response;
+    }
+
     // Request DTO → Entity
-    public static Budget toEntity(BudgetDTO dto, User user) {
+    public static Budget toEntity(BudgetDTO dto, User user, BudgetPeriod period) {
         Budget budget = new Budget();
         budget.setCategory(dto.getCategory());
         budget.setLimitAmount(dto.getLimitAmount());
         budget.setColor(dto.getColor());
+        setPeriod(budget, dto, period);
         budget.setUser(user);
         return budget;
     }
 
     // Update existing entity from DTO
-    public static void updateEntity(Budget budget, BudgetDTO dto) {
+    public static void updateEntity(Budget budget, BudgetDTO dto, BudgetPeriod period) {
         budget.setCategory(dto.getCategory());
         budget.setLimitAmount(dto.getLimitAmount());
         budget.setColor(dto.getColor());
+        setPeriod(budget, dto, period);
+    }
+
+    private static void setPeriod(Budget budget, BudgetDTO dto, BudgetPeriod period) {
+        budget.setPeriod(period);
+        // Anchor and length only mean something for custom periods
+        budget.setPeriodAnchor(period == BudgetPeriod.CUSTOM ? dto.getPeriodAnchor() : null);
+        budget.setPeriodDays(period == BudgetPeriod.CUSTOM ? dto.getPeriodDays() : null);
+    }
+
+    private static Double utilization(BigDecimal spent, BigDecimal limitAmount) {
+        if (limitAmount.signum() == 0) {
+            return 0.0;
+        }
+        return spent.multiply(BigDecimal.valueOf(100))
+                .divide(limitAmount, 2, RoundingMode.HALF_UP)
+                .doubleValue();
     }
-}
\ No newline at end of file
+}
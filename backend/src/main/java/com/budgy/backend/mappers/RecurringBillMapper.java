@@ -1,9 +1,11 @@
 package com.budgy.backend.mappers;
 
 import com.budgy.backend.dto.RecurringBillDTO;
+import com.budgy.backend.dto.projection.RecurringBillView;
 import com.budgy.backend.dto.response.RecurringBillResponseDTO;
 import com.budgy.backend.entities.RecurringBill;
 import com.budgy.backend.entities.User;
+import com.budgy.backend.enums.BillRecurrence;
 import com.budgy.backend.enums.BillStatus;
 
 public class RecurringBillMapper {
@@ -17,11 +19,36 @@ public class RecurringBillMapper {
                 .dueDate(bill.getDueDate())
                 .status(bill.getStatus().name())
                 .category(bill.getCategory())
+                .recurrence(bill.getRecurrence().name())
+                .autoPay(bill.isAutoPay())
                 .createdAt(bill.getCreatedAt())
                 .updatedAt(bill.getUpdatedAt())
                 .build();
     }
 
+    // Projection → Response DTO
+    public static RecurringBillResponseDTO toResponse(RecurringBillView view) {
+        return RecurringBillResponseDTO.builder()
+                .id(view.id())
+                .name(view.name())
+                .amount(view.amount())
+                .dueDate(view.dueDate())
+                .status(view.status().name())
+                .category(view.category())
+                .recurrence(view.recurrence().name())
+                .autoPay(view.autoPay())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .build();
+    }
+
+    // Entity → Projection
+    public static RecurringBillView toView(RecurringBill bill) {
+        return new RecurringBillView(bill.getId(), bill.getName(), bill.getAmount(), bill.getDueDate(),
+                bill.getStatus(), bill.getCategory(), bill.getRecurrence(), bill.isAutoPay(),
+                bill.getCreatedAt(), bill.getUpdatedAt());
+    }
+
     // Request DTO → Entity
     public static RecurringBill toEntity(RecurringBillDTO dto, User user) {
         RecurringBill bill = new RecurringBill();
@@ -32,6 +59,12 @@ public class RecurringBillMapper {
         if (dto.getStatus() != null && !dto.getStatus().isEmpty()) {
             bill.setStatus(BillStatus.valueOf(dto.getStatus().toUpperCase()));
         }
+        if (dto.getRecurrence() != null && !dto.getRecurrence().isEmpty()) {
+            bill.setRecurrence(BillRecurrence.valueOf(dto.getRecurrence().toUpperCase()));
+        }
+        if (dto.getAutoPay() != null) {
+            bill.setAutoPay(dto.getAutoPay());
+        }
         bill.setUser(user);
         return bill;
     }
@@ -45,5 +78,11 @@ public class RecurringBillMapper {
         if (dto.getStatus() != null && !dto.getStatus().isEmpty()) {
             bill.setStatus(BillStatus.valueOf(dto.getStatus().toUpperCase()));
         }
+        if (dto.getRecurrence() != null && !dto.getRecurrence().isEmpty()) {
+            bill.setRecurrence(BillRecurrence.valueOf(dto.getRecurrence().toUpperCase()));
+        }
+        if (dto.getAutoPay() != null) {
+            bill.setAutoPay(dto.getAutoPay());
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.budgy.backend.mappers;
 
 import com.budgy.backend.dto.SavingPotDTO;
+import com.budgy.backend.dto.projection.SavingPotView;
 import com.budgy.backend.dto.response.SavingPotResponseDTO;
 import com.budgy.backend.entities.SavingPot;
 import com.budgy.backend.entities.User;
@@ -22,6 +23,21 @@ public class SavingPotMapper {
                 .build();
     }
 
+    // Projection → Response DTO
+    public static SavingPotResponseDTO toResponse(SavingPotView view) {
+        return SavingPotResponseDTO.builder()
+                .id(view.id())
+                .name(view.name())
+                .saved(view.saved())
+                .goal(view.goal())
+                .transactionCount(view.transactionCount())
+                .icon(view.icon())
+                .color(view.color())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .build();
+    }
+
     // Request DTO → Entity
     public static SavingPot toEntity(SavingPotDTO dto, User user) {
         SavingPot savingPot = new SavingPot();
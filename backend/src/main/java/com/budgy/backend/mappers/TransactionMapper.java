@@ -1,6 +1,7 @@
 package com.budgy.backend.mappers;
 
 import com.budgy.backend.dto.TransactionDTO;
+import com.budgy.backend.dto.projection.TransactionView;
 import com.budgy.backend.dto.response.TransactionResponseDTO;
 import com.budgy.backend.entities.Budget;
 import com.budgy.backend.entities.SavingPot;
@@ -27,6 +28,24 @@ public class TransactionMapper {
                 .build();
     }
 
+    // Projection → Response DTO
+    public static TransactionResponseDTO toResponse(TransactionView view) {
+        return TransactionResponseDTO.builder()
+                .id(view.id())
+                .name(view.name())
+                .transactionDate(view.transactionDate())
+                .amount(view.amount())
+                .category(view.category())
+                .type(view.type().name())
+                .icon(view.icon())
+                .color(view.color())
+                .budgetId(view.budgetId())
+                .savingPotId(view.savingPotId())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .build();
+    }
+
     // Request DTO → Entity
     public static Transaction toEntity(TransactionDTO dto, User user, Budget budget, SavingPot savingPot) {
         Transaction transaction = new Transaction();
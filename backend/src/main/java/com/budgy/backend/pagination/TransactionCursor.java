@@ -0,0 +1,66 @@
+package com.budgy.backend.pagination;
+
+import com.budgy.backend.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset cursor for transaction listings
+ * <p>
+ * Transactions are listed newest first, ordered by (transactionDate DESC, id DESC).
+ * A cursor holds the key of the last row of a page; the next page starts strictly after it.
+ * It is exposed to clients as an opaque URL-safe Base64 token.
+ */
+public record TransactionCursor(LocalDate transactionDate, Long id) {
+
+    /**
+     * Cursor positioned before every possible row (used for the first page).
+     * 9999-12-31 is the largest value a MySQL DATE column can hold.
+     */
+    public static final TransactionCursor FIRST = new TransactionCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    public String encode() {
+        String raw = transactionDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a client supplied token, returning {@link #FIRST} when no token is given
+     *
+     * @throws BadRequestException if the token is malformed
+     */
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Clamp a requested page size into [1, MAX_LIMIT], defaulting when absent
+     */
+    public static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
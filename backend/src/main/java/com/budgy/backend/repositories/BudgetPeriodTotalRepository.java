@@ -0,0 +1,88 @@
+package com.budgy.backend.repositories;
+
+import com.budgy.backend.dto.projection.BudgetPeriodSpend;
+import com.budgy.backend.entities.BudgetPeriodTotal;
+import com.budgy.backend.entities.BudgetPeriodTotalId;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BudgetPeriodTotalRepository extends CrudRepository<BudgetPeriodTotal, BudgetPeriodTotalId> {
+
+    /**
+     * First day of the period of budget b containing t.transaction_date (same rule as BudgetPeriod.startOf)
+     * The double MOD keeps CUSTOM periods before the anchor aligned.
+     */
+    String PERIOD_START = "CASE b.period " +
+            "WHEN 'WEEKLY' THEN DATE_SUB(t.transaction_date, INTERVAL WEEKDAY(t.transaction_date) DAY) " +
+            "WHEN 'MONTHLY' THEN DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY) " +
+            "ELSE DATE_SUB(t.transaction_date, INTERVAL " +
+            "MOD(MOD(DATEDIFF(t.transaction_date, b.period_anchor), b.period_days) + b.period_days, b.period_days) DAY) END";
+
+    String INSERT = "INSERT INTO budget_period_totals (budget_id, period_start, spent, transaction_count) ";
+
+    // Spend as counted by Budget.spent: only EXPENSE amounts, every linked transaction
+    String AGGREGATE = "SELECT b.id, " + PERIOD_START + " AS period_start, " +
+            "SUM(CASE WHEN t.type = 'EXPENSE' THEN ABS(t.amount) ELSE 0 END), COUNT(*) " +
+            "FROM transactions t JOIN budgets b ON b.id = t.budget_id ";
+
+    /**
+     * Atomically add a spend and count delta to the period of the budget containing the given day,
+     * creating the period row if needed
+     * The row keeps the exact sum, like the rebuild below, so both paths store the same values;
+     * BudgetPeriodSpend clamps them at zero when they are read.
+     *
+     * @return number of rows affected (0 if the budget does not exist)
+     */
+    @Modifying
+    @Query(value = INSERT + "SELECT b.id, " + PERIOD_START + ", :amount, :count " +
+            "FROM budgets b CROSS JOIN (SELECT CAST(:day AS DATE) AS transaction_date) t WHERE b.id = :budgetId " +
+            "ON DUPLICATE KEY UPDATE " +
+            "budget_period_totals.spent = budget_period_totals.spent + VALUES(spent), " +
+            "budget_period_totals.transaction_count = budget_period_totals.transaction_count + VALUES(transaction_count)",
+            nativeQuery = true)
+    int addDelta(@Param("budgetId") Long budgetId,
+                 @Param("day") LocalDate day,
+                 @Param("amount") BigDecimal amount,
+                 @Param("count") int count);
+
+    @Query("SELECT new com.budgy.backend.dto.projection.BudgetPeriodSpend(" +
+            "p.id.budgetId, p.id.periodStart, p.spent, p.transactionCount) " +
+            "FROM BudgetPeriodTotal p, Budget b WHERE b.id = p.id.budgetId " +
+            "AND b.user.id = :userId AND p.id.periodStart >= :since")
+    List<BudgetPeriodSpend> findByUserIdSince(@Param("userId") Long userId, @Param("since") LocalDate since);
+
+    @Query("SELECT new com.budgy.backend.dto.projection.BudgetPeriodSpend(" +
+            "p.id.budgetId, p.id.periodStart, p.spent, p.transactionCount) " +
+            "FROM BudgetPeriodTotal p WHERE p.id.budgetId = :budgetId AND p.id.periodStart >= :since")
+    List<BudgetPeriodSpend> findByBudgetIdSince(@Param("budgetId") Long budgetId, @Param("since") LocalDate since);
+
+    // ==================== REBUILD ====================
+
+    @Modifying
+    @Query("DELETE FROM BudgetPeriodTotal p WHERE p.id.budgetId = :budgetId")
+    int deleteByBudgetId(@Param("budgetId") Long budgetId);
+
+    /**
+     * Recompute a budget's period totals from its transactions, e.g. after its period changed
+     * Run after deleteByBudgetId in the same database transaction.
+     */
+    @Modifying
+    @Query(value = INSERT + AGGREGATE + "WHERE b.id = :budgetId GROUP BY b.id, period_start", nativeQuery = true)
+    int backfillBudget(@Param("budgetId") Long budgetId);
+
+    @Modifying
+    @Query(value = "DELETE p FROM budget_period_totals p JOIN budgets b ON b.id = p.budget_id " +
+            "WHERE b.user_id BETWEEN :fromUserId AND :toUserId", nativeQuery = true)
+    int deleteByUserRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Modifying
+    @Query(value = INSERT + AGGREGATE + "WHERE b.user_id BETWEEN :fromUserId AND :toUserId " +
+            "GROUP BY b.id, period_start", nativeQuery = true)
+    int backfillUserRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+}
@@ -1,21 +1,54 @@
 package com.budgy.backend.repositories;
 
+import com.budgy.backend.dto.projection.BudgetView;
 import com.budgy.backend.entities.Budget;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
 public interface BudgetRepository extends CrudRepository<Budget, Long> {
 
-    @Query("SELECT b FROM Budget b WHERE b.user.id = :userId")
-    List<Budget> findByUserId(@Param("userId") Long userId);
+    String SELECT_VIEW = "SELECT new com.budgy.backend.dto.projection.BudgetView(" +
+            "b.id, b.category, b.spent, b.limitAmount, b.transactionCount, b.color, " +
+            "b.period, b.periodAnchor, b.periodDays, b.createdAt, b.updatedAt) " +
+            "FROM Budget b ";
+
+    @Query(SELECT_VIEW + "WHERE b.user.id = :userId")
+    List<BudgetView> findByUserId(@Param("userId") Long userId);
+
+    @Query(SELECT_VIEW + "WHERE b.id = :id")
+    Optional<BudgetView> findViewById(@Param("id") Long id);
 
     @Query("SELECT b FROM Budget b WHERE b.user.id = :userId AND b.category = :category")
     Optional<Budget> findByUserIdAndCategory(@Param("userId") Long userId, @Param("category") String category);
 
     @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Budget b WHERE b.user.id = :userId AND b.category = :category")
     boolean existsByUserIdAndCategory(@Param("userId") Long userId, @Param("category") String category);
-}
\ No newline at end of file
+
+    /**
+     * Atomically apply signed deltas to spent and transactionCount, neither going below zero
+     *
+     * @return number of rows updated (0 if the budget does not exist)
+     */
+    @Modifying
+    @Query("UPDATE Budget b SET " +
+            "b.spent = CASE WHEN b.spent + :delta < 0 THEN 0 ELSE b.spent + :delta END, " +
+            "b.transactionCount = CASE WHEN b.transactionCount + :countDelta < 0 THEN 0 " +
+            "ELSE b.transactionCount + :countDelta END, " +
+            "b.updatedAt = LOCAL DATETIME WHERE b.id = :budgetId")
+    int applySpentDelta(@Param("budgetId") Long budgetId,
+                        @Param("delta") BigDecimal delta,
+                        @Param("countDelta") int countDelta);
+
+    @Modifying
+    @Query("UPDATE Budget b SET b.spent = :spent, b.transactionCount = :count, b.updatedAt = LOCAL DATETIME " +
+            "WHERE b.id = :budgetId")
+    int resetSpent(@Param("budgetId") Long budgetId,
+                   @Param("spent") BigDecimal spent,
+                   @Param("count") int count);
+}
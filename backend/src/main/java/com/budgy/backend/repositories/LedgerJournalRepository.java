@@ -0,0 +1,31 @@
+package com.budgy.backend.repositories;
+
+import com.budgy.backend.dto.projection.LedgerAccountTotal;
+import com.budgy.backend.entities.LedgerEntry;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface LedgerJournalRepository extends CrudRepository<LedgerEntry, Long> {
+
+    /**
+     * The journal rows with fromVersion < version <= toVersion, in the order they were applied
+     */
+    @Query("SELECT new com.budgy.backend.dto.projection.LedgerAccountTotal(" +
+            "e.accountType, e.accountId, e.amountDelta, CAST(e.countDelta AS Long)) " +
+            "FROM LedgerEntry e WHERE e.userId = :userId AND e.version > :fromVersion AND e.version <= :toVersion " +
+            "ORDER BY e.version, e.id")
+    List<LedgerAccountTotal> findEntries(@Param("userId") Long userId,
+                                         @Param("fromVersion") long fromVersion,
+                                         @Param("toVersion") long toVersion);
+
+    /**
+     * Latest version of the user's ledger recorded at or before a point in time
+     */
+    @Query("SELECT MAX(e.version) FROM LedgerEntry e WHERE e.userId = :userId AND e.createdAt <= :at")
+    Optional<Long> findVersionAt(@Param("userId") Long userId, @Param("at") LocalDateTime at);
+}
@@ -0,0 +1,28 @@
+package com.budgy.backend.repositories;
+
+import com.budgy.backend.dto.projection.LedgerAccountTotal;
+import com.budgy.backend.entities.LedgerSnapshot;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LedgerSnapshotRepository extends CrudRepository<LedgerSnapshot, Long> {
+
+    @Query("SELECT MAX(s.version) FROM LedgerSnapshot s WHERE s.userId = :userId AND s.version <= :version")
+    Optional<Long> findLatestVersion(@Param("userId") Long userId, @Param("version") long version);
+
+    @Query("SELECT new com.budgy.backend.dto.projection.LedgerAccountTotal(" +
+            "s.accountType, s.accountId, s.amount, CAST(s.itemCount AS Long)) " +
+            "FROM LedgerSnapshot s WHERE s.userId = :userId AND s.version = :version")
+    List<LedgerAccountTotal> findTotals(@Param("userId") Long userId, @Param("version") long version);
+
+    /**
+     * Users whose ledger moved at least minVersions past their latest snapshot
+     */
+    @Query("SELECT u.id FROM User u WHERE u.ledgerVersion >= :minVersions + " +
+            "COALESCE((SELECT MAX(s.version) FROM LedgerSnapshot s WHERE s.userId = u.id), 0)")
+    List<Long> findUserIdsDueForSnapshot(@Param("minVersions") long minVersions);
+}
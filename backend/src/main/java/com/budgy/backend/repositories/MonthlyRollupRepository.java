@@ -0,0 +1,119 @@
+package com.budgy.backend.repositories;
+
+import com.budgy.backend.dto.projection.CategoryTotal;
+import com.budgy.backend.dto.projection.DashboardTotals;
+import com.budgy.backend.dto.projection.MonthlyTotal;
+import com.budgy.backend.entities.MonthlyRollup;
+import com.budgy.backend.entities.MonthlyRollupId;
+import com.budgy.backend.enums.TransactionType;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface MonthlyRollupRepository extends CrudRepository<MonthlyRollup, MonthlyRollupId> {
+
+    String TYPE = "com.budgy.backend.enums.TransactionType.";
+    String IN_CURRENT_MONTH = "r.id.monthStart = :currentStart ";
+    String IN_PREVIOUS_MONTH = "r.id.monthStart = :previousStart ";
+
+    /**
+     * Atomically add a sum and count delta to a rollup row, creating it if needed
+     */
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollups (user_id, month_start, type, category, total_amount, transaction_count) " +
+            "VALUES (:userId, :monthStart, :type, :category, :amount, :count) " +
+            "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), " +
+            "transaction_count = transaction_count + VALUES(transaction_count)", nativeQuery = true)
+    int addDelta(@Param("userId") Long userId,
+                 @Param("monthStart") LocalDate monthStart,
+                 @Param("type") String type,
+                 @Param("category") String category,
+                 @Param("amount") BigDecimal amount,
+                 @Param("count") int count);
+
+    /**
+     * Dashboard totals from the rollup rows of two months: the user's balance plus, for the
+     * current and previous month, the sum of each transaction type and the transaction count.
+     * The user row drives the query, so it returns a row (with zero sums) even without
+     * rollups, and nothing if the user does not exist.
+     */
+    @Query("SELECT new com.budgy.backend.dto.projection.DashboardTotals(COALESCE(u.currentBalance, 0), " +
+            "COALESCE(SUM(CASE WHEN " + IN_CURRENT_MONTH + "AND r.id.type = " + TYPE + "INCOME THEN r.totalAmount END), 0), " +
+            "COALESCE(SUM(CASE WHEN " + IN_CURRENT_MONTH + "AND r.id.type = " + TYPE + "EXPENSE THEN r.totalAmount END), 0), " +
+            "COALESCE(SUM(CASE WHEN " + IN_CURRENT_MONTH + "AND r.id.type = " + TYPE + "SAVING THEN r.totalAmount END), 0), " +
+            "COALESCE(SUM(CASE WHEN " + IN_CURRENT_MONTH + "AND r.id.type = " + TYPE + "WITHDRAW THEN r.totalAmount END), 0), " +
+            "COALESCE(SUM(CASE WHEN " + IN_PREVIOUS_MONTH + "AND r.id.type = " + TYPE + "INCOME THEN r.totalAmount END), 0), " +
+            "COALESCE(SUM(CASE WHEN " + IN_PREVIOUS_MONTH + "AND r.id.type = " + TYPE + "EXPENSE THEN r.totalAmount END), 0), " +
+            "COALESCE(SUM(CASE WHEN " + IN_PREVIOUS_MONTH + "AND r.id.type = " + TYPE + "SAVING THEN r.totalAmount END), 0), " +
+            "COALESCE(SUM(CASE WHEN " + IN_PREVIOUS_MONTH + "AND r.id.type = " + TYPE + "WITHDRAW THEN r.totalAmount END), 0), " +
+            "COALESCE(SUM(CASE WHEN " + IN_CURRENT_MONTH + "THEN r.transactionCount END), 0), " +
+            "COALESCE(SUM(CASE WHEN " + IN_PREVIOUS_MONTH + "THEN r.transactionCount END), 0)) " +
+            "FROM User u LEFT JOIN MonthlyRollup r ON r.id.userId = u.id " +
+            "AND r.id.monthStart IN (:previousStart, :currentStart) " +
+            "WHERE u.id = :userId GROUP BY u.id, u.currentBalance")
+    Optional<DashboardTotals> findDashboardTotals(
+            @Param("userId") Long userId,
+            @Param("previousStart") LocalDate previousStart,
+            @Param("currentStart") LocalDate currentStart
+    );
+
+    /**
+     * Same as TransactionRepository.sumByCategory for periods made of whole months
+     * Months are identified by their first day; the current period ends with the month starting at currentLastMonth.
+     * Rollup amounts of one type all have the same sign, so ABS gives the same absolute totals.
+     */
+    @Query("SELECT new com.budgy.backend.dto.projection.CategoryTotal(r.id.category, " +
+            "COALESCE(SUM(CASE WHEN r.id.monthStart >= :currentStart THEN ABS(r.totalAmount) END), 0), " +
+            "COALESCE(SUM(CASE WHEN r.id.monthStart < :currentStart THEN ABS(r.totalAmount) END), 0), " +
+            "COALESCE(SUM(CASE WHEN r.id.monthStart >= :currentStart THEN r.transactionCount END), 0), " +
+            "COALESCE(SUM(CASE WHEN r.id.monthStart < :currentStart THEN r.transactionCount END), 0)) " +
+            "FROM MonthlyRollup r WHERE r.id.userId = :userId AND r.id.type = :type " +
+            "AND r.id.monthStart BETWEEN :previousStart AND :currentLastMonth " +
+            "GROUP BY r.id.category")
+    List<CategoryTotal> sumByCategory(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("previousStart") LocalDate previousStart,
+            @Param("currentStart") LocalDate currentStart,
+            @Param("currentLastMonth") LocalDate currentLastMonth
+    );
+
+    String SELECT_TOTALS = "SELECT new com.budgy.backend.dto.projection.MonthlyTotal(r.id.userId, " +
+            "YEAR(r.id.monthStart), MONTH(r.id.monthStart), r.id.type, r.id.category, " +
+            "r.totalAmount, CAST(r.transactionCount AS Long)) FROM MonthlyRollup r ";
+
+    /**
+     * Rollup rows of one user for the months starting fromMonth..toMonth (first days of month)
+     */
+    @Query(SELECT_TOTALS + "WHERE r.id.userId = :userId AND r.id.monthStart BETWEEN :fromMonth AND :toMonth")
+    List<MonthlyTotal> findTotalsByUserId(@Param("userId") Long userId,
+                                          @Param("fromMonth") LocalDate fromMonth,
+                                          @Param("toMonth") LocalDate toMonth);
+
+    @Query(SELECT_TOTALS + "WHERE r.id.userId BETWEEN :fromUserId AND :toUserId")
+    List<MonthlyTotal> findTotalsByUserRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyRollup r WHERE r.id.userId BETWEEN :fromUserId AND :toUserId")
+    int deleteByUserRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    /**
+     * Recompute the rollups of a range of users from their transactions
+     * Run after deleteByUserRange in the same database transaction.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollups (user_id, month_start, type, category, total_amount, transaction_count) " +
+            "SELECT t.user_id, DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY), " +
+            "t.type, t.category, SUM(CASE WHEN t.type = 'EXPENSE' THEN -ABS(t.amount) ELSE ABS(t.amount) END), " +
+            "COUNT(*) FROM transactions t " +
+            "WHERE t.user_id BETWEEN :fromUserId AND :toUserId " +
+            "GROUP BY t.user_id, DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY), " +
+            "t.type, t.category", nativeQuery = true)
+    int backfillUserRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+}
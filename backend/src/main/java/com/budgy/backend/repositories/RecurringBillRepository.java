@@ -1,22 +1,136 @@
 package com.budgy.backend.repositories;
 
+import com.budgy.backend.dto.projection.DueBill;
+import com.budgy.backend.dto.projection.RecurringBillView;
 import com.budgy.backend.entities.RecurringBill;
 import com.budgy.backend.enums.BillStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface RecurringBillRepository extends CrudRepository<RecurringBill, Long> {
 
-    @Query("SELECT r FROM RecurringBill r WHERE r.user.id = :userId")
-    List<RecurringBill> findByUserId(@Param("userId") Long userId);
+    String SELECT_VIEW = "SELECT new com.budgy.backend.dto.projection.RecurringBillView(" +
+            "r.id, r.name, r.amount, r.dueDate, r.status, r.category, r.recurrence, r.autoPay, r.createdAt, r.updatedAt) " +
+            "FROM RecurringBill r ";
 
-    @Query("SELECT r FROM RecurringBill r WHERE r.user.id = :userId AND r.status = :status")
-    List<RecurringBill> findByUserIdAndStatus(@Param("userId") Long userId, @Param("status") BillStatus status);
+    @Query(SELECT_VIEW + "WHERE r.user.id = :userId")
+    List<RecurringBillView> findByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT r FROM RecurringBill r WHERE r.user.id = :userId AND r.dueDate <= :date ORDER BY r.dueDate ASC")
-    List<RecurringBill> findUpcomingBills(@Param("userId") Long userId, @Param("date") LocalDate date);
-}
\ No newline at end of file
+    @Query(SELECT_VIEW + "WHERE r.id = :id")
+    Optional<RecurringBillView> findViewById(@Param("id") Long id);
+
+    @Query(SELECT_VIEW + "WHERE r.user.id = :userId AND r.status = :status")
+    List<RecurringBillView> findByUserIdAndStatus(@Param("userId") Long userId, @Param("status") BillStatus status);
+
+    // ==================== MATERIALIZATION ====================
+
+    /**
+     * Bills across all users that are due by today and have work for the materializer: auto-paid
+     * bills, and paid bills to move to their next cycle. Keyset ordered by (dueDate, id), each
+     * chunk starting strictly after the (cursorDate, cursorId) of the previous one.
+     */
+    @Query("SELECT new com.budgy.backend.dto.projection.DueBill(r.id, r.user.id, r.dueDate) " +
+            "FROM RecurringBill r WHERE r.dueDate <= :today AND (r.autoPay = TRUE OR r.status = :paid) " +
+            "AND (r.dueDate > :cursorDate OR (r.dueDate = :cursorDate AND r.id > :cursorId)) " +
+            "ORDER BY r.dueDate, r.id")
+    List<DueBill> findDueAfter(
+            @Param("today") LocalDate today,
+            @Param("paid") BillStatus paid,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    /**
+     * Lock the given bills that are still due, so concurrent runs post each cycle once
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RecurringBill r WHERE r.id IN :ids AND r.dueDate <= :today ORDER BY r.id")
+    List<RecurringBill> lockDueBills(@Param("ids") List<Long> ids, @Param("today") LocalDate today);
+
+    // ==================== STATUS TRANSITIONS ====================
+
+    /**
+     * Manual (not auto-paid) bills in one of the statuses that are due by horizon
+     * Keyset ordered by (dueDate, id) like findDueAfter.
+     */
+    @Query("SELECT new com.budgy.backend.dto.projection.DueBill(r.id, r.user.id, r.dueDate) " +
+            "FROM RecurringBill r WHERE r.dueDate <= :horizon AND r.autoPay = FALSE AND r.status IN :statuses " +
+            "AND (r.dueDate > :cursorDate OR (r.dueDate = :cursorDate AND r.id > :cursorId)) " +
+            "ORDER BY r.dueDate, r.id")
+    List<DueBill> findManualDueAfter(
+            @Param("horizon") LocalDate horizon,
+            @Param("statuses") List<BillStatus> statuses,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    /**
+     * The given bills that are still pending and due before today
+     */
+    @Query("SELECT new com.budgy.backend.dto.projection.DueBill(r.id, r.user.id, r.dueDate) " +
+            "FROM RecurringBill r WHERE r.id IN :ids AND r.status = :pending AND r.dueDate < :today")
+    List<DueBill> findOverdueCycles(@Param("ids") List<Long> ids,
+                                    @Param("today") LocalDate today,
+                                    @Param("pending") BillStatus pending);
+
+    /**
+     * Move the given bills that are still pending and due before today to overdue
+     *
+     * @return number of bills updated
+     */
+    @Modifying
+    @Query("UPDATE RecurringBill r SET r.status = :overdue, r.updatedAt = LOCAL DATETIME " +
+            "WHERE r.id IN :ids AND r.status = :pending AND r.dueDate < :today")
+    int markOverdue(@Param("ids") List<Long> ids,
+                    @Param("today") LocalDate today,
+                    @Param("pending") BillStatus pending,
+                    @Param("overdue") BillStatus overdue);
+
+    /**
+     * Link the current cycle of each given unpaid manual bill to a payment: an unlinked EXPENSE of
+     * the same user with the bill's name and amount, dated from windowDays before the due date up
+     * to today. A linked transaction pays that cycle only. IGNORE skips further matches for a cycle
+     * already linked (uc_transactions_bill_cycle), so each cycle takes one transaction.
+     *
+     * @return number of transactions linked
+     */
+    @Modifying
+    @Query(value = "UPDATE IGNORE transactions t JOIN recurring_bills r " +
+            "ON r.user_id = t.user_id AND r.name = t.name AND r.amount = ABS(t.amount) " +
+            "SET t.recurring_bill_id = r.id, t.bill_due_date = r.due_date " +
+            "WHERE r.id IN :ids AND r.auto_pay = FALSE AND r.status <> 'PAID' " +
+            "AND t.type = 'EXPENSE' AND t.recurring_bill_id IS NULL " +
+            "AND t.transaction_date BETWEEN r.due_date - INTERVAL :windowDays DAY AND :today", nativeQuery = true)
+    int linkPayments(@Param("ids") List<Long> ids,
+                     @Param("windowDays") int windowDays,
+                     @Param("today") LocalDate today);
+
+    /**
+     * The given bills that are not paid yet although a transaction is linked to their current cycle
+     */
+    @Query("SELECT new com.budgy.backend.dto.projection.DueBill(r.id, r.user.id, r.dueDate) " +
+            "FROM RecurringBill r WHERE r.id IN :ids AND r.status <> :paid " +
+            "AND EXISTS (SELECT t.id FROM Transaction t WHERE t.recurringBill.id = r.id AND t.billDueDate = r.dueDate)")
+    List<DueBill> findPaidCycles(@Param("ids") List<Long> ids, @Param("paid") BillStatus paid);
+
+    /**
+     * Mark the given bills paid
+     *
+     * @return number of bills updated
+     */
+    @Modifying
+    @Query("UPDATE RecurringBill r SET r.status = :paid, r.updatedAt = LOCAL DATETIME " +
+            "WHERE r.id IN :ids AND r.status <> :paid")
+    int markPaid(@Param("ids") List<Long> ids, @Param("paid") BillStatus paid);
+}
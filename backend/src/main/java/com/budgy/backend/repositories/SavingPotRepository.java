@@ -1,14 +1,47 @@
 package com.budgy.backend.repositories;
 
+import com.budgy.backend.dto.projection.SavingPotView;
 import com.budgy.backend.entities.SavingPot;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 public interface SavingPotRepository extends CrudRepository<SavingPot, Long> {
 
-    @Query("SELECT s FROM SavingPot s WHERE s.user.id = :userId")
-    List<SavingPot> findByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+    String SELECT_VIEW = "SELECT new com.budgy.backend.dto.projection.SavingPotView(" +
+            "s.id, s.name, s.saved, s.goal, s.transactionCount, s.icon, s.color, s.createdAt, s.updatedAt) " +
+            "FROM SavingPot s ";
+
+    @Query(SELECT_VIEW + "WHERE s.user.id = :userId")
+    List<SavingPotView> findByUserId(@Param("userId") Long userId);
+
+    @Query(SELECT_VIEW + "WHERE s.id = :id")
+    Optional<SavingPotView> findViewById(@Param("id") Long id);
+
+    /**
+     * Atomically apply signed deltas to saved and transactionCount, neither going below zero
+     *
+     * @return number of rows updated (0 if the saving pot does not exist)
+     */
+    @Modifying
+    @Query("UPDATE SavingPot s SET " +
+            "s.saved = CASE WHEN s.saved + :delta < 0 THEN 0 ELSE s.saved + :delta END, " +
+            "s.transactionCount = CASE WHEN s.transactionCount + :countDelta < 0 THEN 0 " +
+            "ELSE s.transactionCount + :countDelta END, " +
+            "s.updatedAt = LOCAL DATETIME WHERE s.id = :savingPotId")
+    int applySavedDelta(@Param("savingPotId") Long savingPotId,
+                        @Param("delta") BigDecimal delta,
+                        @Param("countDelta") int countDelta);
+
+    @Modifying
+    @Query("UPDATE SavingPot s SET s.saved = :saved, s.transactionCount = :count, s.updatedAt = LOCAL DATETIME " +
+            "WHERE s.id = :savingPotId")
+    int resetSaved(@Param("savingPotId") Long savingPotId,
+                   @Param("saved") BigDecimal saved,
+                   @Param("count") int count);
+}
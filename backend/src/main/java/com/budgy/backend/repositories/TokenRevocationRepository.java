@@ -0,0 +1,20 @@
+package com.budgy.backend.repositories;
+
+import com.budgy.backend.entities.TokenRevocation;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenRevocationRepository extends CrudRepository<TokenRevocation, String> {
+
+    @Query("SELECT r FROM TokenRevocation r WHERE r.expiresAt > :now")
+    List<TokenRevocation> findActive(@Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,32 +1,123 @@
 package com.budgy.backend.repositories;
 
+import com.budgy.backend.dto.projection.CategoryTotal;
+import com.budgy.backend.dto.projection.DailyBalance;
+import com.budgy.backend.dto.projection.DailyTotal;
+import com.budgy.backend.dto.projection.MonthlyTotal;
+import com.budgy.backend.dto.projection.TransactionView;
 import com.budgy.backend.entities.Transaction;
 import com.budgy.backend.enums.TransactionType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TransactionRepository extends CrudRepository<Transaction, Long> {
 
-    // ==================== EXISTING QUERIES ====================
+    /**
+     * Constructor expression shared by the read paths. t.budget.id and t.savingPot.id
+     * resolve to the foreign key columns, so no join or proxy is involved.
+     */
+    String SELECT_VIEW = "SELECT new com.budgy.backend.dto.projection.TransactionView(" +
+            "t.id, t.name, t.transactionDate, t.amount, t.category, t.type, t.icon, t.color, " +
+            "t.budget.id, t.savingPot.id, t.createdAt, t.updatedAt) FROM Transaction t ";
+
+    @Query(SELECT_VIEW + "WHERE t.id = :id")
+    Optional<TransactionView> findViewById(@Param("id") Long id);
+
+    /**
+     * Load a transaction and lock its row until the caller commits, so concurrent edits or
+     * deletes of it revert its old amount, type, budget and pot one after the other
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t WHERE t.id = :id")
+    Optional<Transaction> findByIdForUpdate(@Param("id") Long id);
+
+    // ==================== KEYSET PAGINATED LISTINGS ====================
+    // Rows are ordered by (transactionDate DESC, id DESC) and each page starts strictly
+    // after the (cursorDate, cursorId) key of the previous page, so every page costs
+    // the same regardless of how deep the client has scrolled.
+
+    @Query(SELECT_VIEW + "WHERE t.user.id = :userId " +
+            "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionView> findPageByUserId(
+            @Param("userId") Long userId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    @Query(SELECT_VIEW + "WHERE t.user.id = :userId AND t.type = :type " +
+            "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionView> findPageByUserIdAndType(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
 
-    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId ORDER BY t.transactionDate DESC")
-    List<Transaction> findByUserId(@Param("userId") Long userId);
+    @Query(SELECT_VIEW + "WHERE t.user.id = :userId AND t.budget.id = :budgetId " +
+            "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionView> findPageByUserIdAndBudgetId(
+            @Param("userId") Long userId,
+            @Param("budgetId") Long budgetId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
 
-    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.type = :type ORDER BY t.transactionDate DESC")
-    List<Transaction> findByUserIdAndType(@Param("userId") Long userId, @Param("type") TransactionType type);
+    @Query(SELECT_VIEW + "WHERE t.user.id = :userId AND t.savingPot.id = :savingPotId " +
+            "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionView> findPageByUserIdAndSavingPotId(
+            @Param("userId") Long userId,
+            @Param("savingPotId") Long savingPotId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
 
-    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.budget.id = :budgetId ORDER BY t.transactionDate DESC")
-    List<Transaction> findByUserIdAndBudgetId(@Param("userId") Long userId, @Param("budgetId") Long budgetId);
+    @Query(SELECT_VIEW + "WHERE t.user.id = :userId " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionView> findPageByUserIdAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
 
-    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.savingPot.id = :savingPotId ORDER BY t.transactionDate DESC")
-    List<Transaction> findByUserIdAndSavingPotId(@Param("userId") Long userId, @Param("savingPotId") Long savingPotId);
+    // ==================== STREAMING EXPORT ====================
 
-    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.transactionDate BETWEEN :startDate AND :endDate ORDER BY t.transactionDate DESC")
-    List<Transaction> findByUserIdAndDateRange(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    /**
+     * Stream every transaction of a user, newest first, without materializing the list
+     * Integer.MIN_VALUE makes MySQL Connector/J stream rows one by one instead of buffering
+     * the whole result set. Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId ORDER BY t.transactionDate DESC, t.id DESC")
+    Stream<Transaction> streamByUserId(@Param("userId") Long userId);
 
     // ==================== NEW QUERIES FOR DASHBOARD ====================
 
@@ -97,4 +188,89 @@ public interface TransactionRepository extends CrudRepository<Transaction, Long>
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
-}
\ No newline at end of file
+
+    /**
+     * Per-category sums of absolute amounts and counts of one transaction type over two adjacent periods:
+     * previousStart..currentStart-1 and currentStart..currentEnd
+     */
+    @Query("SELECT new com.budgy.backend.dto.projection.CategoryTotal(t.category, " +
+            "COALESCE(SUM(CASE WHEN t.transactionDate >= :currentStart THEN ABS(t.amount) END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.transactionDate < :currentStart THEN ABS(t.amount) END), 0), " +
+            "COUNT(CASE WHEN t.transactionDate >= :currentStart THEN t.id END), " +
+            "COUNT(CASE WHEN t.transactionDate < :currentStart THEN t.id END)) " +
+            "FROM Transaction t WHERE t.user.id = :userId AND t.type = :type " +
+            "AND t.transactionDate BETWEEN :previousStart AND :currentEnd " +
+            "GROUP BY t.category")
+    List<CategoryTotal> sumByCategory(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("previousStart") LocalDate previousStart,
+            @Param("currentStart") LocalDate currentStart,
+            @Param("currentEnd") LocalDate currentEnd
+    );
+
+    /**
+     * End-of-day balances of the days from..to that have transactions, oldest first
+     * <p>
+     * Works back from users.current_balance in one pass: a day's end balance is the current
+     * balance minus the net change of every later day, a running sum over the days in
+     * descending order. Later days up to today are summed inside the window but not returned,
+     * so the result has at most one row per day of the range. The days are joined to a row
+     * without a day that sorts after them in the window, so its end balance is the balance at
+     * the start of from: an existing user always gets that row, whatever the range holds.
+     */
+    String DAILY_BALANCES = "SELECT b.day AS day, b.end_balance AS endBalance, b.opening_balance AS openingBalance FROM (" +
+            "SELECT d.day, " +
+            "COALESCE(u.current_balance, 0) - (SUM(d.delta) OVER (ORDER BY d.day DESC) - d.delta) AS end_balance, " +
+            "COALESCE(u.current_balance, 0) - SUM(d.delta) OVER () AS opening_balance " +
+            "FROM users u JOIN (" +
+            "SELECT NULL AS day, 0 AS delta UNION ALL " +
+            "SELECT t.transaction_date, " +
+            "SUM(CASE WHEN t.type IN ('INCOME', 'WITHDRAW') THEN ABS(t.amount) ELSE -ABS(t.amount) END) " +
+            "FROM transactions t WHERE t.user_id = :userId AND t.transaction_date >= :from " +
+            "GROUP BY t.transaction_date) d ON TRUE " +
+            "WHERE u.id = :userId) b " +
+            "WHERE b.day IS NULL OR b.day <= :to ORDER BY b.day";
+
+    @Query(value = DAILY_BALANCES, nativeQuery = true)
+    List<DailyBalance> findDailyBalances(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    /**
+     * Transactions linked to a budget, which are deleted with it
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.budget.id = :budgetId")
+    List<Transaction> findByBudgetId(@Param("budgetId") Long budgetId);
+
+    /**
+     * Transactions linked to a saving pot, which are deleted with it
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.savingPot.id = :savingPotId")
+    List<Transaction> findBySavingPotId(@Param("savingPotId") Long savingPotId);
+
+    /**
+     * Per-day, per-type sums of all of a user's transactions, oldest day first
+     * Input of CashFlowIndex.build. Amounts are normalized per row (TransactionType.signedAmount)
+     * before summing, so expenses stored with either sign add up instead of cancelling out.
+     */
+    @Query("SELECT new com.budgy.backend.dto.projection.DailyTotal(t.transactionDate, t.type, " +
+            "SUM(CASE WHEN t.type = com.budgy.backend.enums.TransactionType.EXPENSE THEN -ABS(t.amount) ELSE ABS(t.amount) END)) " +
+            "FROM Transaction t WHERE t.user.id = :userId " +
+            "GROUP BY t.transactionDate, t.type ORDER BY t.transactionDate")
+    List<DailyTotal> sumDailyByUserId(@Param("userId") Long userId);
+
+    /**
+     * Monthly totals recomputed from the transactions of a range of users
+     * Same shape as MonthlyRollupRepository.findTotalsByUserRange, for the consistency check
+     */
+    @Query("SELECT new com.budgy.backend.dto.projection.MonthlyTotal(t.user.id, " +
+            "YEAR(t.transactionDate), MONTH(t.transactionDate), t.type, t.category, " +
+            "SUM(CASE WHEN t.type = com.budgy.backend.enums.TransactionType.EXPENSE THEN -ABS(t.amount) ELSE ABS(t.amount) END), " +
+            "COUNT(t)) " +
+            "FROM Transaction t WHERE t.user.id BETWEEN :fromUserId AND :toUserId " +
+            "GROUP BY t.user.id, YEAR(t.transactionDate), MONTH(t.transactionDate), t.type, t.category")
+    List<MonthlyTotal> sumMonthlyByUserRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+}
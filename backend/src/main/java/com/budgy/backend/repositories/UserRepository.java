@@ -3,15 +3,55 @@ package com.budgy.backend.repositories;
 import com.budgy.backend.entities.User;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends CrudRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.email = :email")
     Optional<User> findByEmail(@Param("email") String email);
 
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    /**
+     * Atomically add a signed delta to the user's balance and bump the ledger version
+     * The row lock taken here orders the user's ledger events until the transaction commits.
+     *
+     * @return number of rows updated (0 if the user does not exist)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.currentBalance = COALESCE(u.currentBalance, 0) + :delta, " +
+            "u.ledgerVersion = u.ledgerVersion + 1, u.updatedAt = LOCAL DATETIME WHERE u.id = :userId")
+    int addToBalance(@Param("userId") Long userId, @Param("delta") BigDecimal delta);
+
+    @Query("SELECT COALESCE(u.currentBalance, 0) FROM User u WHERE u.id = :userId")
+    Optional<BigDecimal> findCurrentBalance(@Param("userId") Long userId);
+
+    @Query("SELECT u.ledgerVersion FROM User u WHERE u.id = :userId")
+    Optional<Long> findLedgerVersion(@Param("userId") Long userId);
+
+    /**
+     * Read the ledger version and lock the user row, so no ledger event commits until the caller does
+     */
+    @Query(value = "SELECT ledger_version FROM users WHERE id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockLedgerVersion(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.currentBalance = :balance, u.updatedAt = LOCAL DATETIME WHERE u.id = :userId")
+    int resetBalance(@Param("userId") Long userId, @Param("balance") BigDecimal balance);
+
+    /**
+     * Replace the stored password hash (rehash on login, see UserService.updatePassword)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password, u.updatedAt = LOCAL DATETIME WHERE u.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
+
     boolean existsByEmail(@NotBlank(message = "Email is required") @Email(message = "Email must be valid") String email);
 }
\ No newline at end of file
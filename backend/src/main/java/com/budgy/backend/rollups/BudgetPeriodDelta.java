@@ -0,0 +1,51 @@
+package com.budgy.backend.rollups;
+
+import com.budgy.backend.entities.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Change to the spend and transaction count of a budget's period caused by one transaction
+ * The period is resolved from the day by the database, under the budget's current period settings.
+ */
+public record BudgetPeriodDelta(
+        Long budgetId,
+        LocalDate day,
+        BigDecimal amount,
+        int count
+) {
+
+    /**
+     * Delta that adds (sign = 1) or removes (sign = -1) a transaction as it is now
+     *
+     * @return empty if the transaction is not linked to a budget
+     */
+    public static Optional<BudgetPeriodDelta> of(Transaction transaction, int sign) {
+        if (transaction.getBudget() == null) {
+            return Optional.empty();
+        }
+        BigDecimal spent = transaction.getType().spentDelta(transaction.getAmount());
+        return Optional.of(new BudgetPeriodDelta(
+                transaction.getBudget().getId(),
+                transaction.getTransactionDate(),
+                sign < 0 ? spent.negate() : spent,
+                sign < 0 ? -1 : 1));
+    }
+
+    Key key() {
+        return new Key(budgetId, day);
+    }
+
+    BudgetPeriodDelta plus(BudgetPeriodDelta other) {
+        return new BudgetPeriodDelta(budgetId, day, amount.add(other.amount), count + other.count);
+    }
+
+    boolean isZero() {
+        return amount.signum() == 0 && count == 0;
+    }
+
+    record Key(Long budgetId, LocalDate day) {
+    }
+}
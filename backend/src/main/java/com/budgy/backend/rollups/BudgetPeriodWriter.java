@@ -0,0 +1,40 @@
+package com.budgy.backend.rollups;
+
+import com.budgy.backend.repositories.BudgetPeriodTotalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Budget Period Writer
+ * <p>
+ * Keeps budget_period_totals in step with transactions, like MonthlyRollupWriter does for
+ * monthly_rollups: called in the same database transaction as the transaction row.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BudgetPeriodWriter {
+
+    private final BudgetPeriodTotalRepository budgetPeriodTotalRepository;
+
+    /**
+     * Apply deltas, merging those of the same budget and day first
+     */
+    public void apply(Collection<BudgetPeriodDelta> deltas) {
+        Map<BudgetPeriodDelta.Key, BudgetPeriodDelta> merged = new LinkedHashMap<>();
+        for (BudgetPeriodDelta delta : deltas) {
+            merged.merge(delta.key(), delta, BudgetPeriodDelta::plus);
+        }
+
+        for (BudgetPeriodDelta delta : merged.values()) {
+            if (!delta.isZero()) {
+                budgetPeriodTotalRepository.addDelta(delta.budgetId(), delta.day(), delta.amount(), delta.count());
+            }
+        }
+    }
+}
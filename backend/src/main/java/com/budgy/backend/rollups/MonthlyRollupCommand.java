@@ -0,0 +1,62 @@
+package com.budgy.backend.rollups;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Monthly rollup maintenance command
+ * <p>
+ * Runs one maintenance task, then exits:
+ * java -jar backend.jar --rollups.command=backfill|check --spring.main.web-application-type=none
+ * check exits with code 1 and logs the first mismatches if rollups and transactions disagree.
+ * With --rollups.exit=false the application keeps running after the task and only logs its result.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rollups.command")
+public class MonthlyRollupCommand implements ApplicationRunner {
+
+    private static final int LOGGED_MISMATCHES = 50;
+
+    private final MonthlyRollupMaintenance monthlyRollupMaintenance;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${rollups.command}")
+    private String command;
+
+    @Value("${rollups.exit:true}")
+    private boolean exit;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = switch (command) {
+            case "backfill" -> {
+                monthlyRollupMaintenance.backfillAll();
+                yield 0;
+            }
+            case "check" -> {
+                List<RollupMismatch> mismatches = monthlyRollupMaintenance.checkAll();
+                mismatches.stream().limit(LOGGED_MISMATCHES).forEach(mismatch -> log.warn("{}", mismatch));
+                yield mismatches.isEmpty() ? 0 : 1;
+            }
+            default -> {
+                log.error("Unknown rollups.command '{}', expected backfill or check", command);
+                yield 2;
+            }
+        };
+        if (exit) {
+            System.exit(SpringApplication.exit(context, () -> exitCode));
+        }
+        log.info("Rollup command '{}' finished with exit code {}", command, exitCode);
+    }
+}
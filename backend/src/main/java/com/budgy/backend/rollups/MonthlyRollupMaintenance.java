@@ -0,0 +1,178 @@
+package com.budgy.backend.rollups;
+
+import com.budgy.backend.dto.projection.MonthlyTotal;
+import com.budgy.backend.enums.TransactionType;
+import com.budgy.backend.repositories.BudgetPeriodTotalRepository;
+import com.budgy.backend.repositories.MonthlyRollupRepository;
+import com.budgy.backend.repositories.TransactionRepository;
+import com.budgy.backend.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Monthly Rollup Maintenance
+ * <p>
+ * Backfill rebuilds monthly_rollups from transactions, and the consistency check compares the
+ * two. Both split users into chunks of consecutive ids (rollups.chunk-size) processed
+ * rollups.parallelism at a time, each chunk in its own database transaction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyRollupMaintenance {
+
+    private static final int BACKFILL_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final TransactionRepository transactionRepository;
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final BudgetPeriodTotalRepository budgetPeriodTotalRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${rollups.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${rollups.parallelism:4}")
+    private int parallelism;
+
+    // ==================== BACKFILL ====================
+
+    /**
+     * Replace every user's rollups and budget period totals with totals recomputed from their transactions
+     * Live writes to a chunk wait for its transaction; a chunk that loses a deadlock
+     * against them is retried.
+     *
+     * @return number of rollup rows written
+     */
+    public long backfillAll() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ConcurrentLinkedQueue<Integer> written = new ConcurrentLinkedQueue<>();
+
+        forEachChunk(chunk -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    Integer rows = transactionTemplate.execute(status -> {
+                        monthlyRollupRepository.deleteByUserRange(chunk.fromUserId(), chunk.toUserId());
+                        budgetPeriodTotalRepository.deleteByUserRange(chunk.fromUserId(), chunk.toUserId());
+                        budgetPeriodTotalRepository.backfillUserRange(chunk.fromUserId(), chunk.toUserId());
+                        return monthlyRollupRepository.backfillUserRange(chunk.fromUserId(), chunk.toUserId());
+                    });
+                    written.add(rows);
+                    return;
+                } catch (PessimisticLockingFailureException e) {
+                    if (attempt == BACKFILL_ATTEMPTS) {
+                        throw e;
+                    }
+                    log.warn("Rollup backfill of users {}..{} hit a lock conflict, retrying",
+                            chunk.fromUserId(), chunk.toUserId());
+                }
+            }
+        });
+
+        long total = written.stream().mapToLong(Integer::longValue).sum();
+        log.info("Backfilled {} monthly rollup rows", total);
+        return total;
+    }
+
+    // ==================== CONSISTENCY CHECK ====================
+
+    /**
+     * Compare every rollup row with the totals recomputed from transactions
+     * Rows with a zero sum and count are treated as missing.
+     *
+     * @return all mismatches, empty if rollups and transactions agree
+     */
+    public List<RollupMismatch> checkAll() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        ConcurrentLinkedQueue<RollupMismatch> mismatches = new ConcurrentLinkedQueue<>();
+
+        forEachChunk(chunk -> transactionTemplate.executeWithoutResult(status -> mismatches.addAll(compare(
+                transactionRepository.sumMonthlyByUserRange(chunk.fromUserId(), chunk.toUserId()),
+                monthlyRollupRepository.findTotalsByUserRange(chunk.fromUserId(), chunk.toUserId())))));
+
+        log.info("Monthly rollup check found {} mismatches", mismatches.size());
+        return new ArrayList<>(mismatches);
+    }
+
+    static List<RollupMismatch> compare(List<MonthlyTotal> expected, List<MonthlyTotal> actual) {
+        Map<TotalKey, MonthlyTotal> expectedByKey = byKey(expected);
+        Map<TotalKey, MonthlyTotal> actualByKey = byKey(actual);
+
+        Set<TotalKey> keys = new HashSet<>(expectedByKey.keySet());
+        keys.addAll(actualByKey.keySet());
+
+        List<RollupMismatch> mismatches = new ArrayList<>();
+        for (TotalKey key : keys) {
+            MonthlyTotal want = expectedByKey.get(key);
+            MonthlyTotal have = actualByKey.get(key);
+            BigDecimal wantAmount = want != null ? want.amount() : BigDecimal.ZERO;
+            BigDecimal haveAmount = have != null ? have.amount() : BigDecimal.ZERO;
+            long wantCount = want != null ? want.count() : 0;
+            long haveCount = have != null ? have.count() : 0;
+
+            if (wantAmount.compareTo(haveAmount) != 0 || wantCount != haveCount) {
+                MonthlyTotal any = want != null ? want : have;
+                mismatches.add(new RollupMismatch(any.userId(), any.year(), any.month(), any.type(), any.category(),
+                        wantAmount, wantCount, haveAmount, haveCount));
+            }
+        }
+        return mismatches;
+    }
+
+    private static Map<TotalKey, MonthlyTotal> byKey(List<MonthlyTotal> totals) {
+        Map<TotalKey, MonthlyTotal> byKey = new HashMap<>();
+        for (MonthlyTotal total : totals) {
+            byKey.put(new TotalKey(total.userId(), total.year(), total.month(), total.type(), total.category()), total);
+        }
+        return byKey;
+    }
+
+    private record TotalKey(Long userId, Integer year, Integer month, TransactionType type, String category) {
+    }
+
+    // ==================== CHUNKING ====================
+
+    private void forEachChunk(Consumer<UserChunk> work) {
+        List<Long> userIds = userRepository.findAllIds();
+        List<UserChunk> chunks = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i += chunkSize) {
+            List<Long> ids = userIds.subList(i, Math.min(i + chunkSize, userIds.size()));
+            chunks.add(new UserChunk(ids.get(0), ids.get(ids.size() - 1)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            CompletableFuture.allOf(chunks.stream()
+                            .map(chunk -> CompletableFuture.runAsync(() -> work.accept(chunk), executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Users with fromUserId <= id <= toUserId; ids are sorted, so chunks never overlap
+     */
+    private record UserChunk(Long fromUserId, Long toUserId) {
+    }
+}
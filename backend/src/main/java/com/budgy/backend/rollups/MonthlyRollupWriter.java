@@ -0,0 +1,44 @@
+package com.budgy.backend.rollups;
+
+import com.budgy.backend.repositories.MonthlyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Monthly Rollup Writer
+ * <p>
+ * Keeps monthly_rollups in step with transactions. Called by the transaction write paths in
+ * the same database transaction as the transaction row, so a rollup never counts a
+ * transaction that was rolled back.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MonthlyRollupWriter {
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+
+    /**
+     * Apply deltas, merging those with the same key first
+     * An update that keeps month, type and category becomes a single amount change, and
+     * a batch of imported transactions costs one upsert per distinct key.
+     */
+    public void apply(Collection<RollupDelta> deltas) {
+        Map<RollupDelta.Key, RollupDelta> merged = new LinkedHashMap<>();
+        for (RollupDelta delta : deltas) {
+            merged.merge(delta.key(), delta, RollupDelta::plus);
+        }
+
+        for (RollupDelta delta : merged.values()) {
+            if (!delta.isZero()) {
+                monthlyRollupRepository.addDelta(delta.userId(), delta.monthStart(), delta.type().name(),
+                        delta.category(), delta.amount(), delta.count());
+            }
+        }
+    }
+}
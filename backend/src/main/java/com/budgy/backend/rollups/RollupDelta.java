@@ -0,0 +1,51 @@
+package com.budgy.backend.rollups;
+
+import com.budgy.backend.entities.Transaction;
+import com.budgy.backend.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Change to one monthly rollup row: the key it belongs to plus sum and count deltas
+ */
+public record RollupDelta(
+        Long userId,
+        LocalDate monthStart,
+        TransactionType type,
+        String category,
+        BigDecimal amount,
+        int count
+) {
+
+    /**
+     * Delta that adds (sign = 1) or removes (sign = -1) a transaction as it is now
+     * For an update, take the removal before mutating the entity and the addition after.
+     * The amount is normalized by type (TransactionType.signedAmount), whatever sign it was stored with.
+     */
+    public static RollupDelta of(Transaction transaction, int sign) {
+        BigDecimal amount = transaction.getType().signedAmount(transaction.getAmount());
+        return new RollupDelta(
+                transaction.getUser().getId(),
+                transaction.getTransactionDate().withDayOfMonth(1),
+                transaction.getType(),
+                transaction.getCategory(),
+                sign < 0 ? amount.negate() : amount,
+                sign < 0 ? -1 : 1);
+    }
+
+    Key key() {
+        return new Key(userId, monthStart, type, category);
+    }
+
+    RollupDelta plus(RollupDelta other) {
+        return new RollupDelta(userId, monthStart, type, category, amount.add(other.amount), count + other.count);
+    }
+
+    boolean isZero() {
+        return amount.signum() == 0 && count == 0;
+    }
+
+    record Key(Long userId, LocalDate monthStart, TransactionType type, String category) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.budgy.backend.rollups;
+
+import com.budgy.backend.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * Rollup row that disagrees with the transactions it summarizes
+ * expected* are recomputed from transactions, actual* are read from monthly_rollups
+ * (zero when the row is missing).
+ */
+public record RollupMismatch(
+        Long userId,
+        int year,
+        int month,
+        TransactionType type,
+        String category,
+        BigDecimal expectedAmount,
+        long expectedCount,
+        BigDecimal actualAmount,
+        long actualCount
+) {
+}
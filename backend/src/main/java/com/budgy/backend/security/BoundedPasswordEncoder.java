@@ -0,0 +1,167 @@
+package com.budgy.backend.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded Password Encoder
+ * <p>
+ * Runs the delegate's CPU-bound hashing (BCrypt) on a dedicated pool of core-sized threads
+ * with a bounded queue, so a burst of logins or registrations keeps at most threads + queue
+ * requests busy instead of every servlet worker. A hash that cannot be queued, or that does
+ * not finish within max-wait, fails fast with RejectedExecutionException (503).
+ * <p>
+ * upgradeEncoding reports hashes stored with a cost other than the configured strength, so
+ * Spring Security rehashes them on the next successful login (see UserService.updatePassword).
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final long maxWaitNanos;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param strength the delegate's BCrypt cost, which stored hashes are upgraded to
+     * @param threads  hashing threads, 0 = one per core
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int strength, int threads,
+                                  int queueCapacity, Duration maxWait) {
+        this.delegate = delegate;
+        this.strength = strength;
+        this.maxWaitNanos = maxWait.toNanos();
+        int threadCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * True for BCrypt hashes ($2a$10$...) whose cost differs from the configured strength
+     * Lowering the strength also rehashes, so a cost that proved too slow can be backed out.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || !encodedPassword.startsWith("$2")) {
+            return false;
+        }
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        try {
+            return Integer.parseInt(encodedPassword.substring(costStart, costStart + 2)) != strength;
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Run one hash on the pool and wait for it
+     *
+     * @throws RejectedExecutionException if the queue is full or the hash took longer than max-wait
+     */
+    private <T> T hash(Supplier<T> work) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                waitNanos.add(started - submitted);
+                try {
+                    return work.get();
+                } finally {
+                    long took = System.nanoTime() - started;
+                    hashNanos.add(took);
+                    maxHashNanos.accumulate(took);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new RejectedExecutionException("Too many password checks in progress, try again shortly");
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new RejectedExecutionException("Password check took too long, try again shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a password check");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public PasswordHashingStats stats() {
+        long count = completed.sum();
+        return new PasswordHashingStats(
+                executor.getQueue().size(),
+                executor.getActiveCount(),
+                count,
+                rejected.sum(),
+                timedOut.sum(),
+                count == 0 ? 0 : waitNanos.sum() / count / 1_000_000.0,
+                count == 0 ? 0 : hashNanos.sum() / count / 1_000_000.0,
+                maxHashNanos.get() / 1_000_000.0
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${password-hashing.stats-log-interval:5m}",
+            initialDelayString = "${password-hashing.stats-log-interval:5m}")
+    public void logStats() {
+        PasswordHashingStats stats = stats();
+        if (stats.completed() + stats.rejected() > 0) {
+            log.info("Password hashing: queued={}, active={}, completed={}, rejected={}, timedOut={}, " +
+                            "avgWait={}ms, avgHash={}ms, maxHash={}ms",
+                    stats.queued(), stats.active(), stats.completed(), stats.rejected(), stats.timedOut(),
+                    String.format("%.1f", stats.averageWaitMillis()), String.format("%.1f", stats.averageHashMillis()),
+                    String.format("%.1f", stats.maxHashMillis()));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+}
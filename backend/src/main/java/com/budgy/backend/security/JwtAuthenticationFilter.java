@@ -1,11 +1,13 @@
 package com.budgy.backend.security;
 
+import com.budgy.backend.enums.AuthMode;
 import com.budgy.backend.services.UserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,13 +22,21 @@ import java.io.IOException;
  * <p>
  * This filter intercepts every HTTP request to check for a valid JWT token.
  * If valid, it authenticates the user for that request.
+ * Revoked tokens are rejected from memory (TokenRevocations). With jwt.auth-mode=database the
+ * principal comes from PrincipalCache; with claims it is built from the token alone, so
+ * authenticating a request never touches the database.
  */
 @Component
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserService userService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocations tokenRevocations;
+
+    @Value("${jwt.auth-mode:database}")
+    private AuthMode authMode;
 
     @Override
     protected void doFilterInternal(
@@ -43,24 +53,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authorizationHeader.substring(7);
-        final String username;
+        final VerifiedToken token;
+        final boolean revoked;
 
         try {
-            username = jwtUtil.extractUsername(jwt);
+            // One pass checks format, signature and expiry; repeated tokens come from memory
+            token = jwtUtil.verify(jwt);
+            revoked = tokenRevocations.isRevoked(token);
         } catch (Exception e) {
             logger.error("JWT validation failed", e);
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid Token");
             return;
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userService.loadUserByUsername(username);
+        if (revoked) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token has been revoked");
+            return;
+        }
+
+        if (token.subject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Tokens carry the user id, so the principal is usually served from memory
+            UserDetails userDetails;
+            if (token.userId() == null) {
+                userDetails = userService.loadUserByUsername(token.subject());
+            } else if (authMode == AuthMode.CLAIMS) {
+                userDetails = UserDetailsImpl.principalOf(token);
+            } else {
+                userDetails = principalCache.get(token.userId(), () -> userService.loadPrincipal(token.userId()));
+            }
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            // The user must still have the email the token was issued to
+            if (token.subject().equals(userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authenticationToken =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails,
-                                null,
+                                // Lets a password change spare the token it was made with
+                                token,
                                 userDetails.getAuthorities()
                         );
                 authenticationToken.setDetails(
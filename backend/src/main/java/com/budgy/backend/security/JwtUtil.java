@@ -1,35 +1,82 @@
 package com.budgy.backend.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
  * JWT Utility Class
  * <p>
  * Handles all JWT operations: generation, validation, and extraction of information.
+ * The signing key and parser are built once and shared (both are thread-safe). verify checks
+ * a token in one pass and remembers the result until the token expires, so a client repeating
+ * its token is verified once.
  */
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Long expiration;
+    private final VerifiedTokenCache verifiedTokens;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") Long expiration,
+                   @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.expiration = expiration;
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
+    }
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    /**
+     * Check the token's format, signature and expiry and return its claims
+     * Tokens verified before are served from memory until they expire.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokens.get(token, Instant.now());
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = extractAllClaims(token);
+        VerifiedToken verified = new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("id", Long.class),
+                claims.get("name", String.class),
+                claims.get("initials", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+        // Tokens without an expiry would never leave the cache
+        if (verified.expiresAt() != null) {
+            verifiedTokens.put(token, verified);
+        }
+        return verified;
+    }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     public Date extractExpiration(String token) {
@@ -43,41 +90,67 @@ public class JwtUtil {
 
     private Claims extractAllClaims(String token) {
         validateTokenFormat(token);
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
      * Validates JWT token format to ensure strict Base64 encoding
+     * A signature is canonical when it uses the URL-safe alphabet without padding and the bits
+     * of its last character past the signature bytes are zero (the same result as decoding and
+     * re-encoding it, without the copies).
      */
-    private void validateTokenFormat(String token) {
-        String[] parts = token.split("\\.");
-        if (parts.length != 3) {
-            throw new io.jsonwebtoken.MalformedJwtException("JWT must have 3 parts");
+    private static void validateTokenFormat(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new MalformedJwtException("JWT must have 3 parts");
         }
 
-        String signature = parts[2];
-        if (signature.length() > 0) {
-            try {
-                byte[] decoded = java.util.Base64.getUrlDecoder().decode(signature);
-                String canonical = java.util.Base64.getUrlEncoder().withoutPadding().encodeToString(decoded);
-
-                if (!signature.equals(canonical)) {
-                    throw new io.jsonwebtoken.security.SignatureException(
-                            "JWT signature has invalid Base64 padding - token may have been tampered with"
-                    );
-                }
-            } catch (IllegalArgumentException e) {
-                throw new io.jsonwebtoken.MalformedJwtException("Invalid Base64 encoding in signature");
+        int start = secondDot + 1;
+        int length = token.length() - start;
+        if (length == 0) {
+            return;
+        }
+        if (length % 4 == 1) {
+            throw new MalformedJwtException("Invalid Base64 encoding in signature");
+        }
+        int last = 0;
+        for (int i = start; i < token.length(); i++) {
+            last = base64UrlValue(token.charAt(i));
+            if (last < 0) {
+                throw new MalformedJwtException("Invalid Base64 encoding in signature");
             }
         }
+        // 2 trailing characters carry 1 byte (4 spare bits), 3 carry 2 bytes (2 spare bits)
+        int spareBits = switch (length % 4) {
+            case 2 -> 0x0F;
+            case 3 -> 0x03;
+            default -> 0;
+        };
+        if ((last & spareBits) != 0) {
+            throw new SignatureException(
+                    "JWT signature has invalid Base64 padding - token may have been tampered with"
+            );
+        }
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static int base64UrlValue(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 26;
+        }
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 52;
+        }
+        if (c == '-') {
+            return 62;
+        }
+        if (c == '_') {
+            return 63;
+        }
+        return -1;
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -99,20 +172,17 @@ public class JwtUtil {
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .claims(claims)
+                // Token id, so a single token can be revoked (see TokenRevocations)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        final VerifiedToken verified = verify(token);
+        return (verified.subject().equals(userDetails.getUsername()) && !verified.isExpired(Instant.now()));
     }
-}
\ No newline at end of file
+}
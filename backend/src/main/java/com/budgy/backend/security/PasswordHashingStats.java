@@ -0,0 +1,17 @@
+package com.budgy.backend.security;
+
+/**
+ * Counters of BoundedPasswordEncoder since startup, plus its current queue depth
+ * Wait is the time a hash spent queued, hash the time the delegate took.
+ */
+public record PasswordHashingStats(
+        int queued,
+        int active,
+        long completed,
+        long rejected,
+        long timedOut,
+        double averageWaitMillis,
+        double averageHashMillis,
+        double maxHashMillis
+) {
+}
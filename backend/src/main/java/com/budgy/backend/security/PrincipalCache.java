@@ -0,0 +1,49 @@
+package com.budgy.backend.security;
+
+import com.budgy.backend.cache.AfterCommit;
+import com.budgy.backend.cache.CacheStats;
+import com.budgy.backend.cache.CacheStatsLogger;
+import com.budgy.backend.cache.UserCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Principal Cache
+ * <p>
+ * Principals of authenticated requests by user id, so JwtAuthenticationFilter does not query
+ * the user on every request. A principal holds the user's identity only, so it is evicted by
+ * account changes (UserService.updateUser/deleteUser) and not by the balance and transaction
+ * writes that UserCacheInvalidator handles; that is why this UserCache is not a bean, and is
+ * registered with CacheStatsLogger directly.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserCache<UserDetailsImpl> principals;
+
+    public PrincipalCache(@Value("${caches.principals.max-size:10000}") int maxSize,
+                          @Value("${caches.principals.ttl:10m}") Duration ttl,
+                          CacheStatsLogger cacheStatsLogger) {
+        this.principals = new UserCache<>("Principals", maxSize, ttl);
+        cacheStatsLogger.register(principals);
+    }
+
+    public UserDetailsImpl get(Long userId, Supplier<UserDetailsImpl> loader) {
+        return principals.get(userId, loader);
+    }
+
+    /**
+     * Evict the user's principal once the current database transaction commits
+     * (immediately when called outside a transaction)
+     */
+    public void invalidate(Long userId) {
+        AfterCommit.run(() -> principals.evict(userId));
+    }
+
+    public CacheStats stats() {
+        return principals.stats();
+    }
+}
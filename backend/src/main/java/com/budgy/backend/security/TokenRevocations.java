@@ -0,0 +1,171 @@
+package com.budgy.backend.security;
+
+import com.budgy.backend.cache.AfterCommit;
+import com.budgy.backend.entities.TokenRevocation;
+import com.budgy.backend.repositories.TokenRevocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token Revocations
+ * <p>
+ * Revoked tokens, checked on every authenticated request without touching the database.
+ * A token is revoked by its id (logout), or with every other token of its user issued up to
+ * a point in time (password change, account deletion), sparing the token that changed the
+ * password. Each revocation is stored in token_revocations and kept in memory as an exact map
+ * behind a Bloom filter keyed the same way, so the common case (a token that was never
+ * revoked) is answered by the filter alone.
+ * <p>
+ * The set is loaded on first use and reloaded from the database every
+ * jwt.revocation.refresh-interval, which purges expired rows, resizes the filter and picks
+ * up revocations written by other instances.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocations {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${jwt.expiration}")
+    private long expirationMillis;
+
+    // Revocations the filter is sized for between reloads
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private int expectedEntries;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Replaced as a whole by reload; revocations made in between are added to it
+    private volatile Snapshot snapshot;
+
+    /**
+     * Whether the verified token was revoked
+     * The Bloom filter answers for tokens never revoked; only possible matches read the map.
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        Snapshot current = loaded();
+        if (token.tokenId() != null && current.filter().mightContain(tokenKey(token.tokenId()))
+                && current.revocations().containsKey(tokenKey(token.tokenId()))) {
+            return true;
+        }
+        if (token.userId() != null && current.filter().mightContain(userKey(token.userId()))) {
+            Revocation revocation = current.revocations().get(userKey(token.userId()));
+            // Tokens without an issue time cannot prove they came after the revocation
+            return revocation != null
+                    && (token.issuedAt() == null || !token.issuedAt().isAfter(revocation.issuedBefore()))
+                    && !revocation.exempts(token.tokenId());
+        }
+        return false;
+    }
+
+    /**
+     * Revoke one token (logout)
+     * Stored in the caller's database transaction and applied in memory once it commits.
+     */
+    public void revokeToken(VerifiedToken token) {
+        save(new TokenRevocation(tokenKey(token.tokenId()), null, null, token.expiresAt()));
+    }
+
+    /**
+     * Revoke every token of the user issued up to now (account deletion)
+     * Token issue times have whole seconds, so a token issued later in the same second is revoked too.
+     */
+    public void revokeUser(Long userId) {
+        revokeUser(userId, null);
+    }
+
+    /**
+     * Revoke every token of the user issued up to now except the one with exemptTokenId
+     * (password change, where the token that made the change keeps working)
+     */
+    public void revokeUser(Long userId, String exemptTokenId) {
+        Instant now = Instant.now();
+        save(new TokenRevocation(userKey(userId), now.truncatedTo(ChronoUnit.SECONDS), exemptTokenId,
+                now.plus(Duration.ofMillis(expirationMillis))));
+    }
+
+    /**
+     * Purge expired revocations and reload the rest, rebuilding the filter
+     */
+    @Scheduled(initialDelayString = "${jwt.revocation.refresh-interval:1m}",
+            fixedDelayString = "${jwt.revocation.refresh-interval:1m}")
+    public void reload() {
+        Instant now = Instant.now();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int purged = transactionTemplate.execute(status -> tokenRevocationRepository.deleteExpired(now));
+
+        // Revocations committed while the rows are read wait here and go into the new snapshot
+        synchronized (this) {
+            List<TokenRevocation> rows = tokenRevocationRepository.findActive(now);
+            BloomFilter filter = BloomFilter.create(Math.max(expectedEntries, rows.size() * 2), falsePositiveRate);
+            Map<String, Revocation> revocations = new ConcurrentHashMap<>();
+            for (TokenRevocation row : rows) {
+                filter.add(row.getRevocationKey());
+                revocations.put(row.getRevocationKey(), Revocation.of(row));
+            }
+            snapshot = new Snapshot(filter, revocations);
+            log.debug("Loaded {} token revocations, purged {} expired", rows.size(), purged);
+        }
+    }
+
+    private Snapshot loaded() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private void save(TokenRevocation revocation) {
+        tokenRevocationRepository.save(revocation);
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                Snapshot current = loaded();
+                current.revocations().put(revocation.getRevocationKey(), Revocation.of(revocation));
+                current.filter().add(revocation.getRevocationKey());
+            }
+        });
+    }
+
+    private static String tokenKey(String tokenId) {
+        return "t:" + tokenId;
+    }
+
+    private static String userKey(Long userId) {
+        return "u:" + userId;
+    }
+
+    private record Revocation(Instant issuedBefore, String exemptTokenId, Instant expiresAt) {
+
+        static Revocation of(TokenRevocation row) {
+            return new Revocation(row.getIssuedBefore(), row.getExemptTokenId(), row.getExpiresAt());
+        }
+
+        boolean exempts(String tokenId) {
+            return exemptTokenId != null && exemptTokenId.equals(tokenId);
+        }
+    }
+
+    private record Snapshot(BloomFilter filter, Map<String, Revocation> revocations) {
+    }
+}
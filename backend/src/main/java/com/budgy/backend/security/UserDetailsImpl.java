@@ -21,6 +21,33 @@ public class UserDetailsImpl implements UserDetails {
 
     private final User user;
 
+    /**
+     * Principal for authenticated requests: a detached copy of the user's identity, without the
+     * password, balance or collections, that PrincipalCache can share between requests
+     */
+    public static UserDetailsImpl principalOf(User user) {
+        User identity = new User();
+        identity.setId(user.getId());
+        identity.setName(user.getName());
+        identity.setEmail(user.getEmail());
+        identity.setInitials(user.getInitials());
+        identity.setCurrentBalance(null);
+        return new UserDetailsImpl(identity);
+    }
+
+    /**
+     * The same identity built from a verified token's claims alone (jwt.auth-mode=claims)
+     */
+    public static UserDetailsImpl principalOf(VerifiedToken token) {
+        User identity = new User();
+        identity.setId(token.userId());
+        identity.setName(token.name());
+        identity.setEmail(token.subject());
+        identity.setInitials(token.initials());
+        identity.setCurrentBalance(null);
+        return new UserDetailsImpl(identity);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         // For now, return empty list. Later we can add roles like ROLE_USER, ROLE_ADMIN
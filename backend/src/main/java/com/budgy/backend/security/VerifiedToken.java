@@ -0,0 +1,23 @@
+package com.budgy.backend.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a token whose signature, format and expiry JwtUtil.verify has checked
+ * tokenId (jti), userId, name and initials are the claims written by JwtUtil.generateToken;
+ * they and the times are null for tokens without those claims.
+ */
+public record VerifiedToken(
+        String tokenId,
+        String subject,
+        Long userId,
+        String name,
+        String initials,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,53 @@
+package com.budgy.backend.security;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Verified Token Cache
+ * <p>
+ * Tokens JwtUtil.verify has already checked, keyed by the whole token string, so a request
+ * repeating a token skips the HMAC and JSON parsing. Bounded to max-size entries, least
+ * recently used first, and an entry is never served past its token's expiry.
+ */
+final class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, VerifiedToken> tokens;
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        // Access order: iteration starts at the least recently used entry
+        this.tokens = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * The verified claims of the token, or null if it is not cached or has expired
+     */
+    VerifiedToken get(String token, Instant now) {
+        synchronized (tokens) {
+            VerifiedToken verified = tokens.get(token);
+            if (verified != null && verified.isExpired(now)) {
+                tokens.remove(token);
+                return null;
+            }
+            return verified;
+        }
+    }
+
+    void put(String token, VerifiedToken verified) {
+        if (maxSize <= 0) {
+            return;
+        }
+        synchronized (tokens) {
+            tokens.put(token, verified);
+            Iterator<String> eldest = tokens.keySet().iterator();
+            while (tokens.size() > maxSize && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.budgy.backend.services;
+
+import com.budgy.backend.dto.projection.DailyBalance;
+import com.budgy.backend.dto.response.BalanceHistoryDTO;
+import com.budgy.backend.dto.response.BalancePointDTO;
+import com.budgy.backend.exceptions.BadRequestException;
+import com.budgy.backend.exceptions.ResourceNotFoundException;
+import com.budgy.backend.repositories.TransactionRepository;
+import com.budgy.backend.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Balance History Service
+ * <p>
+ * End-of-day balances over a date range, worked back from the user's current balance by one
+ * window-function query. The query returns only days with transactions; the days in between
+ * carry the previous day's balance forward.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BalanceHistoryService {
+
+    static final int DEFAULT_DAYS = 30;
+    static final int MAX_DAYS = 731;
+
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * @param from first day, defaults to DEFAULT_DAYS before to
+     * @param to   last day, defaults to today
+     * @throws BadRequestException if from is after to or the range is longer than MAX_DAYS
+     * @throws ResourceNotFoundException if user not found
+     */
+    @Transactional(readOnly = true)
+    public BalanceHistoryDTO getBalanceHistory(Long userId, LocalDate from, LocalDate to) {
+        LocalDate lastDay = to != null ? to : LocalDate.now();
+        LocalDate firstDay = from != null ? from : lastDay.minusDays(DEFAULT_DAYS - 1);
+        if (firstDay.isAfter(lastDay)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(firstDay, lastDay) + 1 > MAX_DAYS) {
+            throw new BadRequestException("Range must not be longer than " + MAX_DAYS + " days");
+        }
+
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+
+        // Starts with the row without a day that carries the opening balance
+        List<DailyBalance> rows = transactionRepository.findDailyBalances(userId, firstDay, lastDay);
+        BigDecimal openingBalance = rows.isEmpty() ? BigDecimal.ZERO : rows.get(0).getOpeningBalance();
+
+        // ==================== FILL EVERY DAY ====================
+
+        List<BalancePointDTO> points = new ArrayList<>();
+        Iterator<DailyBalance> changes = rows.stream().filter(row -> row.getDay() != null).iterator();
+        DailyBalance nextChange = changes.hasNext() ? changes.next() : null;
+        BigDecimal balance = openingBalance;
+
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            if (nextChange != null && nextChange.getDay().equals(day)) {
+                balance = nextChange.getEndBalance();
+                nextChange = changes.hasNext() ? changes.next() : null;
+            }
+            points.add(BalancePointDTO.builder()
+                    .date(day)
+                    .balance(balance)
+                    .build());
+        }
+
+        return BalanceHistoryDTO.builder()
+                .from(firstDay)
+                .to(lastDay)
+                .openingBalance(openingBalance)
+                .points(points)
+                .build();
+    }
+}
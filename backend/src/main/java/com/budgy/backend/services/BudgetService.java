@@ -1,19 +1,30 @@
 package com.budgy.backend.services;
 
 import com.budgy.backend.dto.BudgetDTO;
+import com.budgy.backend.dto.projection.BudgetPeriodSpend;
+import com.budgy.backend.dto.projection.BudgetView;
 import com.budgy.backend.dto.response.BudgetResponseDTO;
 import com.budgy.backend.entities.Budget;
 import com.budgy.backend.entities.User;
+import com.budgy.backend.enums.BudgetPeriod;
 import com.budgy.backend.exceptions.BadRequestException;
 import com.budgy.backend.exceptions.ResourceNotFoundException;
 import com.budgy.backend.mappers.BudgetMapper;
+import com.budgy.backend.repositories.BudgetPeriodTotalRepository;
 import com.budgy.backend.repositories.BudgetRepository;
+import com.budgy.backend.repositories.TransactionRepository;
 import com.budgy.backend.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,19 +32,51 @@ import java.util.stream.Collectors;
 @Transactional
 public class BudgetService {
 
+    // Previous periods returned with each budget
+    static final int HISTORY_PERIODS = 6;
+
     private final BudgetRepository budgetRepository;
+    private final BudgetPeriodTotalRepository budgetPeriodTotalRepository;
     private final UserRepository userRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final EntityManager entityManager;
 
+    /**
+     * Budgets with their current-period spend and history, read from the period counters
+     * of all budgets in one query
+     */
+    @Transactional(readOnly = true)
     public List<BudgetResponseDTO> getAllBudgetsByUser(Long userId) {
-        return budgetRepository.findByUserId(userId).stream()
-                .map(BudgetMapper::toResponse)
+        List<BudgetView> budgets = budgetRepository.findByUserId(userId);
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<Long, List<LocalDate>> periodStarts = budgets.stream()
+                .collect(Collectors.toMap(BudgetView::id, budget -> periodStarts(budget, today)));
+        LocalDate since = periodStarts.values().stream()
+                .map(List::getLast)
+                .min(Comparator.naturalOrder())
+                .orElse(today);
+
+        Map<Long, Map<LocalDate, BudgetPeriodSpend>> spendByBudget =
+                budgetPeriodTotalRepository.findByUserIdSince(userId, since).stream()
+                        .collect(Collectors.groupingBy(BudgetPeriodSpend::budgetId,
+                                Collectors.toMap(BudgetPeriodSpend::periodStart, Function.identity())));
+
+        return budgets.stream()
+                .map(budget -> BudgetMapper.toResponse(budget, periodStarts.get(budget.id()),
+                        spendByBudget.getOrDefault(budget.id(), Map.of())))
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public BudgetResponseDTO getBudgetById(Long id) {
-        Budget budget = budgetRepository.findById(id)
+        BudgetView budget = budgetRepository.findViewById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Budget", "id", id));
-        return BudgetMapper.toResponse(budget);
+        return toResponseWithPeriods(budget);
     }
 
     public BudgetResponseDTO createBudget(Long userId, BudgetDTO dto) {
@@ -45,7 +88,7 @@ public class BudgetService {
             throw new BadRequestException("Budget for category '" + dto.getCategory() + "' already exists");
         }
 
-        Budget budget = BudgetMapper.toEntity(dto, user);
+        Budget budget = BudgetMapper.toEntity(dto, user, resolvePeriod(dto));
         Budget savedBudget = budgetRepository.save(budget);
 
         return BudgetMapper.toResponse(savedBudget);
@@ -61,15 +104,72 @@ public class BudgetService {
             throw new BadRequestException("Budget for category '" + dto.getCategory() + "' already exists");
         }
 
-        BudgetMapper.updateEntity(budget, dto);
-        Budget updatedBudget = budgetRepository.save(budget);
+        BudgetPeriod period = resolvePeriod(dto);
+        boolean periodChanged = budget.getPeriod() != period
+                || !Objects.equals(budget.getPeriodAnchor(), period == BudgetPeriod.CUSTOM ? dto.getPeriodAnchor() : null)
+                || !Objects.equals(budget.getPeriodDays(), period == BudgetPeriod.CUSTOM ? dto.getPeriodDays() : null);
+
+        BudgetMapper.updateEntity(budget, dto, period);
+        budgetRepository.save(budget);
 
-        return BudgetMapper.toResponse(updatedBudget);
+        if (periodChanged) {
+            rebuildPeriodTotals(budget);
+        }
+        return toResponseWithPeriods(budgetRepository.findViewById(id).orElseThrow());
     }
 
     public void deleteBudget(Long id) {
         Budget budget = budgetRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Budget", "id", id));
+        // The linked transactions go too; the user row stays locked so none is added meanwhile
+        Long userId = budget.getUser().getId();
+        userRepository.lockLedgerVersion(userId);
+        transactionBatchWriter.delete(userId, transactionRepository.findByBudgetId(id));
         budgetRepository.delete(budget);
     }
-}
\ No newline at end of file
+
+    // ==================== PERIODS ====================
+
+    private BudgetResponseDTO toResponseWithPeriods(BudgetView budget) {
+        List<LocalDate> starts = periodStarts(budget, LocalDate.now());
+        Map<LocalDate, BudgetPeriodSpend> spendByStart =
+                budgetPeriodTotalRepository.findByBudgetIdSince(budget.id(), starts.getLast()).stream()
+                        .collect(Collectors.toMap(BudgetPeriodSpend::periodStart, Function.identity()));
+        return BudgetMapper.toResponse(budget, starts, spendByStart);
+    }
+
+    private static List<LocalDate> periodStarts(BudgetView budget, LocalDate today) {
+        return budget.period().recentStarts(today, budget.periodAnchor(), budget.periodDays(), HISTORY_PERIODS + 1);
+    }
+
+    /**
+     * Regroup the budget's transactions under its new period settings
+     * The user row stays locked meanwhile, so no transaction of the user can commit in between.
+     */
+    private void rebuildPeriodTotals(Budget budget) {
+        userRepository.lockLedgerVersion(budget.getUser().getId());
+        // The native rebuild reads the new period settings from the budgets row
+        entityManager.flush();
+        budgetPeriodTotalRepository.deleteByBudgetId(budget.getId());
+        budgetPeriodTotalRepository.backfillBudget(budget.getId());
+    }
+
+    /**
+     * @throws BadRequestException if the period is unknown, or custom without anchor and length
+     */
+    private static BudgetPeriod resolvePeriod(BudgetDTO dto) {
+        if (dto.getPeriod() == null) {
+            return BudgetPeriod.MONTHLY;
+        }
+        BudgetPeriod period;
+        try {
+            period = BudgetPeriod.valueOf(dto.getPeriod().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported budget period: " + dto.getPeriod());
+        }
+        if (period == BudgetPeriod.CUSTOM && (dto.getPeriodAnchor() == null || dto.getPeriodDays() == null)) {
+            throw new BadRequestException("Custom budget periods need periodAnchor and periodDays");
+        }
+        return period;
+    }
+}
@@ -0,0 +1,90 @@
+package com.budgy.backend.services;
+
+import com.budgy.backend.cache.UserCache;
+import com.budgy.backend.cashflow.CashFlowIndex;
+import com.budgy.backend.dto.response.CashFlowPointDTO;
+import com.budgy.backend.dto.response.CashFlowSeriesDTO;
+import com.budgy.backend.enums.CashFlowGranularity;
+import com.budgy.backend.exceptions.BadRequestException;
+import com.budgy.backend.exceptions.ResourceNotFoundException;
+import com.budgy.backend.repositories.TransactionRepository;
+import com.budgy.backend.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cash Flow Service
+ * <p>
+ * Income, expense and saving series over any date range, bucketed by day, week or month.
+ * Every bucket is read from the user's CashFlowIndex in constant time; the index is built
+ * with one grouped query on first use and cached until the user's transactions change.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CashFlowService {
+
+    static final int MAX_POINTS = 1000;
+
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final UserCache<CashFlowIndex> cashFlowIndexCache;
+
+    /**
+     * @throws BadRequestException if the range is reversed or has more than MAX_POINTS buckets
+     * @throws ResourceNotFoundException if user not found
+     */
+    // SUPPORTS: a cache hit must not open a transaction (and borrow a connection)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CashFlowSeriesDTO getCashFlow(Long userId, LocalDate from, LocalDate to, CashFlowGranularity granularity) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("from must not be after to");
+        }
+
+        CashFlowIndex index = cashFlowIndexCache.get(userId, () -> buildIndex(userId));
+
+        List<CashFlowPointDTO> points = new ArrayList<>();
+        for (LocalDate start = from; !start.isAfter(to); ) {
+            if (points.size() == MAX_POINTS) {
+                throw new BadRequestException("Range has more than " + MAX_POINTS + " " +
+                        granularity.name().toLowerCase() + " buckets, use a coarser granularity");
+            }
+            LocalDate end = granularity.bucketEnd(start);
+            if (end.isAfter(to)) {
+                end = to;
+            }
+
+            CashFlowIndex.CashFlowTotals totals = index.sum(start, end);
+            points.add(CashFlowPointDTO.builder()
+                    .periodStart(start)
+                    .periodEnd(end)
+                    .income(BigDecimal.valueOf(totals.income(), 2))
+                    .expenses(BigDecimal.valueOf(totals.expenses(), 2))
+                    .savings(BigDecimal.valueOf(totals.savings(), 2))
+                    .net(BigDecimal.valueOf(totals.net(), 2))
+                    .build());
+            start = end.plusDays(1);
+        }
+
+        return CashFlowSeriesDTO.builder()
+                .from(from)
+                .to(to)
+                .granularity(granularity.name())
+                .points(points)
+                .build();
+    }
+
+    private CashFlowIndex buildIndex(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+        return CashFlowIndex.build(transactionRepository.sumDailyByUserId(userId));
+    }
+}
@@ -0,0 +1,135 @@
+package com.budgy.backend.services;
+
+import com.budgy.backend.dto.projection.CategoryTotal;
+import com.budgy.backend.dto.response.CategoryBreakdownDTO;
+import com.budgy.backend.dto.response.CategorySpendDTO;
+import com.budgy.backend.enums.TransactionType;
+import com.budgy.backend.exceptions.BadRequestException;
+import com.budgy.backend.exceptions.ResourceNotFoundException;
+import com.budgy.backend.repositories.MonthlyRollupRepository;
+import com.budgy.backend.repositories.TransactionRepository;
+import com.budgy.backend.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Category Breakdown Service
+ * <p>
+ * Spend per category for a period, the top-N categories, and each category's change versus
+ * the previous equivalent period. Both periods come from one grouped query: over
+ * monthly_rollups when the period is made of whole months, over transactions otherwise.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CategoryBreakdownService {
+
+    static final int DEFAULT_TOP = 5;
+    static final int MAX_TOP = 50;
+
+    private final TransactionRepository transactionRepository;
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Get the category breakdown of a user's expenses
+     * The previous equivalent period is the same number of months (for whole months) or days
+     * right before from.
+     *
+     * @param from first day of the period, defaults to the start of the current month
+     * @param to   last day of the period, defaults to the end of the current month
+     * @param top  number of top categories, defaults to DEFAULT_TOP, at most MAX_TOP
+     * @throws BadRequestException if from is after to
+     * @throws ResourceNotFoundException if user not found
+     */
+    @Transactional(readOnly = true)
+    public CategoryBreakdownDTO getCategoryBreakdown(Long userId, LocalDate from, LocalDate to, Integer top) {
+        YearMonth currentMonth = YearMonth.now();
+        LocalDate periodStart = from != null ? from : currentMonth.atDay(1);
+        LocalDate periodEnd = to != null ? to : currentMonth.atEndOfMonth();
+        if (periodStart.isAfter(periodEnd)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        int topCount = top == null ? DEFAULT_TOP : Math.max(1, Math.min(top, MAX_TOP));
+
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+
+        // ==================== LOAD BOTH PERIODS ====================
+
+        LocalDate previousStart;
+        List<CategoryTotal> totals;
+        if (isWholeMonths(periodStart, periodEnd)) {
+            long months = ChronoUnit.MONTHS.between(YearMonth.from(periodStart), YearMonth.from(periodEnd)) + 1;
+            previousStart = periodStart.minusMonths(months);
+            totals = monthlyRollupRepository.sumByCategory(
+                    userId, TransactionType.EXPENSE, previousStart, periodStart, periodEnd.withDayOfMonth(1));
+        } else {
+            long days = ChronoUnit.DAYS.between(periodStart, periodEnd) + 1;
+            previousStart = periodStart.minusDays(days);
+            totals = transactionRepository.sumByCategory(
+                    userId, TransactionType.EXPENSE, previousStart, periodStart, periodEnd);
+        }
+
+        // ==================== BUILD CATEGORIES ====================
+
+        // Both queries sum absolute amounts, so spend is positive whatever sign expenses were stored with
+        BigDecimal totalSpent = totals.stream()
+                .map(CategoryTotal::currentAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal previousTotalSpent = totals.stream()
+                .map(CategoryTotal::previousAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        List<CategorySpendDTO> categories = totals.stream()
+                .map(total -> toCategorySpend(total, totalSpent))
+                .sorted(Comparator.comparing(CategorySpendDTO::getSpent).reversed()
+                        .thenComparing(CategorySpendDTO::getCategory))
+                .toList();
+
+        return CategoryBreakdownDTO.builder()
+                .from(periodStart)
+                .to(periodEnd)
+                .previousFrom(previousStart)
+                .previousTo(periodStart.minusDays(1))
+                .totalSpent(totalSpent)
+                .previousTotalSpent(previousTotalSpent)
+                .topCategories(categories.subList(0, Math.min(topCount, categories.size())))
+                .categories(categories)
+                .build();
+    }
+
+    private static boolean isWholeMonths(LocalDate from, LocalDate to) {
+        return from.getDayOfMonth() == 1 && to.equals(YearMonth.from(to).atEndOfMonth());
+    }
+
+    private static CategorySpendDTO toCategorySpend(CategoryTotal total, BigDecimal totalSpent) {
+        BigDecimal spent = total.currentAmount();
+        BigDecimal previousSpent = total.previousAmount();
+
+        Double sharePercent = totalSpent.signum() == 0 ? 0.0 : spent
+                .multiply(BigDecimal.valueOf(100))
+                .divide(totalSpent, 2, RoundingMode.HALF_UP)
+                .doubleValue();
+
+        return CategorySpendDTO.builder()
+                .category(total.category())
+                .spent(spent)
+                .transactionCount(Math.toIntExact(total.currentCount()))
+                .sharePercent(sharePercent)
+                .previousSpent(previousSpent)
+                .change(spent.subtract(previousSpent))
+                .changePercent(DashboardService.calculatePercentageChange(previousSpent, spent))
+                .build();
+    }
+}
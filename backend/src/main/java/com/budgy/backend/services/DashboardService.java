@@ -1,13 +1,13 @@
 package com.budgy.backend.services;
 
+import com.budgy.backend.cache.UserCache;
+import com.budgy.backend.dto.projection.DashboardTotals;
 import com.budgy.backend.dto.response.DashboardStatsDTO;
-import com.budgy.backend.entities.User;
-import com.budgy.backend.enums.TransactionType;
 import com.budgy.backend.exceptions.ResourceNotFoundException;
-import com.budgy.backend.repositories.TransactionRepository;
-import com.budgy.backend.repositories.UserRepository;
+import com.budgy.backend.repositories.MonthlyRollupRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -27,78 +27,59 @@ import java.time.format.DateTimeFormatter;
 @Transactional
 public class DashboardService {
 
-    private final UserRepository userRepository;
-    private final TransactionRepository transactionRepository;
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final UserCache<DashboardStatsDTO> dashboardStatsCache;
 
     /**
      * Get complete dashboard statistics for a user
-     * Calculates current month data and compares with previous month
+     * Calculates current month data and compares with previous month.
+     * Served from the cache until a write to the user's transactions or the month changes.
      *
      * @param userId The user ID to get statistics for
      * @return DashboardStatsDTO with all financial statistics
      * @throws ResourceNotFoundException if user not found
      */
-    @Transactional(readOnly = true)
+    // SUPPORTS: a cache hit must not open a transaction (and borrow a connection);
+    // on a miss the repository query runs in its own read-only transaction
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DashboardStatsDTO getDashboardStats(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-
-        // Get current month dates
         YearMonth currentMonth = YearMonth.now();
+        String period = formatPeriod(currentMonth);
+        // Stats cached last month are stale after rollover
+        return dashboardStatsCache.get(userId,
+                stats -> period.equals(stats.getPeriod()),
+                () -> computeDashboardStats(userId, currentMonth));
+    }
+
+    private DashboardStatsDTO computeDashboardStats(Long userId, YearMonth currentMonth) {
+        // Get current and previous month
         LocalDate startOfMonth = currentMonth.atDay(1);
-        LocalDate endOfMonth = currentMonth.atEndOfMonth();
+        LocalDate startOfPreviousMonth = currentMonth.minusMonths(1).atDay(1);
 
-        // Get previous month dates
-        YearMonth previousMonth = currentMonth.minusMonths(1);
-        LocalDate startOfPreviousMonth = previousMonth.atDay(1);
-        LocalDate endOfPreviousMonth = previousMonth.atEndOfMonth();
+        // Balance, per-type sums and counts of both months from a handful of rollup rows
+        DashboardTotals totals = monthlyRollupRepository.findDashboardTotals(
+                userId, startOfPreviousMonth, startOfMonth
+        ).orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
         // ==================== CURRENT MONTH STATISTICS ====================
 
         // Income: Sum of INCOME transactions this month
-        BigDecimal currentIncome = transactionRepository.sumByUserAndTypeAndDateRange(
-                userId, TransactionType.INCOME, startOfMonth, endOfMonth
-        );
+        BigDecimal currentIncome = totals.currentIncome();
 
         // Expenses: Sum of EXPENSE transactions this month (already negative)
-        BigDecimal currentExpenses = transactionRepository.sumByUserAndTypeAndDateRange(
-                userId, TransactionType.EXPENSE, startOfMonth, endOfMonth
-        );
-
-        // Savings: NET amount saved this month (SAVING - WITHDRAW)
-        BigDecimal savingTransactions = transactionRepository.sumByUserAndTypeAndDateRange(
-                userId, TransactionType.SAVING, startOfMonth, endOfMonth
-        );
-
-        BigDecimal withdrawTransactions = transactionRepository.sumByUserAndTypeAndDateRange(
-                userId, TransactionType.WITHDRAW, startOfMonth, endOfMonth
-        );
+        BigDecimal currentExpenses = totals.currentExpenses();
 
         // Net savings = money saved - money withdrawn
-        BigDecimal currentSavings = savingTransactions.subtract(withdrawTransactions);
+        BigDecimal currentSavings = totals.currentSavings().subtract(totals.currentWithdrawals());
 
         // Transaction count
-        int transactionCount = transactionRepository.countByUserIdAndTransactionDateBetween(
-                userId, startOfMonth, endOfMonth
-        );
+        int transactionCount = Math.toIntExact(totals.currentCount());
 
         // ==================== PREVIOUS MONTH STATISTICS ====================
 
-        BigDecimal previousIncome = transactionRepository.sumByUserAndTypeAndDateRange(
-                userId, TransactionType.INCOME, startOfPreviousMonth, endOfPreviousMonth
-        );
-
-        BigDecimal previousExpenses = transactionRepository.sumByUserAndTypeAndDateRange(
-                userId, TransactionType.EXPENSE, startOfPreviousMonth, endOfPreviousMonth
-        );
-
-        BigDecimal previousSavings = transactionRepository.sumByUserAndTypeAndDateRange(
-                userId, TransactionType.SAVING, startOfPreviousMonth, endOfPreviousMonth
-        );
-
-        BigDecimal previousWithdrawals = transactionRepository.sumByUserAndTypeAndDateRange(
-                userId, TransactionType.WITHDRAW, startOfPreviousMonth, endOfPreviousMonth
-        );
+        BigDecimal previousIncome = totals.previousIncome();
+        BigDecimal previousExpenses = totals.previousExpenses();
+        BigDecimal previousSavings = totals.previousSavings().subtract(totals.previousWithdrawals());
 
         // ==================== CALCULATE CHANGES ====================
 
@@ -114,8 +95,8 @@ public class DashboardService {
 
         // ==================== BALANCE CALCULATION ====================
 
-        // Current balance from user entity (already updated by TransactionService)
-        BigDecimal currentBalance = user.getCurrentBalance();
+        // Current balance from the user row (already updated by TransactionService)
+        BigDecimal currentBalance = totals.currentBalance();
 
         // Calculate what the balance was at the start of this month
         // Starting Balance = Current Balance - (Income - Expenses - Savings + Withdrawals)
@@ -131,7 +112,7 @@ public class DashboardService {
         Double balanceChangePercent = calculatePercentageChange(previousBalance, currentBalance);
 
         // Format period for display
-        String period = currentMonth.format(DateTimeFormatter.ofPattern("MMMM yyyy"));
+        String period = formatPeriod(currentMonth);
 
         // ==================== BUILD RESPONSE ====================
 
@@ -153,6 +134,10 @@ public class DashboardService {
                 .build();
     }
 
+    private static String formatPeriod(YearMonth month) {
+        return month.format(DateTimeFormatter.ofPattern("MMMM yyyy"));
+    }
+
     /**
      * Calculate percentage change between two values
      * Handles division by zero and formats to 2 decimal places
@@ -161,7 +146,7 @@ public class DashboardService {
      * @param newValue Current period value
      * @return Percentage change as double
      */
-    private Double calculatePercentageChange(BigDecimal oldValue, BigDecimal newValue) {
+    static Double calculatePercentageChange(BigDecimal oldValue, BigDecimal newValue) {
         if (oldValue.compareTo(BigDecimal.ZERO) == 0) {
             // If old value is 0, return 0% if new value is also 0, otherwise 100%
             return newValue.compareTo(BigDecimal.ZERO) == 0 ? 0.0 : 100.0;
@@ -0,0 +1,122 @@
+package com.budgy.backend.services;
+
+import com.budgy.backend.cache.UserCache;
+import com.budgy.backend.dto.response.CategoryVelocityDTO;
+import com.budgy.backend.dto.response.ForecastDTO;
+import com.budgy.backend.dto.response.ForecastMonthDTO;
+import com.budgy.backend.dto.response.ForecastPointDTO;
+import com.budgy.backend.exceptions.ResourceNotFoundException;
+import com.budgy.backend.forecast.ForecastModel;
+import com.budgy.backend.repositories.MonthlyRollupRepository;
+import com.budgy.backend.repositories.RecurringBillRepository;
+import com.budgy.backend.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Forecast Service
+ * <p>
+ * Projects a user's balance over the rest of the month and the next months from a
+ * ForecastModel. The model is built from the monthly rollups (kept up to date by every
+ * transaction write), the balance and the recurring bills, then cached until one of them
+ * changes, so a forecast request does not read transaction history.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ForecastService {
+
+    static final int DEFAULT_MONTHS = 3;
+    static final int MAX_MONTHS = 24;
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final RecurringBillRepository recurringBillRepository;
+    private final UserRepository userRepository;
+    private final UserCache<ForecastModel> forecastModelCache;
+
+    // Months before the current one that spending velocity is averaged over
+    @Value("${forecast.history-months:3}")
+    private int historyMonths;
+
+    /**
+     * @param months number of months after the current one, defaults to DEFAULT_MONTHS, at most MAX_MONTHS
+     * @throws ResourceNotFoundException if user not found
+     */
+    // SUPPORTS: a cache hit must not open a transaction (and borrow a connection)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ForecastDTO getForecast(Long userId, Integer months) {
+        int monthCount = months == null ? DEFAULT_MONTHS : Math.max(0, Math.min(months, MAX_MONTHS));
+        LocalDate today = LocalDate.now();
+        // Velocities and bill cycles are relative to the day the model was built
+        ForecastModel model = forecastModelCache.get(userId,
+                cached -> today.equals(cached.builtOn()),
+                () -> buildModel(userId, today));
+
+        // ==================== REST OF THE MONTH ====================
+
+        YearMonth currentMonth = YearMonth.from(today);
+        List<ForecastPointDTO> days = new ArrayList<>();
+        for (LocalDate day = today.plusDays(1); !day.isAfter(currentMonth.atEndOfMonth()); day = day.plusDays(1)) {
+            days.add(ForecastPointDTO.builder()
+                    .date(day)
+                    .balance(model.balanceAt(day))
+                    .bills(model.billsBetween(day, day))
+                    .build());
+        }
+
+        // ==================== NEXT MONTHS ====================
+
+        List<ForecastMonthDTO> monthPoints = new ArrayList<>();
+        for (int i = 1; i <= monthCount; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            int length = month.lengthOfMonth();
+            monthPoints.add(ForecastMonthDTO.builder()
+                    .month(month.toString())
+                    .income(model.income(length))
+                    .spending(model.spending(length))
+                    .savings(model.savings(length))
+                    .bills(model.billsBetween(month.atDay(1), month.atEndOfMonth()))
+                    .endBalance(model.balanceAt(month.atEndOfMonth()))
+                    .build());
+        }
+
+        List<CategoryVelocityDTO> velocities = model.velocities().stream()
+                .map(velocity -> CategoryVelocityDTO.builder()
+                        .category(velocity.category())
+                        .dailySpend(velocity.dailyAmount().negate().setScale(2, RoundingMode.HALF_UP))
+                        .monthlySpend(velocity.dailyAmount().negate().multiply(ForecastModel.DAYS_PER_MONTH)
+                                .setScale(2, RoundingMode.HALF_UP))
+                        .build())
+                .toList();
+
+        return ForecastDTO.builder()
+                .asOf(today)
+                .currentBalance(model.balance())
+                .endOfMonthBalance(days.isEmpty() ? model.balance() : days.getLast().getBalance())
+                .days(days)
+                .months(monthPoints)
+                .categoryVelocities(velocities)
+                .build();
+    }
+
+    private ForecastModel buildModel(Long userId, LocalDate today) {
+        BigDecimal balance = userRepository.findCurrentBalance(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        LocalDate currentMonthStart = today.withDayOfMonth(1);
+        LocalDate historyStart = currentMonthStart.minusMonths(historyMonths);
+
+        return ForecastModel.build(today, balance, historyStart,
+                monthlyRollupRepository.findTotalsByUserId(userId, historyStart, currentMonthStart),
+                recurringBillRepository.findByUserId(userId));
+    }
+}
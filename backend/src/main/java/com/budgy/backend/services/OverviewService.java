@@ -0,0 +1,196 @@
+package com.budgy.backend.services;
+
+import com.budgy.backend.dto.response.BudgetResponseDTO;
+import com.budgy.backend.dto.response.DashboardStatsDTO;
+import com.budgy.backend.dto.response.OverviewDTO;
+import com.budgy.backend.dto.response.RecurringBillResponseDTO;
+import com.budgy.backend.dto.response.SavingPotResponseDTO;
+import com.budgy.backend.dto.response.TransactionResponseDTO;
+import com.budgy.backend.exceptions.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Overview Service
+ * <p>
+ * Composes the Overview page from the dashboard stats, budgets, saving pots, upcoming bills
+ * and recent transactions. The sections are loaded concurrently, each on its own virtual
+ * thread and in its own read-only transaction (through the owning service), so the response
+ * takes as long as the slowest section instead of the sum of all of them.
+ * <p>
+ * Each section has section-timeout to finish, counted from the start of the request. A
+ * section that fails or times out is reported in failedSections instead of failing the page,
+ * except for an unknown user, which is a 404 as on the individual endpoints. Sections still
+ * running when the response is decided are cancelled.
+ * <p>
+ * Each section holds a pooled connection while it loads, so the fan-out is bounded twice: a
+ * request runs at most overview.max-sections-per-request sections at once, and all requests
+ * together at most overview.max-concurrent-sections, capped at half of the connections the
+ * ledger lanes leave to requests (ledger.reserved-connections). Slots are handed out in
+ * arrival order, so a burst of overviews cannot take every slot and starve earlier ones.
+ */
+@Slf4j
+@Service
+public class OverviewService {
+
+    static final int RECENT_TRANSACTIONS = 5;
+    static final int UPCOMING_BILL_DAYS = 30;
+
+    private final DashboardService dashboardService;
+    private final BudgetService budgetService;
+    private final SavingPotService savingPotService;
+    private final RecurringBillService recurringBillService;
+    private final TransactionService transactionService;
+    private final long sectionTimeoutNanos;
+    private final int maxSectionsPerRequest;
+    private final Semaphore sectionPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public OverviewService(DashboardService dashboardService,
+                           BudgetService budgetService,
+                           SavingPotService savingPotService,
+                           RecurringBillService recurringBillService,
+                           TransactionService transactionService,
+                           @Value("${overview.section-timeout:2s}") Duration sectionTimeout,
+                           @Value("${overview.max-sections-per-request:2}") int maxSectionsPerRequest,
+                           @Value("${overview.max-concurrent-sections:5}") int maxConcurrentSections,
+                           @Value("${ledger.reserved-connections:5}") int reservedConnections) {
+        this.dashboardService = dashboardService;
+        this.budgetService = budgetService;
+        this.savingPotService = savingPotService;
+        this.recurringBillService = recurringBillService;
+        this.transactionService = transactionService;
+        this.sectionTimeoutNanos = sectionTimeout.toNanos();
+        this.maxSectionsPerRequest = Math.max(1, maxSectionsPerRequest);
+
+        int concurrentSections = concurrentSections(maxConcurrentSections, reservedConnections);
+        if (maxConcurrentSections > concurrentSections) {
+            log.warn("overview.max-concurrent-sections={} would take more than half of the {} connections left to requests, using {}",
+                    maxConcurrentSections, reservedConnections, concurrentSections);
+        }
+        this.sectionPermits = new Semaphore(concurrentSections, true);
+    }
+
+    /**
+     * Sections all overview requests may run at once: as configured, but at most half of the
+     * pooled connections left to requests, and at least one
+     */
+    static int concurrentSections(int configured, int reservedConnections) {
+        return Math.max(1, Math.min(configured, reservedConnections / 2));
+    }
+
+    /**
+     * @throws ResourceNotFoundException if user not found
+     */
+    public OverviewDTO getOverview(Long userId) {
+        long deadline = System.nanoTime() + sectionTimeoutNanos;
+        Map<String, String> failedSections = new LinkedHashMap<>();
+        Semaphore requestPermits = new Semaphore(maxSectionsPerRequest, true);
+
+        // Start every section before waiting for any of them; they take their slots in this order
+        Future<DashboardStatsDTO> stats = submit(deadline, requestPermits, () -> dashboardService.getDashboardStats(userId));
+        Future<List<BudgetResponseDTO>> budgets = submit(deadline, requestPermits, () -> budgetService.getAllBudgetsByUser(userId));
+        Future<List<SavingPotResponseDTO>> savingPots = submit(deadline, requestPermits, () -> savingPotService.getAllSavingPotsByUser(userId));
+        LocalDate today = LocalDate.now();
+        Future<List<RecurringBillResponseDTO>> upcomingBills = submit(deadline, requestPermits, () ->
+                recurringBillService.getBillsDueBy(userId, today, today.plusDays(UPCOMING_BILL_DAYS)));
+        Future<List<TransactionResponseDTO>> recentTransactions = submit(deadline, requestPermits, () ->
+                transactionService.getAllTransactionsByUser(userId, null, RECENT_TRANSACTIONS).getItems());
+
+        try {
+            return OverviewDTO.builder()
+                    .stats(await("stats", stats, deadline, failedSections))
+                    .budgets(await("budgets", budgets, deadline, failedSections))
+                    .savingPots(await("savingPots", savingPots, deadline, failedSections))
+                    .upcomingBills(await("upcomingBills", upcomingBills, deadline, failedSections))
+                    .recentTransactions(await("recentTransactions", recentTransactions, deadline, failedSections))
+                    .failedSections(failedSections)
+                    .build();
+        } finally {
+            // Sections still running (e.g. after a 404) give their connections back now
+            List.of(stats, budgets, savingPots, upcomingBills, recentTransactions)
+                    .forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Run a section once both a slot of its request and a shared slot are free, or fail it as
+     * timed out if they do not free up before the deadline
+     * The request slot is taken first, so a section never holds a shared slot while it waits
+     * for its own request.
+     */
+    private <T> Future<T> submit(long deadline, Semaphore requestPermits, Callable<T> section) {
+        return executor.submit(() -> {
+            acquire(requestPermits, deadline);
+            try {
+                acquire(sectionPermits, deadline);
+                try {
+                    return section.call();
+                } finally {
+                    sectionPermits.release();
+                }
+            } finally {
+                requestPermits.release();
+            }
+        });
+    }
+
+    private static void acquire(Semaphore permits, long deadline) throws InterruptedException, TimeoutException {
+        if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException("No free section slot");
+        }
+    }
+
+    /**
+     * Wait for a section until the deadline
+     *
+     * @return the section, or null (recorded in failedSections) if it failed or timed out
+     */
+    private <T> T await(String section, Future<T> future, long deadline, Map<String, String> failedSections) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Interrupt the section so it gives its connection back
+            future.cancel(true);
+            log.warn("Overview section {} timed out", section);
+            failedSections.put(section, "Timed out");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ResourceNotFoundException notFound) {
+                throw notFound;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("Overview section {} found no free slot", section);
+                failedSections.put(section, "Timed out");
+                return null;
+            }
+            log.warn("Overview section {} failed", section, e.getCause());
+            failedSections.put(section, "Failed to load");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            failedSections.put(section, "Interrupted");
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+}
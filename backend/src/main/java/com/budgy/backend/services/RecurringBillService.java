@@ -1,6 +1,10 @@
 package com.budgy.backend.services;
 
+import com.budgy.backend.bills.BillDueIndex;
+import com.budgy.backend.cache.UserCache;
+import com.budgy.backend.cache.UserCacheInvalidator;
 import com.budgy.backend.dto.RecurringBillDTO;
+import com.budgy.backend.dto.projection.RecurringBillView;
 import com.budgy.backend.dto.response.RecurringBillResponseDTO;
 import com.budgy.backend.entities.RecurringBill;
 import com.budgy.backend.entities.User;
@@ -11,6 +15,7 @@ import com.budgy.backend.repositories.RecurringBillRepository;
 import com.budgy.backend.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -22,15 +27,22 @@ import java.util.stream.Collectors;
 @Transactional
 public class RecurringBillService {
 
+    static final int DEFAULT_NEXT_BILLS = 5;
+    static final int MAX_NEXT_BILLS = 100;
+
     private final RecurringBillRepository recurringBillRepository;
     private final UserRepository userRepository;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final UserCache<BillDueIndex> billDueIndexCache;
 
+    @Transactional(readOnly = true)
     public List<RecurringBillResponseDTO> getAllBillsByUser(Long userId) {
         return recurringBillRepository.findByUserId(userId).stream()
                 .map(RecurringBillMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<RecurringBillResponseDTO> getBillsByUserAndStatus(Long userId, String status) {
         BillStatus billStatus = BillStatus.valueOf(status.toUpperCase());
         return recurringBillRepository.findByUserIdAndStatus(userId, billStatus).stream()
@@ -38,16 +50,50 @@ public class RecurringBillService {
                 .collect(Collectors.toList());
     }
 
-    public List<RecurringBillResponseDTO> getUpcomingBills(Long userId, LocalDate date) {
-        return recurringBillRepository.findUpcomingBills(userId, date).stream()
+    /**
+     * Bills due from..to (inclusive), by due date, read from the user's cached BillDueIndex
+     */
+    // SUPPORTS: a cache hit must not open a transaction (and borrow a connection)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<RecurringBillResponseDTO> getUpcomingBills(Long userId, LocalDate from, LocalDate to) {
+        return dueIndex(userId).dueBetween(from, to).stream()
                 .map(RecurringBillMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Bills to pay by to, by due date: unpaid bills due before today, then every bill due
+     * from today through to (see BillDueIndex.dueBy)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<RecurringBillResponseDTO> getBillsDueBy(Long userId, LocalDate today, LocalDate to) {
+        return dueIndex(userId).dueBy(today, to).stream()
+                .map(RecurringBillMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The next count bills due on or after from, by due date
+     *
+     * @param count defaults to DEFAULT_NEXT_BILLS, at most MAX_NEXT_BILLS
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<RecurringBillResponseDTO> getNextBills(Long userId, LocalDate from, Integer count) {
+        int billCount = count == null ? DEFAULT_NEXT_BILLS : Math.max(1, Math.min(count, MAX_NEXT_BILLS));
+        return dueIndex(userId).next(from, billCount).stream()
+                .map(RecurringBillMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    private BillDueIndex dueIndex(Long userId) {
+        return billDueIndexCache.get(userId, () -> BillDueIndex.build(recurringBillRepository.findByUserId(userId)));
+    }
+
+    @Transactional(readOnly = true)
     public RecurringBillResponseDTO getBillById(Long id) {
-        RecurringBill bill = recurringBillRepository.findById(id)
+        return recurringBillRepository.findViewById(id)
+                .map(RecurringBillMapper::toResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("RecurringBill", "id", id));
-        return RecurringBillMapper.toResponse(bill);
     }
 
     public RecurringBillResponseDTO createBill(Long userId, RecurringBillDTO dto) {
@@ -56,6 +102,10 @@ public class RecurringBillService {
 
         RecurringBill bill = RecurringBillMapper.toEntity(dto, user);
         RecurringBill savedBill = recurringBillRepository.save(bill);
+        // Bills feed the cached forecast; the due-date index takes a new bill in place, as no
+        // other write can touch it before this one commits
+        RecurringBillView view = RecurringBillMapper.toView(savedBill);
+        userCacheInvalidator.invalidate(userId, billDueIndexCache, index -> index.with(view));
 
         return RecurringBillMapper.toResponse(savedBill);
     }
@@ -66,6 +116,9 @@ public class RecurringBillService {
 
         RecurringBillMapper.updateEntity(bill, dto);
         RecurringBill updatedBill = recurringBillRepository.save(bill);
+        // Evicted rather than patched: after-commit callbacks of concurrent writes to the same
+        // bill may run out of commit order and would leave the older version in the index
+        userCacheInvalidator.invalidate(bill.getUser().getId());
 
         return RecurringBillMapper.toResponse(updatedBill);
     }
@@ -74,5 +127,7 @@ public class RecurringBillService {
         RecurringBill bill = recurringBillRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("RecurringBill", "id", id));
         recurringBillRepository.delete(bill);
+        // Evicted like updates, so a late update callback cannot put the bill back
+        userCacheInvalidator.invalidate(bill.getUser().getId());
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.budgy.backend.entities.User;
 import com.budgy.backend.exceptions.ResourceNotFoundException;
 import com.budgy.backend.mappers.SavingPotMapper;
 import com.budgy.backend.repositories.SavingPotRepository;
+import com.budgy.backend.repositories.TransactionRepository;
 import com.budgy.backend.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -22,17 +23,21 @@ public class SavingPotService {
 
     private final SavingPotRepository savingPotRepository;
     private final UserRepository userRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionBatchWriter transactionBatchWriter;
 
+    @Transactional(readOnly = true)
     public List<SavingPotResponseDTO> getAllSavingPotsByUser(Long userId) {
         return savingPotRepository.findByUserId(userId).stream()
                 .map(SavingPotMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public SavingPotResponseDTO getSavingPotById(Long id) {
-        SavingPot savingPot = savingPotRepository.findById(id)
+        return savingPotRepository.findViewById(id)
+                .map(SavingPotMapper::toResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("SavingPot", "id", id));
-        return SavingPotMapper.toResponse(savingPot);
     }
 
     public SavingPotResponseDTO createSavingPot(Long userId, SavingPotDTO dto) {
@@ -58,6 +63,10 @@ public class SavingPotService {
     public void deleteSavingPot(Long id) {
         SavingPot savingPot = savingPotRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("SavingPot", "id", id));
+        // The linked transactions go too; the user row stays locked so none is added meanwhile
+        Long userId = savingPot.getUser().getId();
+        userRepository.lockLedgerVersion(userId);
+        transactionBatchWriter.delete(userId, transactionRepository.findBySavingPotId(id));
         savingPotRepository.delete(savingPot);
     }
 }
\ No newline at end of file
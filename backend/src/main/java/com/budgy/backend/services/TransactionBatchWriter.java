@@ -0,0 +1,107 @@
+package com.budgy.backend.services;
+
+import com.budgy.backend.cache.UserCacheInvalidator;
+import com.budgy.backend.entities.Transaction;
+import com.budgy.backend.enums.LedgerEventType;
+import com.budgy.backend.enums.TransactionType;
+import com.budgy.backend.ledger.LedgerJournal;
+import com.budgy.backend.ledger.LedgerPosting;
+import com.budgy.backend.repositories.TransactionRepository;
+import com.budgy.backend.rollups.BudgetPeriodDelta;
+import com.budgy.backend.rollups.BudgetPeriodWriter;
+import com.budgy.backend.rollups.MonthlyRollupWriter;
+import com.budgy.backend.rollups.RollupDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transaction Batch Writer
+ * <p>
+ * Inserts many new transactions of one user and applies their effects in bulk: the balance,
+ * budget spent and pot saved deltas of the whole batch as one ledger event (one atomic update
+ * per touched row and same-sign run of deltas, see LedgerPosting.coalesce), then the rollup and
+ * budget period deltas merged by key. Used by the
+ * statement import and the recurring bill materializer.
+ * <p>
+ * Also deletes the transactions linked to a budget or saving pot that is being deleted.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionBatchWriter {
+
+    private final TransactionRepository transactionRepository;
+    private final LedgerJournal ledgerJournal;
+    private final MonthlyRollupWriter monthlyRollupWriter;
+    private final BudgetPeriodWriter budgetPeriodWriter;
+    private final UserCacheInvalidator userCacheInvalidator;
+
+    /**
+     * Insert transactions of the given user in the caller's database transaction
+     * Budgets and saving pots must belong to the user; the caller checks ownership.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insert(Long userId, List<Transaction> transactions) {
+        List<List<LedgerPosting>> transactionPostings = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            TransactionType type = transaction.getType();
+            BigDecimal amount = transaction.getAmount();
+            List<LedgerPosting> postings = new ArrayList<>(2);
+            postings.add(LedgerPosting.balance(userId, type.balanceDelta(amount)));
+
+            // getId() on the lazy references does not load them
+            if (transaction.getBudget() != null) {
+                postings.add(LedgerPosting.budget(transaction.getBudget().getId(), type.spentDelta(amount), 1));
+            }
+            if (transaction.getSavingPot() != null) {
+                postings.add(LedgerPosting.savingPot(transaction.getSavingPot().getId(), type.savedDelta(amount), 1));
+            }
+            transactionPostings.add(postings);
+        }
+
+        // ==================== APPLY COALESCED DELTAS ====================
+        // One update per same-sign run of each touched row, so the clamped counters end where
+        // replaying the per-transaction journal rows below ends
+        long version = ledgerJournal.apply(userId, LedgerPosting.coalesce(transactionPostings));
+
+        transactionRepository.saveAll(transactions);
+        monthlyRollupWriter.apply(transactions.stream()
+                .map(transaction -> RollupDelta.of(transaction, 1))
+                .toList());
+        budgetPeriodWriter.apply(transactions.stream()
+                .flatMap(transaction -> BudgetPeriodDelta.of(transaction, 1).stream())
+                .toList());
+        userCacheInvalidator.invalidate(userId);
+
+        // The journal still gets one event per transaction, all at the batch's version
+        for (int i = 0; i < transactions.size(); i++) {
+            ledgerJournal.append(userId, version, LedgerEventType.CREATE,
+                    transactions.get(i).getId(), transactionPostings.get(i));
+        }
+    }
+
+    /**
+     * Delete transactions of the given user in the caller's database transaction
+     * Used when their budget or saving pot is deleted: they leave the monthly rollups and budget
+     * period totals, while the ledger counters stay as they were when the rows went by cascade.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void delete(Long userId, List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        monthlyRollupWriter.apply(transactions.stream()
+                .map(transaction -> RollupDelta.of(transaction, -1))
+                .toList());
+        budgetPeriodWriter.apply(transactions.stream()
+                .flatMap(transaction -> BudgetPeriodDelta.of(transaction, -1).stream())
+                .toList());
+        transactionRepository.deleteAll(transactions);
+        userCacheInvalidator.invalidate(userId);
+    }
+}
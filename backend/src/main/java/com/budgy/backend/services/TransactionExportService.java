@@ -0,0 +1,135 @@
+package com.budgy.backend.services;
+
+import com.budgy.backend.dto.response.TransactionResponseDTO;
+import com.budgy.backend.entities.Transaction;
+import com.budgy.backend.enums.ExportFormat;
+import com.budgy.backend.exceptions.ResourceNotFoundException;
+import com.budgy.backend.mappers.TransactionMapper;
+import com.budgy.backend.repositories.TransactionRepository;
+import com.budgy.backend.repositories.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Transaction Export Service
+ * <p>
+ * Streams a user's full ledger as CSV or NDJSON straight from a database cursor.
+ * Each row is written and detached before the next one is read, so heap usage stays
+ * flat no matter how many transactions the user has.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "name", "transactionDate", "amount", "category", "type",
+            "icon", "color", "budgetId", "savingPotId", "createdAt"
+    };
+
+    // Flush the response every N rows so the client starts receiving data early
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Build a response body that streams the user's ledger, newest first
+     *
+     * @throws ResourceNotFoundException if user not found
+     */
+    public StreamingResponseBody exportTransactions(Long userId, ExportFormat format) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+
+        // The body is written after the controller returns, on an async thread,
+        // so it needs its own read-only transaction to keep the cursor open
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<Transaction> rows = transactionRepository.streamByUserId(userId)) {
+                    writeRows(writer, rows.iterator(), format);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+    }
+
+    private void writeRows(Writer writer, Iterator<Transaction> rows, ExportFormat format) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write('\n');
+        }
+
+        int written = 0;
+        while (rows.hasNext()) {
+            Transaction transaction = rows.next();
+            TransactionResponseDTO dto = TransactionMapper.toResponse(transaction);
+
+            // Drop the entity from the persistence context so it can be garbage collected
+            entityManager.detach(transaction);
+
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, dto);
+            } else {
+                writer.write(objectMapper.writeValueAsString(dto));
+                writer.write('\n');
+            }
+
+            if (++written % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    private void writeCsvRow(Writer writer, TransactionResponseDTO dto) throws IOException {
+        Object[] values = {
+                dto.getId(), dto.getName(), dto.getTransactionDate(), dto.getAmount(),
+                dto.getCategory(), dto.getType(), dto.getIcon(), dto.getColor(),
+                dto.getBudgetId(), dto.getSavingPotId(), dto.getCreatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Quote a CSV field when it contains a separator, quote or line break (RFC 4180)
+     */
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
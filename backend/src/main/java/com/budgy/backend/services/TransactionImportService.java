@@ -0,0 +1,186 @@
+package com.budgy.backend.services;
+
+import com.budgy.backend.dto.TransactionDTO;
+import com.budgy.backend.dto.projection.BudgetView;
+import com.budgy.backend.dto.projection.SavingPotView;
+import com.budgy.backend.dto.response.ImportReportDTO;
+import com.budgy.backend.dto.response.ImportRowErrorDTO;
+import com.budgy.backend.entities.Budget;
+import com.budgy.backend.entities.SavingPot;
+import com.budgy.backend.entities.Transaction;
+import com.budgy.backend.entities.User;
+import com.budgy.backend.enums.ImportFormat;
+import com.budgy.backend.exceptions.BadRequestException;
+import com.budgy.backend.exceptions.ResourceNotFoundException;
+import com.budgy.backend.imports.StatementParser;
+import com.budgy.backend.imports.StatementRow;
+import com.budgy.backend.mappers.TransactionMapper;
+import com.budgy.backend.repositories.BudgetRepository;
+import com.budgy.backend.repositories.SavingPotRepository;
+import com.budgy.backend.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Transaction Import Service
+ * <p>
+ * Imports bank statements (CSV or OFX) in batches. Rows are parsed incrementally and
+ * validated with the same rules as TransactionService. Each batch is inserted in one
+ * database transaction by TransactionBatchWriter, which applies the balance, budget spent
+ * and pot saved deltas of the whole batch once, as atomic updates, instead of once per row.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionImportService {
+
+    static final int BATCH_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final BudgetRepository budgetRepository;
+    private final SavingPotRepository savingPotRepository;
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+
+    /**
+     * Import a statement for a user
+     *
+     * @return report with the number of imported rows and the reason each failed row was skipped
+     * @throws ResourceNotFoundException if user not found
+     */
+    public ImportReportDTO importTransactions(Long userId, ImportFormat format, InputStream input) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+
+        // Ownership checks are done against ids loaded once, not per row
+        Set<Long> budgetIds = budgetRepository.findByUserId(userId).stream()
+                .map(BudgetView::id)
+                .collect(Collectors.toSet());
+        Set<Long> savingPotIds = savingPotRepository.findByUserId(userId).stream()
+                .map(SavingPotView::id)
+                .collect(Collectors.toSet());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        StatementParser parser = StatementParser.of(format, new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        List<ImportRowErrorDTO> errors = new ArrayList<>();
+        List<StatementRow> batch = new ArrayList<>(BATCH_SIZE);
+        int totalRows = 0;
+        int importedRows = 0;
+
+        while (parser.hasNext()) {
+            StatementRow row = parser.next();
+            totalRows++;
+
+            String error = row.isFailed() ? row.error() : validate(row.transaction(), budgetIds, savingPotIds);
+            if (error != null) {
+                errors.add(new ImportRowErrorDTO(row.rowNumber(), error));
+                continue;
+            }
+
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                importedRows += flush(transactionTemplate, userId, batch, errors);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importedRows += flush(transactionTemplate, userId, batch, errors);
+        }
+
+        return ImportReportDTO.builder()
+                .totalRows(totalRows)
+                .importedRows(importedRows)
+                .failedRows(errors.size())
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Apply bean validation and TransactionService's type rules to a parsed row
+     *
+     * @return error message, or null if the row is valid
+     */
+    private String validate(TransactionDTO dto, Set<Long> budgetIds, Set<Long> savingPotIds) {
+        Set<ConstraintViolation<TransactionDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        try {
+            TransactionService.validateTransactionType(dto);
+        } catch (BadRequestException e) {
+            return e.getMessage();
+        } catch (IllegalArgumentException e) {
+            return "Unknown transaction type: " + dto.getType();
+        }
+        if (dto.getBudgetId() != null && !budgetIds.contains(dto.getBudgetId())) {
+            return "Budget not found with id : '" + dto.getBudgetId() + "'";
+        }
+        if (dto.getSavingPotId() != null && !savingPotIds.contains(dto.getSavingPotId())) {
+            return "SavingPot not found with id : '" + dto.getSavingPotId() + "'";
+        }
+        return null;
+    }
+
+    /**
+     * Insert one batch and apply its aggregated deltas in a single database transaction
+     * If the batch fails, every row in it is reported as failed and nothing is written.
+     *
+     * @return number of rows imported
+     */
+    private int flush(TransactionTemplate transactionTemplate, Long userId,
+                      List<StatementRow> batch, List<ImportRowErrorDTO> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                insertBatch(userId, batch);
+                // Keep the persistence context from growing across batches
+                entityManager.flush();
+                entityManager.clear();
+            });
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("Import batch for user {} failed", userId, e);
+            for (StatementRow row : batch) {
+                errors.add(new ImportRowErrorDTO(row.rowNumber(), "Batch insert failed: " + e.getMessage()));
+            }
+            return 0;
+        }
+    }
+
+    private void insertBatch(Long userId, List<StatementRow> batch) {
+        User user = entityManager.getReference(User.class, userId);
+
+        List<Transaction> transactions = new ArrayList<>(batch.size());
+        for (StatementRow row : batch) {
+            TransactionDTO dto = row.transaction();
+            Long budgetId = dto.getBudgetId();
+            Long savingPotId = dto.getSavingPotId();
+
+            // Ownership of budgets and pots was checked against the preloaded id sets
+            transactions.add(TransactionMapper.toEntity(dto, user,
+                    budgetId != null ? entityManager.getReference(Budget.class, budgetId) : null,
+                    savingPotId != null ? entityManager.getReference(SavingPot.class, savingPotId) : null));
+        }
+        transactionBatchWriter.insert(userId, transactions);
+    }
+}
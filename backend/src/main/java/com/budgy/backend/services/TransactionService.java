@@ -1,27 +1,40 @@
 package com.budgy.backend.services;
 
+import com.budgy.backend.cache.UserCacheInvalidator;
 import com.budgy.backend.dto.TransactionDTO;
+import com.budgy.backend.dto.projection.TransactionView;
+import com.budgy.backend.dto.response.CursorPageResponseDTO;
 import com.budgy.backend.dto.response.TransactionResponseDTO;
 import com.budgy.backend.entities.Budget;
 import com.budgy.backend.entities.SavingPot;
 import com.budgy.backend.entities.Transaction;
 import com.budgy.backend.entities.User;
+import com.budgy.backend.enums.LedgerEventType;
 import com.budgy.backend.enums.TransactionType;
 import com.budgy.backend.exceptions.BadRequestException;
 import com.budgy.backend.exceptions.ResourceNotFoundException;
+import com.budgy.backend.ledger.LedgerJournal;
+import com.budgy.backend.ledger.LedgerPosting;
 import com.budgy.backend.mappers.TransactionMapper;
-import com.budgy.backend.repositories.BudgetRepository;
-import com.budgy.backend.repositories.SavingPotRepository;
+import com.budgy.backend.pagination.TransactionCursor;
 import com.budgy.backend.repositories.TransactionRepository;
-import com.budgy.backend.repositories.UserRepository;
+import com.budgy.backend.rollups.BudgetPeriodDelta;
+import com.budgy.backend.rollups.BudgetPeriodWriter;
+import com.budgy.backend.rollups.MonthlyRollupWriter;
+import com.budgy.backend.rollups.RollupDelta;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -29,114 +42,139 @@ import java.util.stream.Collectors;
 public class TransactionService {
 
     private final TransactionRepository transactionRepository;
-    private final UserRepository userRepository;
-    private final BudgetRepository budgetRepository;
-    private final SavingPotRepository savingPotRepository;
-
-    public List<TransactionResponseDTO> getAllTransactionsByUser(Long userId) {
-        return transactionRepository.findByUserId(userId).stream()
-                .map(TransactionMapper::toResponse)
-                .collect(Collectors.toList());
+    private final LedgerJournal ledgerJournal;
+    private final MonthlyRollupWriter monthlyRollupWriter;
+    private final BudgetPeriodWriter budgetPeriodWriter;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final EntityManager entityManager;
+
+    // ==================== PAGINATED LISTINGS ====================
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TransactionResponseDTO> getAllTransactionsByUser(Long userId, String cursor, Integer limit) {
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int pageSize = TransactionCursor.clampLimit(limit);
+        return toPage(transactionRepository.findPageByUserId(
+                userId, after.transactionDate(), after.id(), Limit.of(pageSize + 1)), pageSize);
     }
 
-    public List<TransactionResponseDTO> getTransactionsByUserAndType(Long userId, String type) {
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TransactionResponseDTO> getTransactionsByUserAndType(Long userId, String type, String cursor, Integer limit) {
         TransactionType transactionType = TransactionType.valueOf(type.toUpperCase());
-        return transactionRepository.findByUserIdAndType(userId, transactionType).stream()
-                .map(TransactionMapper::toResponse)
-                .collect(Collectors.toList());
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int pageSize = TransactionCursor.clampLimit(limit);
+        return toPage(transactionRepository.findPageByUserIdAndType(
+                userId, transactionType, after.transactionDate(), after.id(), Limit.of(pageSize + 1)), pageSize);
     }
 
-    public List<TransactionResponseDTO> getTransactionsByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
-        return transactionRepository.findByUserIdAndDateRange(userId, startDate, endDate).stream()
-                .map(TransactionMapper::toResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TransactionResponseDTO> getTransactionsByBudget(Long userId, Long budgetId, String cursor, Integer limit) {
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int pageSize = TransactionCursor.clampLimit(limit);
+        return toPage(transactionRepository.findPageByUserIdAndBudgetId(
+                userId, budgetId, after.transactionDate(), after.id(), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TransactionResponseDTO> getTransactionsBySavingPot(Long userId, Long savingPotId, String cursor, Integer limit) {
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int pageSize = TransactionCursor.clampLimit(limit);
+        return toPage(transactionRepository.findPageByUserIdAndSavingPotId(
+                userId, savingPotId, after.transactionDate(), after.id(), Limit.of(pageSize + 1)), pageSize);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TransactionResponseDTO> getTransactionsByDateRange(Long userId, LocalDate startDate, LocalDate endDate,
+                                                                                   String cursor, Integer limit) {
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int pageSize = TransactionCursor.clampLimit(limit);
+        return toPage(transactionRepository.findPageByUserIdAndDateRange(
+                userId, startDate, endDate, after.transactionDate(), after.id(), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    /**
+     * Build a page from a query that fetched one row more than requested.
+     * The extra row only tells us whether another page exists and is not returned.
+     */
+    private CursorPageResponseDTO<TransactionResponseDTO> toPage(List<TransactionView> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<TransactionView> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TransactionView last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new TransactionCursor(last.transactionDate(), last.id()).encode();
+        }
+
+        return CursorPageResponseDTO.<TransactionResponseDTO>builder()
+                .items(pageRows.stream()
+                        .map(TransactionMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
     public TransactionResponseDTO getTransactionById(Long id) {
-        Transaction transaction = transactionRepository.findById(id)
+        return transactionRepository.findViewById(id)
+                .map(TransactionMapper::toResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "id", id));
-        return TransactionMapper.toResponse(transaction);
     }
 
-    public TransactionResponseDTO createTransaction(Long userId, TransactionDTO dto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+    // ==================== WRITE PATH ====================
+    // Balances and aggregates are changed through LedgerJournal: single-statement atomic updates
+    // (current_balance = current_balance + delta) plus one journal row per account touched.
+    // Concurrent writes for the same user cannot lose each other's changes.
+    // monthly_rollups and budget_period_totals are kept in step in the same database transaction,
+    // and the user's cached dashboard stats and cash-flow index are dropped when it commits.
 
+    public TransactionResponseDTO createTransaction(Long userId, TransactionDTO dto) {
         // Check for invalid combinations
         validateTransactionType(dto);
 
-        Budget budget = null;
+        TransactionType type = TransactionType.valueOf(dto.getType().toUpperCase());
+        BigDecimal amount = dto.getAmount();
+
+        List<LedgerPosting> postings = new ArrayList<>();
+        postings.add(LedgerPosting.balance(userId, type.balanceDelta(amount)));
         if (dto.getBudgetId() != null) {
-            budget = budgetRepository.findById(dto.getBudgetId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Budget", "id", dto.getBudgetId()));
+            postings.add(LedgerPosting.budget(dto.getBudgetId(), type.spentDelta(amount), 1));
         }
-
-        SavingPot savingPot = null;
         if (dto.getSavingPotId() != null) {
-            savingPot = savingPotRepository.findById(dto.getSavingPotId())
-                    .orElseThrow(() -> new ResourceNotFoundException("SavingPot", "id", dto.getSavingPotId()));
+            postings.add(LedgerPosting.savingPot(dto.getSavingPotId(), type.savedDelta(amount), 1));
         }
+        long version = ledgerJournal.apply(userId, postings);
 
-        Transaction transaction = TransactionMapper.toEntity(dto, user, budget, savingPot);
+        // Existence of user, budget and pot was checked by the updates above
+        Transaction transaction = TransactionMapper.toEntity(dto,
+                entityManager.getReference(User.class, userId),
+                budgetReference(dto.getBudgetId()),
+                savingPotReference(dto.getSavingPotId()));
         Transaction savedTransaction = transactionRepository.save(transaction);
 
-        // ==================== UPDATE USER BALANCE ====================
-        updateUserBalanceOnCreate(user, savedTransaction);
-        userRepository.save(user);
-        // =================================================================
-
-        // UPDATE BUDGET if expense
-        if (budget != null && transaction.getType() == TransactionType.EXPENSE) {
-            budget.addToSpent(transaction.getAmount());
-            budget.incrementTransactionCount();
-            budgetRepository.save(budget);
-        }
-
-        // UPDATE SAVING POT if saving/withdraw
-        if (savingPot != null) {
-            if (transaction.getType() == TransactionType.SAVING) {
-                savingPot.addToSaved(transaction.getAmount());
-                savingPot.incrementTransactionCount();
-                savingPotRepository.save(savingPot);
-            } else if (transaction.getType() == TransactionType.WITHDRAW) {
-                savingPot.subtractFromSaved(transaction.getAmount());
-                savingPot.incrementTransactionCount();
-                savingPotRepository.save(savingPot);
-            }
-        }
-
+        ledgerJournal.append(userId, version, LedgerEventType.CREATE, savedTransaction.getId(), postings);
+        monthlyRollupWriter.apply(List.of(RollupDelta.of(savedTransaction, 1)));
+        BudgetPeriodDelta.of(savedTransaction, 1).ifPresent(delta -> budgetPeriodWriter.apply(List.of(delta)));
+        userCacheInvalidator.invalidate(userId);
         return TransactionMapper.toResponse(savedTransaction);
     }
 
     public TransactionResponseDTO updateTransaction(Long id, TransactionDTO dto) {
-        Transaction transaction = transactionRepository.findById(id)
+        // Locked, so a concurrent edit or delete cannot revert the same old values as well
+        Transaction transaction = transactionRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "id", id));
 
         // Check for invalid combinations
         validateTransactionType(dto);
 
-        User user = transaction.getUser();
-
-        // Store old values for recalculation
-        Budget oldBudget = transaction.getBudget();
-        SavingPot oldSavingPot = transaction.getSavingPot();
+        // Reading ids from the lazy associations does not initialize them
+        Long userId = transaction.getUser().getId();
+        Long oldBudgetId = transaction.getBudget() != null ? transaction.getBudget().getId() : null;
+        Long oldSavingPotId = transaction.getSavingPot() != null ? transaction.getSavingPot().getId() : null;
         BigDecimal oldAmount = transaction.getAmount();
         TransactionType oldType = transaction.getType();
 
-        Budget budget = null;
-        if (dto.getBudgetId() != null) {
-            budget = budgetRepository.findById(dto.getBudgetId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Budget", "id", dto.getBudgetId()));
-        }
-
-        SavingPot savingPot = null;
-        if (dto.getSavingPotId() != null) {
-            savingPot = savingPotRepository.findById(dto.getSavingPotId())
-                    .orElseThrow(() -> new ResourceNotFoundException("SavingPot", "id", dto.getSavingPotId()));
-        }
-
-        // ==================== UPDATE USER BALANCE ====================
-        // Update balance BEFORE changing the transaction entity
         TransactionType newType = TransactionType.valueOf(dto.getType().toUpperCase());
         BigDecimal newAmount = dto.getAmount();
 
@@ -145,58 +183,82 @@ public class TransactionService {
             newAmount = newAmount.negate();
         }
 
-        updateUserBalanceOnUpdate(user, oldAmount, oldType, newAmount, newType);
-        // =================================================================
-
-        TransactionMapper.updateEntity(transaction, dto, budget, savingPot);
+        // ==================== UPDATE USER BALANCE ====================
+        // Revert the old impact and apply the new one in a single statement
+        List<LedgerPosting> postings = new ArrayList<>();
+        postings.add(LedgerPosting.balance(userId,
+                newType.balanceDelta(newAmount).subtract(oldType.balanceDelta(oldAmount))));
 
         // RECALCULATE BUDGETS
-        updateBudgetCalculations(oldBudget, oldAmount, oldType, budget, transaction.getAmount(), transaction.getType());
+        if (oldBudgetId != null && oldBudgetId.equals(dto.getBudgetId())) {
+            // Same budget - just apply the difference, count stays the same
+            postings.add(LedgerPosting.budget(oldBudgetId,
+                    newType.spentDelta(newAmount).subtract(oldType.spentDelta(oldAmount)), 0));
+        } else {
+            if (oldBudgetId != null) {
+                postings.add(LedgerPosting.budget(oldBudgetId, oldType.spentDelta(oldAmount).negate(), -1));
+            }
+            if (dto.getBudgetId() != null) {
+                postings.add(LedgerPosting.budget(dto.getBudgetId(), newType.spentDelta(newAmount), 1));
+            }
+        }
 
         // RECALCULATE SAVING POTS
-        updateSavingPotCalculations(oldSavingPot, oldAmount, oldType, savingPot, transaction.getAmount(), transaction.getType());
+        if (oldSavingPotId != null && oldSavingPotId.equals(dto.getSavingPotId())) {
+            // Same pot - just apply the difference, count stays the same
+            postings.add(LedgerPosting.savingPot(oldSavingPotId,
+                    newType.savedDelta(newAmount).subtract(oldType.savedDelta(oldAmount)), 0));
+        } else {
+            if (oldSavingPotId != null) {
+                postings.add(LedgerPosting.savingPot(oldSavingPotId, oldType.savedDelta(oldAmount).negate(), -1));
+            }
+            if (dto.getSavingPotId() != null) {
+                postings.add(LedgerPosting.savingPot(dto.getSavingPotId(), newType.savedDelta(newAmount), 1));
+            }
+        }
 
-        Transaction updatedTransaction = transactionRepository.save(transaction);
+        long version = ledgerJournal.apply(userId, postings);
+        ledgerJournal.append(userId, version, LedgerEventType.UPDATE, id, postings);
+
+        // Taken before the entity changes: month, type or category may move to another rollup row
+        RollupDelta rollupBefore = RollupDelta.of(transaction, -1);
+        Optional<BudgetPeriodDelta> budgetPeriodBefore = BudgetPeriodDelta.of(transaction, -1);
 
-        // ==================== SAVE USER ====================
-        userRepository.save(user);
-        // =======================================================
+        TransactionMapper.updateEntity(transaction, dto,
+                budgetReference(dto.getBudgetId()),
+                savingPotReference(dto.getSavingPotId()));
+        Transaction updatedTransaction = transactionRepository.save(transaction);
+        monthlyRollupWriter.apply(List.of(rollupBefore, RollupDelta.of(updatedTransaction, 1)));
+        budgetPeriodWriter.apply(Stream.of(budgetPeriodBefore, BudgetPeriodDelta.of(updatedTransaction, 1))
+                .flatMap(Optional::stream)
+                .toList());
+        userCacheInvalidator.invalidate(userId);
 
         return TransactionMapper.toResponse(updatedTransaction);
     }
 
     public void deleteTransaction(Long id) {
-        Transaction transaction = transactionRepository.findById(id)
+        Transaction transaction = transactionRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "id", id));
 
-        User user = transaction.getUser();
+        Long userId = transaction.getUser().getId();
+        TransactionType type = transaction.getType();
+        BigDecimal amount = transaction.getAmount();
 
-        // ==================== UPDATE USER BALANCE ====================
-        updateUserBalanceOnDelete(user, transaction);
-        userRepository.save(user);
-        // =================================================================
-
-        // UPDATE BUDGET before deleting
-        if (transaction.getBudget() != null && transaction.getType() == TransactionType.EXPENSE) {
-            Budget budget = transaction.getBudget();
-            budget.subtractFromSpent(transaction.getAmount());
-            budget.decrementTransactionCount();
-            budgetRepository.save(budget);
+        // Revert the transaction's impact
+        List<LedgerPosting> postings = new ArrayList<>();
+        postings.add(LedgerPosting.balance(userId, type.balanceDelta(amount).negate()));
+        if (transaction.getBudget() != null) {
+            postings.add(LedgerPosting.budget(transaction.getBudget().getId(), type.spentDelta(amount).negate(), -1));
         }
-
-        // UPDATE SAVING POT before deleting
         if (transaction.getSavingPot() != null) {
-            SavingPot savingPot = transaction.getSavingPot();
-
-            if (transaction.getType() == TransactionType.SAVING) {
-                savingPot.subtractFromSaved(transaction.getAmount());
-            } else if (transaction.getType() == TransactionType.WITHDRAW) {
-                savingPot.addToSaved(transaction.getAmount());  // Add back what was withdrawn
-            }
-
-            savingPot.decrementTransactionCount();
-            savingPotRepository.save(savingPot);
+            postings.add(LedgerPosting.savingPot(transaction.getSavingPot().getId(), type.savedDelta(amount).negate(), -1));
         }
+        long version = ledgerJournal.apply(userId, postings);
+        ledgerJournal.append(userId, version, LedgerEventType.DELETE, id, postings);
+        monthlyRollupWriter.apply(List.of(RollupDelta.of(transaction, -1)));
+        BudgetPeriodDelta.of(transaction, -1).ifPresent(delta -> budgetPeriodWriter.apply(List.of(delta)));
+        userCacheInvalidator.invalidate(userId);
 
         transactionRepository.delete(transaction);
     }
@@ -205,8 +267,9 @@ public class TransactionService {
 
     /**
      * Validates that transaction type matches the linked entity
+     * Shared with TransactionImportService so imported rows follow the same rules
      */
-    private void validateTransactionType(TransactionDTO dto) {
+    static void validateTransactionType(TransactionDTO dto) {
         TransactionType type = TransactionType.valueOf(dto.getType().toUpperCase());
 
         // Rule 1: EXPENSE can only link to budgets
@@ -230,178 +293,13 @@ public class TransactionService {
         }
     }
 
-    // ==================== USER BALANCE METHODS ====================
+    // ==================== ENTITY REFERENCES ====================
 
-    /**
-     * Update user balance when creating a new transaction
-     *
-     * Transaction Type Impact on Balance:
-     * - INCOME: Increases balance (amount is positive)
-     * - EXPENSE: Decreases balance (amount is negative, stored as negative)
-     * - SAVING: Decreases balance (moving money to pot)
-     * - WITHDRAW: Increases balance (getting money from pot)
-     */
-    private void updateUserBalanceOnCreate(User user, Transaction transaction) {
-        BigDecimal amount = transaction.getAmount();
-        TransactionType type = transaction.getType();
-
-        switch (type) {
-            case INCOME:
-                // Income increases balance
-                user.addToBalance(amount);
-                break;
-            case EXPENSE:
-                // Expense decreases balance
-                user.subtractFromBalance(amount);
-                break;
-            case SAVING:
-                // Saving decreases balance (moving money to saving pot)
-                user.subtractFromBalance(amount);
-                break;
-            case WITHDRAW:
-                // Withdraw increases balance (getting money from saving pot)
-                user.addToBalance(amount);
-                break;
-        }
+    private Budget budgetReference(Long budgetId) {
+        return budgetId != null ? entityManager.getReference(Budget.class, budgetId) : null;
     }
 
-    /**
-     * Update user balance when updating a transaction
-     * First revert the old transaction, then apply the new one
-     */
-    private void updateUserBalanceOnUpdate(User user, BigDecimal oldAmount, TransactionType oldType,
-                                           BigDecimal newAmount, TransactionType newType) {
-        // Revert old transaction impact
-        switch (oldType) {
-            case INCOME:
-                user.subtractFromBalance(oldAmount);
-                break;
-            case EXPENSE:
-                user.addToBalance(oldAmount);
-                break;
-            case SAVING:
-                user.addToBalance(oldAmount);
-                break;
-            case WITHDRAW:
-                user.subtractFromBalance(oldAmount);
-                break;
-        }
-
-        // Apply new transaction impact
-        switch (newType) {
-            case INCOME:
-                user.addToBalance(newAmount);
-                break;
-            case EXPENSE:
-                user.subtractFromBalance(newAmount);
-                break;
-            case SAVING:
-                user.subtractFromBalance(newAmount);
-                break;
-            case WITHDRAW:
-                user.addToBalance(newAmount);
-                break;
-        }
-    }
-
-    /**
-     * Update user balance when deleting a transaction
-     * Revert the transaction's impact on balance
-     */
-    private void updateUserBalanceOnDelete(User user, Transaction transaction) {
-        BigDecimal amount = transaction.getAmount();
-        TransactionType type = transaction.getType();
-
-        // Revert the transaction impact
-        switch (type) {
-            case INCOME:
-                user.subtractFromBalance(amount);
-                break;
-            case EXPENSE:
-                user.addToBalance(amount);
-                break;
-            case SAVING:
-                user.addToBalance(amount);
-                break;
-            case WITHDRAW:
-                user.subtractFromBalance(amount);
-                break;
-        }
-    }
-
-    // ==================== BUDGET/POT METHODS ====================
-
-    /**
-     * Helper method to update budget calculations when transaction changes
-     */
-    private void updateBudgetCalculations(
-            Budget oldBudget, BigDecimal oldAmount, TransactionType oldType,
-            Budget newBudget, BigDecimal newAmount, TransactionType newType) {
-
-        // Remove from old budget (if it was an expense)
-        if (oldBudget != null && oldType == TransactionType.EXPENSE) {
-            oldBudget.subtractFromSpent(oldAmount);
-            oldBudget.decrementTransactionCount();
-            budgetRepository.save(oldBudget);
-        }
-
-        // Add to new budget (if it's an expense)
-        if (newBudget != null && newType == TransactionType.EXPENSE) {
-            // Check if it's the same budget (just updating amount)
-            if (oldBudget != null && oldBudget.getId().equals(newBudget.getId()) && oldType == TransactionType.EXPENSE) {
-                // Same budget, same type - just update the difference
-                BigDecimal difference = newAmount.subtract(oldAmount);
-                newBudget.addToSpent(difference);
-                // Count stays the same
-            } else {
-                // Different budget or type changed to expense
-                newBudget.addToSpent(newAmount);
-                newBudget.incrementTransactionCount();
-            }
-            budgetRepository.save(newBudget);
-        }
-    }
-
-    /**
-     * Helper method to update saving pot calculations when transaction changes
-     */
-    private void updateSavingPotCalculations(
-            SavingPot oldPot, BigDecimal oldAmount, TransactionType oldType,
-            SavingPot newPot, BigDecimal newAmount, TransactionType newType) {
-
-        // Remove from old pot
-        if (oldPot != null) {
-            if (oldType == TransactionType.SAVING) {
-                oldPot.subtractFromSaved(oldAmount);
-            } else if (oldType == TransactionType.WITHDRAW) {
-                oldPot.addToSaved(oldAmount);  // Add back what was withdrawn
-            }
-            oldPot.decrementTransactionCount();
-            savingPotRepository.save(oldPot);
-        }
-
-        // Add to new pot
-        if (newPot != null) {
-            // Check if it's the same pot (just updating amount)
-            if (oldPot != null && oldPot.getId().equals(newPot.getId()) && oldType == newType) {
-                // Same pot, same type - just update the difference
-                BigDecimal difference = newAmount.subtract(oldAmount);
-                if (newType == TransactionType.SAVING) {
-                    newPot.addToSaved(difference);
-                } else if (newType == TransactionType.WITHDRAW) {
-                    newPot.subtractFromSaved(difference);
-                }
-                // Count stays the same
-            } else {
-                // Different pot or type changed
-                if (newType == TransactionType.SAVING) {
-                    newPot.addToSaved(newAmount);
-                } else if (newType == TransactionType.WITHDRAW) {
-                    newPot.subtractFromSaved(newAmount);
-                }
-                newPot.incrementTransactionCount();
-            }
-            savingPotRepository.save(newPot);
-        }
+    private SavingPot savingPotReference(Long savingPotId) {
+        return savingPotId != null ? entityManager.getReference(SavingPot.class, savingPotId) : null;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.budgy.backend.services;
 
+import com.budgy.backend.cache.UserCacheInvalidator;
 import com.budgy.backend.dto.UserDTO;
 import com.budgy.backend.dto.response.UserResponseDTO;
 import com.budgy.backend.entities.User;
@@ -7,9 +8,12 @@ import com.budgy.backend.exceptions.BadRequestException;
 import com.budgy.backend.exceptions.ResourceNotFoundException;
 import com.budgy.backend.mappers.UserMapper;
 import com.budgy.backend.repositories.UserRepository;
+import com.budgy.backend.security.PrincipalCache;
+import com.budgy.backend.security.TokenRevocations;
 import com.budgy.backend.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,10 +27,13 @@ import java.util.stream.StreamSupport;
 @Service
 @RequiredArgsConstructor
 @Transactional
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final PrincipalCache principalCache;
+    private final TokenRevocations tokenRevocations;
 
     /**
      * Required by Spring Security for authentication
@@ -39,6 +46,30 @@ public class UserService implements UserDetailsService {
         return new UserDetailsImpl(user);
     }
 
+    /**
+     * Called by Spring Security after a successful login whose stored hash was made with a
+     * different cost than password-hashing.strength, with the password hashed at the new cost
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        if (user instanceof UserDetailsImpl userDetails) {
+            userDetails.getUser().setPassword(newPassword);
+            return userDetails;
+        }
+        return loadUserByUsername(user.getUsername());
+    }
+
+    /**
+     * Principal of an authenticated request (see JwtAuthenticationFilter and PrincipalCache)
+     */
+    @Transactional(readOnly = true)
+    public UserDetailsImpl loadPrincipal(Long id) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
+        return UserDetailsImpl.principalOf(user);
+    }
+
     public List<UserResponseDTO> getAllUsers() {
         return StreamSupport.stream(userRepository.findAll().spliterator(), false)
                 .map(UserMapper::toResponse)
@@ -76,7 +107,11 @@ public class UserService implements UserDetailsService {
         return UserMapper.toResponse(savedUser);
     }
 
-    public UserResponseDTO updateUser(Long id, UserDTO dto) {
+    /**
+     * @param callerTokenId id of the token the change was made with; on a password change it
+     *                      stays valid while every other token of the user is revoked
+     */
+    public UserResponseDTO updateUser(Long id, UserDTO dto, String callerTokenId) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
@@ -91,9 +126,12 @@ public class UserService implements UserDetailsService {
         // Hash password if it was changed
         if (dto.getPassword() != null && !dto.getPassword().isEmpty()) {
             user.setPassword(passwordEncoder.encode(dto.getPassword()));
+            // Tokens issued with the old password stop working, except the caller's
+            tokenRevocations.revokeUser(id, callerTokenId);
         }
 
         User updatedUser = userRepository.save(user);
+        principalCache.invalidate(id);
         return UserMapper.toResponse(updatedUser);
     }
 
@@ -101,5 +139,8 @@ public class UserService implements UserDetailsService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         userRepository.delete(user);
+        userCacheInvalidator.invalidate(id);
+        principalCache.invalidate(id);
+        tokenRevocations.revokeUser(id);
     }
 }
\ No newline at end of file
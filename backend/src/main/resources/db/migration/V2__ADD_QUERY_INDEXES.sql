@@ -0,0 +1,31 @@
+-- Composite indexes for the repository access patterns.
+-- InnoDB appends the primary key to every secondary index, so (user_id, transaction_date)
+-- also serves the keyset ordering (transaction_date DESC, id DESC).
+
+-- TransactionRepository: paged listing, date range, export stream, count and saving pot sums
+CREATE INDEX idx_transactions_user_date
+    ON transactions (user_id, transaction_date);
+
+-- TransactionRepository: listing by type and sums per type/period (amount makes the sum index-only)
+CREATE INDEX idx_transactions_user_type_date
+    ON transactions (user_id, type, transaction_date, amount);
+
+-- TransactionRepository: listing by budget
+CREATE INDEX idx_transactions_user_budget_date
+    ON transactions (user_id, budget_id, transaction_date);
+
+-- TransactionRepository: listing by saving pot
+CREATE INDEX idx_transactions_user_pot_date
+    ON transactions (user_id, saving_pot_id, transaction_date);
+
+-- BudgetRepository: lookup and existence check by category
+CREATE INDEX idx_budgets_user_category
+    ON budgets (user_id, category);
+
+-- RecurringBillRepository: bills by status
+CREATE INDEX idx_recurring_bills_user_status
+    ON recurring_bills (user_id, status);
+
+-- RecurringBillRepository: upcoming bills ordered by due date
+CREATE INDEX idx_recurring_bills_user_due_date
+    ON recurring_bills (user_id, due_date);
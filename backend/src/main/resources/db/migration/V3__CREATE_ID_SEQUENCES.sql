@@ -0,0 +1,42 @@
+-- Sequence tables for pooled id generation.
+-- IDENTITY ids force Hibernate to insert rows one by one to read back the generated key,
+-- which disables JDBC batching. MySQL has no sequences, so Hibernate emulates each
+-- @SequenceGenerator with a single-row table holding next_val.
+--
+-- With the pooled optimizer (allocationSize = 50) a fetched value V reserves ids
+-- V - 49 .. V, so each table starts at MAX(id) + 51 to stay clear of existing rows.
+--
+-- AUTO_INCREMENT is left on the id columns, but it is not safe to use once Hibernate inserts
+-- rows: its counter knows nothing of the ids reserved from these tables, so the two collide.
+-- Rows inserted outside of Hibernate must draw their ids from the matching *_seq table the
+-- way Hibernate does: read next_val V FOR UPDATE, add 50, and use ids V - 49 .. V.
+
+CREATE TABLE users_seq
+(
+    next_val BIGINT NOT NULL
+);
+INSERT INTO users_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM users;
+
+CREATE TABLE budgets_seq
+(
+    next_val BIGINT NOT NULL
+);
+INSERT INTO budgets_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM budgets;
+
+CREATE TABLE saving_pots_seq
+(
+    next_val BIGINT NOT NULL
+);
+INSERT INTO saving_pots_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM saving_pots;
+
+CREATE TABLE recurring_bills_seq
+(
+    next_val BIGINT NOT NULL
+);
+INSERT INTO recurring_bills_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM recurring_bills;
+
+CREATE TABLE transactions_seq
+(
+    next_val BIGINT NOT NULL
+);
+INSERT INTO transactions_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM transactions;
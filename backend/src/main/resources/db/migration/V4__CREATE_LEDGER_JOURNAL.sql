@@ -0,0 +1,82 @@
+-- Append-only ledger journal and per-user snapshots.
+-- Every change to users.current_balance, budgets.spent/transaction_count and
+-- saving_pots.saved/transaction_count is recorded as one journal row per account touched.
+-- users.ledger_version is bumped by the same statement that updates the balance, so it
+-- orders a user's ledger events even when journal ids come from different id pools.
+-- The value of an account at version V is its latest snapshot at or below V plus the
+-- journal rows of the user after that snapshot, up to V.
+
+ALTER TABLE users
+    ADD COLUMN ledger_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE ledger_journal
+(
+    id             BIGINT         NOT NULL,
+    user_id        BIGINT         NOT NULL,
+    version        BIGINT         NOT NULL,
+    event_type     VARCHAR(20)    NOT NULL,
+    transaction_id BIGINT NULL,
+    account_type   VARCHAR(20)    NOT NULL,
+    account_id     BIGINT         NOT NULL,
+    amount_delta   DECIMAL(10, 2) NOT NULL,
+    count_delta    INT            NOT NULL,
+    created_at     datetime       NOT NULL,
+    CONSTRAINT pk_ledger_journal PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_ledger_journal_user_version ON ledger_journal (user_id, version);
+
+CREATE TABLE ledger_snapshots
+(
+    id           BIGINT         NOT NULL,
+    user_id      BIGINT         NOT NULL,
+    version      BIGINT         NOT NULL,
+    account_type VARCHAR(20)    NOT NULL,
+    account_id   BIGINT         NOT NULL,
+    amount       DECIMAL(10, 2) NOT NULL,
+    item_count   INT            NOT NULL,
+    created_at   datetime       NOT NULL,
+    CONSTRAINT pk_ledger_snapshots PRIMARY KEY (id)
+);
+
+-- Also keeps two nodes from writing the same snapshot twice
+ALTER TABLE ledger_snapshots
+    ADD CONSTRAINT uc_ledger_snapshots_account UNIQUE (user_id, version, account_type, account_id);
+
+-- Journal rows go away with their user, like the user's transactions
+ALTER TABLE ledger_journal
+    ADD CONSTRAINT FK_LEDGER_JOURNAL_ON_USER FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+
+ALTER TABLE ledger_snapshots
+    ADD CONSTRAINT FK_LEDGER_SNAPSHOTS_ON_USER FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+
+-- Existing counters become the opening entries (version 1) of each user's journal
+UPDATE users
+SET ledger_version = 1;
+
+INSERT INTO ledger_journal (id, user_id, version, event_type, transaction_id, account_type, account_id,
+                            amount_delta, count_delta, created_at)
+SELECT ROW_NUMBER() OVER (ORDER BY opening.user_id, opening.account_type, opening.account_id),
+       opening.user_id, 1, 'OPENING', NULL, opening.account_type, opening.account_id,
+       opening.amount, opening.item_count, NOW()
+FROM (SELECT id AS user_id, 'BALANCE' AS account_type, id AS account_id,
+             COALESCE(current_balance, 0) AS amount, 0 AS item_count
+      FROM users
+      UNION ALL
+      SELECT user_id, 'BUDGET', id, spent, transaction_count
+      FROM budgets
+      UNION ALL
+      SELECT user_id, 'SAVING_POT', id, saved, transaction_count
+      FROM saving_pots) opening;
+
+CREATE TABLE ledger_journal_seq
+(
+    next_val BIGINT NOT NULL
+);
+INSERT INTO ledger_journal_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM ledger_journal;
+
+CREATE TABLE ledger_snapshots_seq
+(
+    next_val BIGINT NOT NULL
+);
+INSERT INTO ledger_snapshots_seq (next_val) VALUES (51);
@@ -0,0 +1,32 @@
+-- Per user, month, type and category totals of transactions, maintained by TransactionService
+-- in the same database transaction as the transaction row (see MonthlyRollupWriter).
+-- month_start is the first day of the month; amounts are normalized by type whatever sign a
+-- transaction was stored with (EXPENSE negative, other types positive, see
+-- TransactionType.signedAmount). Existing history is filled in below; the backfill job
+-- recomputes it later if needed:
+-- java -jar backend.jar --rollups.command=backfill --spring.main.web-application-type=none
+
+CREATE TABLE monthly_rollups
+(
+    user_id           BIGINT         NOT NULL,
+    month_start       date           NOT NULL,
+    type              VARCHAR(20)    NOT NULL,
+    category          VARCHAR(255)   NOT NULL,
+    total_amount      DECIMAL(12, 2) NOT NULL,
+    transaction_count INT            NOT NULL,
+    CONSTRAINT pk_monthly_rollups PRIMARY KEY (user_id, month_start, type, category)
+);
+
+ALTER TABLE monthly_rollups
+    ADD CONSTRAINT FK_MONTHLY_ROLLUPS_ON_USER FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+
+-- History of existing transactions (same totals as MonthlyRollupRepository.backfillUserRange)
+INSERT INTO monthly_rollups (user_id, month_start, type, category, total_amount, transaction_count)
+SELECT t.user_id,
+       DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY),
+       t.type,
+       t.category,
+       SUM(CASE WHEN t.type = 'EXPENSE' THEN -ABS(t.amount) ELSE ABS(t.amount) END),
+       COUNT(*)
+FROM transactions t
+GROUP BY t.user_id, DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY), t.type, t.category;
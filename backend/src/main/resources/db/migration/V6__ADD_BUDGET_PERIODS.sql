@@ -0,0 +1,31 @@
+-- Budgets get a period: WEEKLY (Monday to Sunday), MONTHLY (calendar month) or CUSTOM
+-- (period_days long, repeating from period_anchor). Existing budgets become MONTHLY.
+ALTER TABLE budgets
+    ADD period VARCHAR(20) NOT NULL DEFAULT 'MONTHLY',
+    ADD period_anchor date NULL,
+    ADD period_days INT NULL;
+
+-- Spend and transaction count of a budget per period, maintained by TransactionService in
+-- the same database transaction as the transaction row (see BudgetPeriodWriter).
+-- period_start is the first day of the period under the budget's current period settings.
+CREATE TABLE budget_period_totals
+(
+    budget_id         BIGINT         NOT NULL,
+    period_start      date           NOT NULL,
+    spent             DECIMAL(10, 2) NOT NULL,
+    transaction_count INT            NOT NULL,
+    CONSTRAINT pk_budget_period_totals PRIMARY KEY (budget_id, period_start)
+);
+
+ALTER TABLE budget_period_totals
+    ADD CONSTRAINT FK_BUDGET_PERIOD_TOTALS_ON_BUDGET FOREIGN KEY (budget_id) REFERENCES budgets (id) ON DELETE CASCADE;
+
+-- History of existing budgets, by calendar month
+INSERT INTO budget_period_totals (budget_id, period_start, spent, transaction_count)
+SELECT t.budget_id,
+       DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY),
+       SUM(CASE WHEN t.type = 'EXPENSE' THEN ABS(t.amount) ELSE 0 END),
+       COUNT(*)
+FROM transactions t
+WHERE t.budget_id IS NOT NULL
+GROUP BY t.budget_id, DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY);
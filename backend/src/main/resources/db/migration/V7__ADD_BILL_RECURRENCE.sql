@@ -0,0 +1,23 @@
+-- Bills repeat WEEKLY, MONTHLY, QUARTERLY or YEARLY from their due date.
+-- auto_pay bills are posted as EXPENSE transactions when due (see RecurringBillMaterializer).
+-- Bills are auto-paid only when the client asks for it, so existing bills and bills created
+-- without an auto-pay choice never post transactions on their own.
+ALTER TABLE recurring_bills
+    ADD recurrence VARCHAR(20) NOT NULL DEFAULT 'MONTHLY',
+    ADD auto_pay BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- RecurringBillMaterializer: due bills across users, in (due_date, id) keyset order
+CREATE INDEX idx_recurring_bills_due_date
+    ON recurring_bills (due_date);
+
+-- Transactions posted for a bill record the cycle (due date) they pay. The unique key makes
+-- posting idempotent per bill cycle; deleting the bill keeps its transactions.
+ALTER TABLE transactions
+    ADD recurring_bill_id BIGINT NULL,
+    ADD bill_due_date date NULL;
+
+ALTER TABLE transactions
+    ADD CONSTRAINT uc_transactions_bill_cycle UNIQUE (recurring_bill_id, bill_due_date);
+
+ALTER TABLE transactions
+    ADD CONSTRAINT FK_TRANSACTIONS_ON_RECURRING_BILL FOREIGN KEY (recurring_bill_id) REFERENCES recurring_bills (id) ON DELETE SET NULL;
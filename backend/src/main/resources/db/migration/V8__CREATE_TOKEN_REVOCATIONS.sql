@@ -0,0 +1,15 @@
+-- Revoked JWTs, loaded into memory by TokenRevocations and reloaded periodically.
+-- revocation_key is 't:<token id>' for a single token (logout), or 'u:<user id>' for every
+-- token of a user issued up to issued_before (password change, account deletion). exempt_token_id
+-- is the id of the token that changed the password, which stays valid.
+-- A row is purged once every token it covers has expired (expires_at).
+CREATE TABLE token_revocations
+(
+    revocation_key  VARCHAR(64) NOT NULL,
+    issued_before   datetime(6) NULL,
+    exempt_token_id VARCHAR(64) NULL,
+    expires_at      datetime(6) NOT NULL,
+    CONSTRAINT pk_token_revocations PRIMARY KEY (revocation_key)
+);
+
+CREATE INDEX idx_token_revocations_expires_at ON token_revocations (expires_at);
@@ -0,0 +1,163 @@
+package com.budgy.backend.benchmark;
+
+import com.budgy.backend.entities.Transaction;
+import com.budgy.backend.entities.User;
+import com.budgy.backend.enums.TransactionType;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Transaction insert throughput: IDENTITY ids vs pooled sequence ids with JDBC batching
+ * <p>
+ * Persists Transaction entities through a Hibernate EntityManager against a real MySQL server,
+ * once under each configuration:
+ * - identity: the id mapping overridden back to IDENTITY (benchmark/identity-ids.orm.xml), no
+ * JDBC batching, so every persist is its own INSERT reading back the generated key
+ * - pooled: the entity's own transactions_seq generator (allocationSize 50), with the JDBC
+ * batching, insert ordering and rewriteBatchedStatements settings of application.yml
+ * Only runs when BUDGY_BENCHMARK_DB_URL is set (server URL with credentials, no schema).
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "BUDGY_BENCHMARK_DB_URL", matches = ".+")
+class InsertThroughputBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int BATCH_SIZE = 50;
+    private static final int COMMIT_EVERY = 500;
+
+    private final String schema = "budgy_bench_" + System.currentTimeMillis();
+    private String baseUrl;
+    private JdbcTemplate jdbc;
+
+    @BeforeAll
+    void createSchema() {
+        baseUrl = System.getenv("BUDGY_BENCHMARK_DB_URL");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(baseUrl);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .createSchemas(true)
+                .load()
+                .migrate();
+
+        dataSource.setCatalog(schema);
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO users (id, name, email, password, current_balance) " +
+                "VALUES (1, 'Bench', 'bench@example.com', 'x', 0)");
+    }
+
+    @AfterAll
+    void dropSchema() {
+        if (jdbc != null) {
+            jdbc.execute("DROP DATABASE IF EXISTS " + schema);
+        }
+    }
+
+    @Test
+    void compareIdentityAndPooledInserts() {
+        double identityRate = persistTransactions(false);
+        jdbc.update("DELETE FROM transactions");
+        double pooledRate = persistTransactions(true);
+
+        log.info("Persisted {} transactions: IDENTITY, one round trip per row {} rows/s; " +
+                        "pooled ids + JDBC batch of {} {} rows/s ({}x)",
+                ROWS, String.format("%,.0f", identityRate), BATCH_SIZE, String.format("%,.0f", pooledRate),
+                String.format("%.1f", pooledRate / identityRate));
+        assertThat(pooledRate).isGreaterThan(identityRate);
+    }
+
+    /**
+     * Persist ROWS transactions, committing and clearing the persistence context every COMMIT_EVERY
+     *
+     * @return rows per second
+     */
+    private double persistTransactions(boolean pooled) {
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl(baseUrl + (baseUrl.contains("?") ? "&" : "?") + "rewriteBatchedStatements=" + pooled);
+            dataSource.setCatalog(schema);
+            // The pooled generator reserves ids on a second connection
+            dataSource.setMaximumPoolSize(2);
+
+            EntityManagerFactory entityManagerFactory = entityManagerFactory(dataSource, pooled);
+            try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+                long start = System.nanoTime();
+                entityManager.getTransaction().begin();
+                User user = entityManager.getReference(User.class, 1L);
+                for (int i = 0; i < ROWS; i++) {
+                    entityManager.persist(transaction(i, user));
+                    if ((i + 1) % COMMIT_EVERY == 0) {
+                        entityManager.getTransaction().commit();
+                        entityManager.clear();
+                        entityManager.getTransaction().begin();
+                        user = entityManager.getReference(User.class, 1L);
+                    }
+                }
+                entityManager.getTransaction().commit();
+                double rate = ROWS / ((System.nanoTime() - start) / 1e9);
+
+                assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM transactions", Integer.class)).isEqualTo(ROWS);
+                return rate;
+            } finally {
+                entityManagerFactory.close();
+            }
+        }
+    }
+
+    private static EntityManagerFactory entityManagerFactory(HikariDataSource dataSource, boolean pooled) {
+        Map<String, Object> properties = new HashMap<>();
+        // Spring Boot's naming strategies, which the entity mappings rely on
+        properties.put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName());
+        properties.put(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName());
+        if (pooled) {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+        }
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.budgy.backend.entities");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(properties);
+        if (!pooled) {
+            factory.setMappingResources("benchmark/identity-ids.orm.xml");
+        }
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private static Transaction transaction(int i, User user) {
+        Transaction transaction = new Transaction();
+        transaction.setName("Tx " + i);
+        transaction.setTransactionDate(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+        transaction.setAmount(BigDecimal.valueOf(-(i % 100) - 1));
+        transaction.setCategory("Food");
+        transaction.setType(TransactionType.EXPENSE);
+        transaction.setUser(user);
+        return transaction;
+    }
+}
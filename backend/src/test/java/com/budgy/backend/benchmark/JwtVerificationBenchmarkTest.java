@@ -0,0 +1,99 @@
+package com.budgy.backend.benchmark;
+
+import com.budgy.backend.entities.User;
+import com.budgy.backend.security.JwtUtil;
+import com.budgy.backend.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-request JWT authentication cost: the former JwtUtil path vs JwtUtil.verify
+ * <p>
+ * - before: the filter's extractUsername plus validateToken's extractUsername and
+ * extractExpiration, each building the key and a parser, re-encoding the signature and
+ * verifying it
+ * - single pass: one verify per request with the verified-token cache disabled
+ * - cached: one verify per request for a token the cache has seen (a client repeating its token)
+ * Only runs when BUDGY_BENCHMARK=true; no database needed.
+ */
+@Slf4j
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "BUDGY_BENCHMARK", matches = "true")
+class JwtVerificationBenchmarkTest {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWTTokenGenerationAndValidation1234567890";
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int REQUESTS = 100_000;
+
+    @Test
+    void compareAuthenticationCostPerRequest() {
+        JwtUtil uncached = new JwtUtil(SECRET, 3_600_000L, 0);
+        JwtUtil cached = new JwtUtil(SECRET, 3_600_000L, 10_000);
+        User user = new User();
+        user.setId(1L);
+        user.setName("Bench");
+        user.setEmail("bench@example.com");
+        String token = cached.generateToken(new UserDetailsImpl(user));
+
+        double before = nanosPerRequest(() -> authenticateAsBefore(token));
+        double singlePass = nanosPerRequest(() -> uncached.verify(token).subject());
+        double hit = nanosPerRequest(() -> cached.verify(token).subject());
+
+        log.info("JWT authentication, {} requests: before (3 parses, key + parser per call) {} ns/request; " +
+                        "single pass, shared parser {} ns/request ({}x); verified-token cache hit {} ns/request ({}x)",
+                REQUESTS, String.format("%,.0f", before),
+                String.format("%,.0f", singlePass), String.format("%.1f", before / singlePass),
+                String.format("%,.0f", hit), String.format("%.1f", before / hit));
+        assertThat(singlePass).isLessThan(before);
+        assertThat(hit).isLessThan(singlePass);
+    }
+
+    private static double nanosPerRequest(Supplier<String> request) {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            assertThat(request.get()).isEqualTo("bench@example.com");
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            if (request.get() == null) {
+                throw new IllegalStateException("Token without subject");
+            }
+        }
+        return (System.nanoTime() - start) / (double) REQUESTS;
+    }
+
+    // ==================== FORMER PATH ====================
+
+    private static String authenticateAsBefore(String token) {
+        String username = extractClaim(token, Claims::getSubject);
+        boolean valid = extractClaim(token, Claims::getSubject).equals(username)
+                && !extractClaim(token, Claims::getExpiration).before(new Date());
+        return valid ? username : null;
+    }
+
+    private static <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        String signature = token.split("\\.")[2];
+        byte[] decoded = Base64.getUrlDecoder().decode(signature);
+        if (!signature.equals(Base64.getUrlEncoder().withoutPadding().encodeToString(decoded))) {
+            throw new IllegalStateException("Non-canonical signature");
+        }
+        Claims claims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return claimsResolver.apply(claims);
+    }
+}
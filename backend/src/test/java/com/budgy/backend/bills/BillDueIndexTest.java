@@ -0,0 +1,72 @@
+package com.budgy.backend.bills;
+
+import com.budgy.backend.dto.projection.RecurringBillView;
+import com.budgy.backend.enums.BillRecurrence;
+import com.budgy.backend.enums.BillStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BillDueIndexTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2025, 3, 1);
+
+    private final BillDueIndex index = BillDueIndex.build(List.of(
+            bill(4L, MARCH_1.plusDays(20)),
+            bill(1L, MARCH_1),
+            bill(3L, MARCH_1.plusDays(10)),
+            bill(2L, MARCH_1.plusDays(10))));
+
+    @Test
+    void findsBillsDueInRange() {
+        assertThat(ids(index.dueBetween(MARCH_1.plusDays(1), MARCH_1.plusDays(20)))).containsExactly(2L, 3L, 4L);
+        assertThat(ids(index.dueBetween(MARCH_1, MARCH_1))).containsExactly(1L);
+        assertThat(index.dueBetween(MARCH_1.plusDays(21), MARCH_1.plusDays(40))).isEmpty();
+    }
+
+    @Test
+    void findsNextBills() {
+        assertThat(ids(index.next(MARCH_1.plusDays(5), 2))).containsExactly(2L, 3L);
+        assertThat(ids(index.next(MARCH_1.plusDays(15), 10))).containsExactly(4L);
+    }
+
+    @Test
+    void keepsUnpaidBillsDueBeforeTodayAndDropsPaidOnes() {
+        BillDueIndex withPast = index
+                .with(bill(5L, MARCH_1.minusDays(40), BillStatus.OVERDUE))
+                .with(bill(6L, MARCH_1.minusDays(10), BillStatus.PAID))
+                .with(bill(7L, MARCH_1.minusDays(5), BillStatus.PENDING))
+                .with(bill(8L, MARCH_1.plusDays(5), BillStatus.PAID));
+
+        assertThat(ids(withPast.dueBy(MARCH_1, MARCH_1.plusDays(10)))).containsExactly(5L, 7L, 1L, 8L, 2L, 3L);
+        assertThat(ids(withPast.dueBy(MARCH_1.minusDays(20), MARCH_1.minusDays(1)))).containsExactly(5L, 6L, 7L);
+    }
+
+    @Test
+    void appliesWritesToACopy() {
+        BillDueIndex changed = index
+                .with(bill(1L, MARCH_1.plusDays(30)))
+                .with(bill(5L, MARCH_1.plusDays(5)))
+                .without(3L);
+
+        assertThat(ids(changed.next(MARCH_1, 10))).containsExactly(5L, 2L, 4L, 1L);
+        assertThat(ids(index.next(MARCH_1, 10))).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    private static List<Long> ids(List<RecurringBillView> bills) {
+        return bills.stream().map(RecurringBillView::id).toList();
+    }
+
+    private static RecurringBillView bill(Long id, LocalDate dueDate) {
+        return bill(id, dueDate, BillStatus.PENDING);
+    }
+
+    private static RecurringBillView bill(Long id, LocalDate dueDate, BillStatus status) {
+        return new RecurringBillView(id, "Bill " + id, new BigDecimal("10.00"), dueDate, status,
+                "Utilities", BillRecurrence.MONTHLY, true, null, null);
+    }
+}
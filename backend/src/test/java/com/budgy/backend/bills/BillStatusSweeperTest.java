@@ -0,0 +1,191 @@
+package com.budgy.backend.bills;
+
+import com.budgy.backend.cache.UserCache;
+import com.budgy.backend.cache.UserCacheInvalidator;
+import com.budgy.backend.dto.projection.DueBill;
+import com.budgy.backend.enums.BillStatus;
+import com.budgy.backend.repositories.RecurringBillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BillStatusSweeperTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 4, 20);
+
+    private final Map<Long, Bill> bills = new TreeMap<>();
+    private final UserCache<String> cache = new UserCache<>("test", 10, Duration.ofMinutes(1));
+
+    @Test
+    void marksPaidBillsFirstThenOverdueOnes() {
+        add(new Bill(1L, 7L, LocalDate.of(2025, 4, 10), BillStatus.PENDING, false, LocalDate.of(2025, 4, 8)));
+        add(new Bill(2L, 7L, LocalDate.of(2025, 4, 10), BillStatus.PENDING, false, null));
+        // Paid early, within the 5 day window before its due date
+        add(new Bill(3L, 8L, LocalDate.of(2025, 4, 24), BillStatus.PENDING, false, LocalDate.of(2025, 4, 19)));
+        // Paid late, after it was flagged overdue
+        add(new Bill(4L, 8L, LocalDate.of(2025, 3, 1), BillStatus.OVERDUE, false, LocalDate.of(2025, 4, 18)));
+        // Paid too early to count for this cycle
+        add(new Bill(5L, 8L, LocalDate.of(2025, 4, 12), BillStatus.PENDING, false, LocalDate.of(2025, 4, 1)));
+        // Due today, not overdue yet; auto-paid bills are the materializer's
+        add(new Bill(6L, 9L, TODAY, BillStatus.PENDING, false, null));
+        add(new Bill(7L, 9L, LocalDate.of(2025, 4, 1), BillStatus.PENDING, true, null));
+        List.of(7L, 8L, 9L).forEach(userId -> cache.get(userId, () -> "cached"));
+
+        BillStatusSweeper.SweepResult result = sweeper().sweep(TODAY);
+
+        assertThat(result.paid()).isEqualTo(3);
+        assertThat(result.overdue()).isEqualTo(2);
+        assertThat(result.failedBatches()).isZero();
+        assertThat(bills.values()).extracting(Bill::status).containsExactly(
+                BillStatus.PAID, BillStatus.OVERDUE, BillStatus.PAID, BillStatus.PAID,
+                BillStatus.OVERDUE, BillStatus.PENDING, BillStatus.PENDING);
+        // Only users whose bills changed are evicted
+        assertThat(cache.get(7L, () -> "reloaded")).isEqualTo("reloaded");
+        assertThat(cache.get(8L, () -> "reloaded")).isEqualTo("reloaded");
+        assertThat(cache.get(9L, () -> "reloaded")).isEqualTo("cached");
+    }
+
+    @Test
+    void skipsAFailedBatchAndCarriesOn() {
+        add(new Bill(1L, 7L, LocalDate.of(2025, 4, 1), BillStatus.PENDING, false, null));
+        add(new Bill(2L, 7L, LocalDate.of(2025, 4, 2), BillStatus.PENDING, false, null));
+        add(new Bill(3L, 8L, LocalDate.of(2025, 4, 3), BillStatus.PENDING, false, null));
+        bills.get(1L).failing = true;
+
+        BillStatusSweeper.SweepResult result = sweeper().sweep(TODAY);
+
+        // Batches of two: the first fails in both passes, the second is updated
+        assertThat(result.failedBatches()).isEqualTo(2);
+        assertThat(result.overdue()).isEqualTo(1);
+        assertThat(bills.values()).extracting(Bill::status)
+                .containsExactly(BillStatus.PENDING, BillStatus.PENDING, BillStatus.OVERDUE);
+    }
+
+    private BillStatusSweeper sweeper() {
+        BillStatusSweeper sweeper = new BillStatusSweeper(repository(), new UserCacheInvalidator(List.of(cache)),
+                new NoopTransactionManager());
+        ReflectionTestUtils.setField(sweeper, "batchSize", 2);
+        ReflectionTestUtils.setField(sweeper, "paymentWindowDays", 5);
+        return sweeper;
+    }
+
+    private void add(Bill bill) {
+        bills.put(bill.id, bill);
+    }
+
+    // Follows the conditions of the repository queries over the bills above
+    private RecurringBillRepository repository() {
+        return (RecurringBillRepository) Proxy.newProxyInstance(
+                RecurringBillRepository.class.getClassLoader(),
+                new Class<?>[]{RecurringBillRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findManualDueAfter" -> bills.values().stream()
+                            .filter(bill -> !bill.autoPay && !bill.dueDate.isAfter((LocalDate) args[0])
+                                    && ((Collection<?>) args[1]).contains(bill.status)
+                                    && (bill.dueDate.isAfter((LocalDate) args[2])
+                                    || bill.dueDate.equals(args[2]) && bill.id > (Long) args[3]))
+                            .sorted(Comparator.comparing((Bill bill) -> bill.dueDate).thenComparing(bill -> bill.id))
+                            .limit(((Limit) args[4]).max())
+                            .map(Bill::toDueBill)
+                            .toList();
+                    case "linkPayments" -> {
+                        int linked = 0;
+                        for (Bill bill : of(args[0])) {
+                            LocalDate windowStart = bill.dueDate.minusDays((Integer) args[1]);
+                            if (bill.status != BillStatus.PAID && bill.paidOn != null && bill.linkedCycle == null
+                                    && !bill.paidOn.isBefore(windowStart) && !bill.paidOn.isAfter((LocalDate) args[2])) {
+                                bill.linkedCycle = bill.dueDate;
+                                linked++;
+                            }
+                        }
+                        yield linked;
+                    }
+                    case "findPaidCycles" -> of(args[0]).stream()
+                            .filter(bill -> bill.status != BillStatus.PAID && bill.dueDate.equals(bill.linkedCycle))
+                            .map(Bill::toDueBill)
+                            .toList();
+                    case "markPaid" -> update(of(args[0]), BillStatus.PAID);
+                    case "findOverdueCycles" -> of(args[0]).stream()
+                            .filter(bill -> bill.status == BillStatus.PENDING && bill.dueDate.isBefore((LocalDate) args[1]))
+                            .map(Bill::toDueBill)
+                            .toList();
+                    case "markOverdue" -> update(of(args[0]), BillStatus.OVERDUE);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private List<Bill> of(Object ids) {
+        List<Bill> selected = ((Collection<?>) ids).stream().map(bills::get).toList();
+        if (selected.stream().anyMatch(bill -> bill.failing)) {
+            throw new IllegalStateException("Lock wait timeout");
+        }
+        return selected;
+    }
+
+    private static int update(List<Bill> selected, BillStatus status) {
+        selected.forEach(bill -> bill.status = status);
+        return selected.size();
+    }
+
+    private static final class Bill {
+        private final Long id;
+        private final Long userId;
+        private final LocalDate dueDate;
+        private final boolean autoPay;
+        private final LocalDate paidOn;
+        private BillStatus status;
+        private LocalDate linkedCycle;
+        private boolean failing;
+
+        private Bill(Long id, Long userId, LocalDate dueDate, BillStatus status, boolean autoPay, LocalDate paidOn) {
+            this.id = id;
+            this.userId = userId;
+            this.dueDate = dueDate;
+            this.status = status;
+            this.autoPay = autoPay;
+            this.paidOn = paidOn;
+        }
+
+        private BillStatus status() {
+            return status;
+        }
+
+        private DueBill toDueBill() {
+            return new DueBill(id, userId, dueDate);
+        }
+    }
+
+    private static class NoopTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
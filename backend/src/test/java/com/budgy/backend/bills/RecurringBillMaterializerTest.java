@@ -0,0 +1,201 @@
+package com.budgy.backend.bills;
+
+import com.budgy.backend.cache.UserCacheInvalidator;
+import com.budgy.backend.dto.projection.DueBill;
+import com.budgy.backend.entities.Budget;
+import com.budgy.backend.entities.RecurringBill;
+import com.budgy.backend.entities.Transaction;
+import com.budgy.backend.entities.User;
+import com.budgy.backend.enums.BillRecurrence;
+import com.budgy.backend.enums.BillStatus;
+import com.budgy.backend.repositories.BudgetRepository;
+import com.budgy.backend.repositories.RecurringBillRepository;
+import com.budgy.backend.repositories.UserRepository;
+import com.budgy.backend.services.TransactionBatchWriter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RecurringBillMaterializerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 4, 20);
+
+    private final List<RecurringBill> bills = new ArrayList<>();
+    private final List<Transaction> posted = new ArrayList<>();
+
+    @Test
+    void postsEveryMissedCycleAndKeepsTheDayOfMonth() {
+        RecurringBill rent = bill(1L, LocalDate.of(2025, 1, 31), BillStatus.PENDING, true, LocalDate.of(2024, 12, 1));
+
+        assertThat(materialize()).isEqualTo(3);
+
+        assertThat(posted).extracting(Transaction::getTransactionDate, Transaction::getBillDueDate, Transaction::getAmount)
+                .containsExactly(
+                        tuple(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 1, 31), new BigDecimal("-10.00")),
+                        tuple(LocalDate.of(2025, 2, 28), LocalDate.of(2025, 2, 28), new BigDecimal("-10.00")),
+                        tuple(LocalDate.of(2025, 3, 31), LocalDate.of(2025, 3, 31), new BigDecimal("-10.00")));
+        assertThat(rent.getDueDate()).isEqualTo(LocalDate.of(2025, 4, 30));
+        assertThat(rent.getStatus()).isEqualTo(BillStatus.PENDING);
+    }
+
+    @Test
+    void skipsTheSettledCycleOfAPaidBill() {
+        RecurringBill paid = bill(1L, LocalDate.of(2025, 3, 15), BillStatus.PAID, true, LocalDate.of(2025, 1, 1));
+
+        assertThat(materialize()).isEqualTo(1);
+
+        assertThat(posted).extracting(Transaction::getBillDueDate).containsExactly(LocalDate.of(2025, 4, 15));
+        assertThat(paid.getDueDate()).isEqualTo(LocalDate.of(2025, 5, 15));
+        assertThat(paid.getStatus()).isEqualTo(BillStatus.PENDING);
+    }
+
+    @Test
+    void manualBillsWaitAtTheirFirstUnpaidCycle() {
+        RecurringBill unpaid = bill(1L, LocalDate.of(2025, 3, 15), BillStatus.OVERDUE, false, LocalDate.of(2025, 1, 1));
+        RecurringBill paid = bill(2L, LocalDate.of(2025, 2, 15), BillStatus.PAID, false, LocalDate.of(2025, 1, 1));
+
+        assertThat(materialize()).isZero();
+
+        assertThat(unpaid.getDueDate()).isEqualTo(LocalDate.of(2025, 3, 15));
+        assertThat(unpaid.getStatus()).isEqualTo(BillStatus.OVERDUE);
+        assertThat(paid.getDueDate()).isEqualTo(LocalDate.of(2025, 3, 15));
+        assertThat(paid.getStatus()).isEqualTo(BillStatus.PENDING);
+    }
+
+    @Test
+    void skipsCyclesDueBeforeTheBillWasCreated() {
+        // Created mid-cycle: the March cycle was paid outside the app, April's is posted
+        RecurringBill midCycle = bill(1L, LocalDate.of(2025, 3, 15), BillStatus.PENDING, true, LocalDate.of(2025, 3, 20));
+        // Created on its due date: that cycle is posted
+        bill(2L, LocalDate.of(2025, 4, 10), BillStatus.PENDING, true, LocalDate.of(2025, 4, 10));
+
+        assertThat(materialize()).isEqualTo(2);
+
+        assertThat(posted).extracting(transaction -> transaction.getRecurringBill().getId(), Transaction::getBillDueDate)
+                .containsExactly(
+                        tuple(1L, LocalDate.of(2025, 4, 15)),
+                        tuple(2L, LocalDate.of(2025, 4, 10)));
+        assertThat(midCycle.getDueDate()).isEqualTo(LocalDate.of(2025, 5, 15));
+    }
+
+    private int materialize() {
+        RecurringBillMaterializer materializer = new RecurringBillMaterializer(
+                recurringBillRepository(), userRepository(), budgetRepository(),
+                new TransactionBatchWriter(null, null, null, null, null) {
+                    @Override
+                    public void insert(Long userId, List<Transaction> transactions) {
+                        posted.addAll(transactions);
+                    }
+                },
+                new UserCacheInvalidator(List.of()), entityManager(), new NoopTransactionManager());
+        ReflectionTestUtils.setField(materializer, "chunkSize", 1);
+        ReflectionTestUtils.setField(materializer, "parallelism", 1);
+        return materializer.materializeDueBills(TODAY);
+    }
+
+    private RecurringBill bill(Long id, LocalDate dueDate, BillStatus status, boolean autoPay, LocalDate createdOn) {
+        User user = new User();
+        user.setId(7L);
+        RecurringBill bill = new RecurringBill();
+        bill.setId(id);
+        bill.setName("Bill " + id);
+        bill.setAmount(new BigDecimal("10.00"));
+        bill.setDueDate(dueDate);
+        bill.setStatus(status);
+        bill.setRecurrence(BillRecurrence.MONTHLY);
+        bill.setAutoPay(autoPay);
+        bill.setCategory("Utilities");
+        bill.setUser(user);
+        bill.setCreatedAt(createdOn.atTime(9, 0));
+        bills.add(bill);
+        return bill;
+    }
+
+    // Due bills as the keyset query reads them, from the due dates the bills have before the run
+    private RecurringBillRepository recurringBillRepository() {
+        List<DueBill> due = bills.stream()
+                .filter(bill -> !bill.getDueDate().isAfter(TODAY)
+                        && (bill.isAutoPay() || bill.getStatus() == BillStatus.PAID))
+                .map(bill -> new DueBill(bill.getId(), bill.getUser().getId(), bill.getDueDate()))
+                .sorted(Comparator.comparing(DueBill::dueDate).thenComparing(DueBill::id))
+                .toList();
+        return fake(RecurringBillRepository.class, (name, args) -> switch (name) {
+            case "findDueAfter" -> due.stream()
+                    .filter(bill -> bill.dueDate().isAfter((LocalDate) args[2])
+                            || bill.dueDate().equals(args[2]) && bill.id() > (Long) args[3])
+                    .limit(((Limit) args[4]).max())
+                    .toList();
+            case "lockDueBills" -> bills.stream()
+                    .filter(bill -> ((Collection<?>) args[0]).contains(bill.getId())
+                            && !bill.getDueDate().isAfter((LocalDate) args[1]))
+                    .toList();
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    private static UserRepository userRepository() {
+        return fake(UserRepository.class, (name, args) -> Optional.of(1L));
+    }
+
+    private static BudgetRepository budgetRepository() {
+        return fake(BudgetRepository.class, (name, args) -> List.of());
+    }
+
+    private static EntityManager entityManager() {
+        return fake(EntityManager.class, (name, args) -> {
+            if (args[0] == Budget.class) {
+                Budget budget = new Budget();
+                budget.setId((Long) args[1]);
+                return budget;
+            }
+            User user = new User();
+            user.setId((Long) args[1]);
+            return user;
+        });
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    private static <T> T fake(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> answer.answer(method.getName(), args)));
+    }
+
+    private static class NoopTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
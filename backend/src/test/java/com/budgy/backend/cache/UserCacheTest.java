@@ -0,0 +1,108 @@
+package com.budgy.backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesRepeatedReadsFromMemoryUntilInvalidated() {
+        UserCache<Integer> cache = new UserCache<>("test", 100, Duration.ofMinutes(5));
+        UserCacheInvalidator invalidator = new UserCacheInvalidator(List.of(cache));
+
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+        assertThat(loads.get()).isEqualTo(1);
+
+        invalidator.invalidate(1L);
+        cache.get(1L, this::load);
+        assertThat(loads.get()).isEqualTo(2);
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void reloadsValueThatIsNoLongerCurrent() {
+        UserCache<Integer> cache = new UserCache<>("test", 100, Duration.ofMinutes(5));
+
+        cache.get(1L, value -> true, this::load);
+        // e.g. stats computed for last month
+        cache.get(1L, value -> value > 1, this::load);
+        cache.get(1L, value -> value > 1, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUserWhenFull() {
+        UserCache<Integer> cache = new UserCache<>("test", 2, Duration.ofMinutes(5));
+
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load);
+        cache.get(3L, this::load);
+
+        // User 2 was the least recently used when user 3 was added
+        cache.get(1L, this::load);
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(2L, this::load);
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotCacheLoadThatOverlapsInvalidation() {
+        UserCache<Integer> cache = new UserCache<>("test", 100, Duration.ofMinutes(5));
+
+        // A write for the user commits while its value is being computed
+        Supplier<Integer> racingLoad = () -> {
+            Integer value = load();
+            cache.evict(1L);
+            return value;
+        };
+        cache.get(1L, racingLoad);
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void appliesUpdateToCachedValueAndEvictsOtherCaches() {
+        UserCache<Integer> updated = new UserCache<>("updated", 100, Duration.ofMinutes(5));
+        UserCache<Integer> other = new UserCache<>("other", 100, Duration.ofMinutes(5));
+        UserCacheInvalidator invalidator = new UserCacheInvalidator(List.of(updated, other));
+
+        updated.get(1L, this::load);
+        other.get(1L, this::load);
+        invalidator.invalidate(1L, updated, value -> value * 10);
+
+        assertThat(updated.get(1L, this::load)).isEqualTo(10);
+        assertThat(other.get(1L, this::load)).isEqualTo(3);
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        UserCache<Integer> cache = new UserCache<>("test", 100, Duration.ZERO);
+
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+    }
+
+    private Integer load() {
+        return loads.incrementAndGet();
+    }
+}
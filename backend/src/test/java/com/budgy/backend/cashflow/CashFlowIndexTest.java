@@ -0,0 +1,64 @@
+package com.budgy.backend.cashflow;
+
+import com.budgy.backend.dto.projection.DailyTotal;
+import com.budgy.backend.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CashFlowIndexTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2025, 3, 1);
+
+    private final CashFlowIndex index = CashFlowIndex.build(List.of(
+            total(MARCH_1, TransactionType.INCOME, "1000.00"),
+            total(MARCH_1, TransactionType.EXPENSE, "-12.50"),
+            total(MARCH_1.plusDays(3), TransactionType.SAVING, "100.00"),
+            total(MARCH_1.plusDays(3), TransactionType.EXPENSE, "-7.25"),
+            total(MARCH_1.plusDays(9), TransactionType.WITHDRAW, "40.00")));
+
+    @Test
+    void sumsAnyRangeOfDays() {
+        CashFlowIndex.CashFlowTotals all = index.sum(MARCH_1, MARCH_1.plusDays(9));
+        assertThat(all.income()).isEqualTo(100_000);
+        assertThat(all.expenses()).isEqualTo(-1_975);
+        assertThat(all.savings()).isEqualTo(6_000);
+        assertThat(all.net()).isEqualTo(100_000 - 1_975 - 10_000 + 4_000);
+
+        CashFlowIndex.CashFlowTotals middle = index.sum(MARCH_1.plusDays(1), MARCH_1.plusDays(3));
+        assertThat(middle.income()).isZero();
+        assertThat(middle.expenses()).isEqualTo(-725);
+        assertThat(middle.savings()).isEqualTo(10_000);
+    }
+
+    @Test
+    void treatsDaysOutsideTheIndexAsZero() {
+        assertThat(index.sum(MARCH_1.minusYears(1), MARCH_1.plusYears(1)))
+                .isEqualTo(index.sum(MARCH_1, MARCH_1.plusDays(9)));
+        assertThat(index.sum(MARCH_1.plusMonths(1), MARCH_1.plusMonths(2)).net()).isZero();
+        assertThat(CashFlowIndex.EMPTY.sum(MARCH_1, MARCH_1.plusDays(30)).income()).isZero();
+    }
+
+    @Test
+    void countsExpensesAsSpendingWhateverTheirStoredSign() {
+        // One day of imported expenses kept the statement's positive sign, the other was entered by hand
+        CashFlowIndex mixed = CashFlowIndex.build(List.of(
+                total(MARCH_1, TransactionType.EXPENSE, "20.00"),
+                total(MARCH_1, TransactionType.INCOME, "-5.00"),
+                total(MARCH_1.plusDays(1), TransactionType.EXPENSE, "-7.25")));
+
+        CashFlowIndex.CashFlowTotals all = mixed.sum(MARCH_1, MARCH_1.plusDays(1));
+        assertThat(all.expenses()).isEqualTo(-2_725);
+        assertThat(all.income()).isEqualTo(500);
+        assertThat(all.net()).isEqualTo(500 - 2_725);
+        assertThat(mixed.sum(MARCH_1, MARCH_1).expenses()).isEqualTo(-2_000);
+    }
+
+    private static DailyTotal total(LocalDate day, TransactionType type, String amount) {
+        return new DailyTotal(day, type, new BigDecimal(amount));
+    }
+}
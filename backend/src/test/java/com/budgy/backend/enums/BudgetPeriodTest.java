@@ -0,0 +1,36 @@
+package com.budgy.backend.enums;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BudgetPeriodTest {
+
+    // A Wednesday
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 12);
+
+    @Test
+    void startsWeeksOnMondayAndMonthsOnTheFirst() {
+        assertThat(BudgetPeriod.WEEKLY.startOf(DAY, null, null)).isEqualTo(LocalDate.of(2025, 3, 10));
+        assertThat(BudgetPeriod.MONTHLY.startOf(DAY, null, null)).isEqualTo(LocalDate.of(2025, 3, 1));
+    }
+
+    @Test
+    void repeatsCustomPeriodsOnBothSidesOfTheAnchor() {
+        LocalDate anchor = LocalDate.of(2025, 3, 1);
+
+        assertThat(BudgetPeriod.CUSTOM.startOf(DAY, anchor, 14)).isEqualTo(anchor);
+        assertThat(BudgetPeriod.CUSTOM.startOf(anchor.plusDays(14), anchor, 14)).isEqualTo(anchor.plusDays(14));
+        assertThat(BudgetPeriod.CUSTOM.startOf(anchor.minusDays(1), anchor, 14)).isEqualTo(anchor.minusDays(14));
+    }
+
+    @Test
+    void listsRecentStartsMostRecentFirst() {
+        assertThat(BudgetPeriod.MONTHLY.recentStarts(DAY, null, null, 3)).containsExactly(
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1));
+        assertThat(BudgetPeriod.CUSTOM.recentStarts(DAY, LocalDate.of(2025, 3, 1), 10, 2)).containsExactly(
+                LocalDate.of(2025, 3, 11), LocalDate.of(2025, 3, 1));
+    }
+}
@@ -0,0 +1,71 @@
+package com.budgy.backend.forecast;
+
+import com.budgy.backend.dto.projection.MonthlyTotal;
+import com.budgy.backend.dto.projection.RecurringBillView;
+import com.budgy.backend.enums.BillRecurrence;
+import com.budgy.backend.enums.BillStatus;
+import com.budgy.backend.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForecastModelTest {
+
+    // 10 days of history: March 1..10
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+    private static final LocalDate HISTORY_START = LocalDate.of(2024, 12, 1);
+
+    @Test
+    void projectsDailyVelocityOnTopOfTheBalance() {
+        ForecastModel model = ForecastModel.build(TODAY, new BigDecimal("1000.00"), HISTORY_START, List.of(
+                total(TransactionType.INCOME, "Salary", "500.00"),
+                total(TransactionType.EXPENSE, "Food", "-100.00"),
+                total(TransactionType.SAVING, "Pot", "50.00")), List.of());
+
+        // +50 income, -10 food, -5 savings per day
+        assertThat(model.balanceAt(TODAY.plusDays(2))).isEqualByComparingTo("1070.00");
+        assertThat(model.spending(30)).isEqualByComparingTo("-300.00");
+        assertThat(model.velocities()).singleElement()
+                .satisfies(velocity -> assertThat(velocity.dailyAmount()).isEqualByComparingTo("-10"));
+    }
+
+    @Test
+    void chargesBillsOnTheirMonthlyDueDates() {
+        ForecastModel model = ForecastModel.build(TODAY, new BigDecimal("1000.00"), HISTORY_START, List.of(), List.of(
+                bill("Rent", "800.00", LocalDate.of(2025, 3, 15), BillStatus.PENDING),
+                // Paid for March, next due April 5
+                bill("Phone", "20.00", LocalDate.of(2025, 3, 5), BillStatus.PAID),
+                // Overdue, expected to be paid tomorrow, then due again March 28
+                bill("Gym", "30.00", LocalDate.of(2025, 2, 28), BillStatus.OVERDUE)));
+
+        assertThat(model.billsBetween(TODAY.plusDays(1), TODAY.plusDays(1))).isEqualByComparingTo("-30.00");
+        assertThat(model.balanceAt(LocalDate.of(2025, 3, 31))).isEqualByComparingTo("140.00");
+        assertThat(model.billsBetween(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30)))
+                .isEqualByComparingTo("-850.00");
+    }
+
+    @Test
+    void doesNotCountBilledSpendTwice() {
+        // Rent paid once in February, over 38 days of history
+        ForecastModel model = ForecastModel.build(TODAY, BigDecimal.ZERO, LocalDate.of(2025, 2, 1), List.of(
+                new MonthlyTotal(1L, 2025, 2, TransactionType.EXPENSE, "Housing", new BigDecimal("-800.00"), 1L),
+                total(TransactionType.EXPENSE, "Food", "-100.00")), List.of(
+                bill("Rent", "800.00", LocalDate.of(2025, 4, 1), BillStatus.PENDING)));
+
+        assertThat(model.velocities()).extracting(ForecastModel.CategoryVelocity::category)
+                .containsExactly("Food");
+    }
+
+    private static MonthlyTotal total(TransactionType type, String category, String amount) {
+        return new MonthlyTotal(1L, TODAY.getYear(), TODAY.getMonthValue(), type, category, new BigDecimal(amount), 1L);
+    }
+
+    private static RecurringBillView bill(String name, String amount, LocalDate dueDate, BillStatus status) {
+        return new RecurringBillView(1L, name, new BigDecimal(amount), dueDate, status,
+                name.equals("Rent") ? "Housing" : "Utilities", BillRecurrence.MONTHLY, false, null, null);
+    }
+}
@@ -0,0 +1,75 @@
+package com.budgy.backend.imports;
+
+import com.budgy.backend.enums.ImportFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementParserTest {
+
+    private List<StatementRow> parse(ImportFormat format, String content) {
+        StatementParser parser = StatementParser.of(format, new StringReader(content));
+        List<StatementRow> rows = new ArrayList<>();
+        parser.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    @Test
+    void csvReadsColumnsByHeaderAndInfersType() {
+        List<StatementRow> rows = parse(ImportFormat.CSV, """
+                Date,Name,Amount,Category
+                2025-03-01,"Coffee, large",-4.50,Food
+
+                2025-03-02,Salary,2500.00,
+                not-a-date,Broken,1.00,Food
+                """);
+
+        assertThat(rows).hasSize(3);
+
+        StatementRow coffee = rows.get(0);
+        assertThat(coffee.rowNumber()).isEqualTo(2);
+        assertThat(coffee.transaction().getName()).isEqualTo("Coffee, large");
+        assertThat(coffee.transaction().getAmount()).isEqualByComparingTo("-4.50");
+        assertThat(coffee.transaction().getType()).isEqualTo("EXPENSE");
+
+        StatementRow salary = rows.get(1);
+        assertThat(salary.rowNumber()).isEqualTo(4);
+        assertThat(salary.transaction().getType()).isEqualTo("INCOME");
+        assertThat(salary.transaction().getCategory()).isEqualTo(CsvStatementParser.DEFAULT_CATEGORY);
+
+        assertThat(rows.get(2).isFailed()).isTrue();
+        assertThat(rows.get(2).rowNumber()).isEqualTo(5);
+    }
+
+    @Test
+    void ofxReadsSgmlAndXmlTransactions() {
+        List<StatementRow> rows = parse(ImportFormat.OFX, """
+                OFXHEADER:100
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20250301120000[0:GMT]
+                <TRNAMT>-12.30
+                <NAME>Grocery store
+                </STMTTRN>
+                <STMTTRN><TRNTYPE>CREDIT</TRNTYPE><DTPOSTED>20250305</DTPOSTED><TRNAMT>100.00</TRNAMT><MEMO>Refund</MEMO></STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """);
+
+        assertThat(rows).hasSize(2);
+
+        assertThat(rows.get(0).transaction().getName()).isEqualTo("Grocery store");
+        assertThat(rows.get(0).transaction().getTransactionDate()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(rows.get(0).transaction().getAmount()).isEqualByComparingTo(new BigDecimal("-12.30"));
+        assertThat(rows.get(0).transaction().getType()).isEqualTo("EXPENSE");
+
+        assertThat(rows.get(1).transaction().getName()).isEqualTo("Refund");
+        assertThat(rows.get(1).transaction().getType()).isEqualTo("INCOME");
+    }
+}
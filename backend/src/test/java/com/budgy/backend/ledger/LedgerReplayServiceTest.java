@@ -0,0 +1,78 @@
+package com.budgy.backend.ledger;
+
+import com.budgy.backend.dto.projection.LedgerAccountTotal;
+import com.budgy.backend.enums.LedgerAccountType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LedgerReplayServiceTest {
+
+    @Test
+    void clampsEveryRowLikeTheLiveUpdates() {
+        // Live: spent 10, -30 clamps to 0, +15 gives 15 (a plain sum would give -5, clamped to 0)
+        Map<LedgerReplayService.AccountKey, LedgerAccountTotal> totals = LedgerReplayService.replay(List.of(), List.of(
+                row(LedgerAccountType.BUDGET, 5L, "10.00", 1),
+                row(LedgerAccountType.BUDGET, 5L, "-30.00", -2),
+                row(LedgerAccountType.BUDGET, 5L, "15.00", 1)));
+
+        LedgerAccountTotal budget = totals.get(new LedgerReplayService.AccountKey(LedgerAccountType.BUDGET, 5L));
+        assertThat(budget.amount()).isEqualByComparingTo("15.00");
+        assertThat(budget.count()).isEqualTo(1L);
+    }
+
+    @Test
+    void continuesFromTheSnapshotAndLeavesTheBalanceUnclamped() {
+        Map<LedgerReplayService.AccountKey, LedgerAccountTotal> totals = LedgerReplayService.replay(
+                List.of(row(LedgerAccountType.BALANCE, 1L, "20.00", 0),
+                        row(LedgerAccountType.SAVING_POT, 9L, "5.00", 1)),
+                List.of(row(LedgerAccountType.BALANCE, 1L, "-50.00", 0),
+                        row(LedgerAccountType.SAVING_POT, 9L, "-8.00", -1),
+                        row(LedgerAccountType.SAVING_POT, 9L, "3.00", 1)));
+
+        assertThat(totals.get(new LedgerReplayService.AccountKey(LedgerAccountType.BALANCE, 1L)).amount())
+                .isEqualByComparingTo("-30.00");
+        assertThat(totals.get(new LedgerReplayService.AccountKey(LedgerAccountType.SAVING_POT, 9L)).amount())
+                .isEqualByComparingTo("3.00");
+    }
+
+    @Test
+    void importBatchAppliedLiveMatchesItsReplayedJournal() {
+        // A pot at 0 imports WITHDRAW 50, SAVING 100, SAVING 20, WITHDRAW 5, one journal event each
+        List<List<LedgerPosting>> transactions = List.of(
+                List.of(LedgerPosting.balance(1L, new BigDecimal("50")), LedgerPosting.savingPot(9L, new BigDecimal("-50"), 1)),
+                List.of(LedgerPosting.balance(1L, new BigDecimal("-100")), LedgerPosting.savingPot(9L, new BigDecimal("100"), 1)),
+                List.of(LedgerPosting.balance(1L, new BigDecimal("-20")), LedgerPosting.savingPot(9L, new BigDecimal("20"), 1)),
+                List.of(LedgerPosting.balance(1L, new BigDecimal("5")), LedgerPosting.savingPot(9L, new BigDecimal("-5"), 1)));
+
+        List<LedgerPosting> applied = LedgerPosting.coalesce(transactions);
+        Map<LedgerReplayService.AccountKey, LedgerAccountTotal> replayed = LedgerReplayService.replay(List.of(),
+                transactions.stream().flatMap(List::stream)
+                        .map(posting -> row(posting.accountType(), posting.accountId(),
+                                posting.amountDelta().toPlainString(), posting.countDelta()))
+                        .toList());
+
+        // One balance update, and the two SAVINGs merged into one pot update between the withdrawals
+        assertThat(applied).hasSize(4);
+        BigDecimal saved = BigDecimal.ZERO;
+        for (LedgerPosting posting : applied) {
+            if (posting.accountType() == LedgerAccountType.SAVING_POT) {
+                // As SavingPotRepository.applySavedDelta does
+                saved = saved.add(posting.amountDelta()).max(BigDecimal.ZERO);
+            }
+        }
+        assertThat(saved).isEqualByComparingTo("115");
+        assertThat(replayed.get(new LedgerReplayService.AccountKey(LedgerAccountType.SAVING_POT, 9L)).amount())
+                .isEqualByComparingTo(saved);
+        assertThat(replayed.get(new LedgerReplayService.AccountKey(LedgerAccountType.BALANCE, 1L)).amount())
+                .isEqualByComparingTo("-65");
+    }
+
+    private static LedgerAccountTotal row(LedgerAccountType type, Long id, String amount, long count) {
+        return new LedgerAccountTotal(type, id, new BigDecimal(amount), count);
+    }
+}
@@ -0,0 +1,108 @@
+package com.budgy.backend.ledger;
+
+import com.budgy.backend.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerWriterTest {
+
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+    private LedgerWriter writer;
+
+    @AfterEach
+    void close() throws InterruptedException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @Test
+    void coalescesWritesOfOneUserIntoFewCommitsInSubmissionOrder() {
+        writer = new LedgerWriter(transactionManager, 4, 64, Duration.ofMillis(50), 1000, 10, 5);
+        List<Integer> applied = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            futures.add(writer.submit(7L, () -> {
+                applied.add(value);
+                threads.add(Thread.currentThread().getName());
+                return value;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(applied).isSortedAccordingTo(Integer::compare).hasSize(100);
+        assertThat(threads).containsOnly("ledger-lane-" + writer.laneIndex(7L));
+        assertThat(futures.get(42).join()).isEqualTo(42);
+        // 100 writes with a batch size of 64 need at least two and far fewer than 100 commits
+        assertThat(transactionManager.commits.get()).isBetween(2, 10);
+    }
+
+    @Test
+    void failingWriteOnlyFailsItsOwnFuture() {
+        writer = new LedgerWriter(transactionManager, 1, 64, Duration.ofMillis(50), 1000, 10, 5);
+
+        CompletableFuture<String> first = writer.submit(1L, () -> "first");
+        CompletableFuture<String> failing = writer.submit(1L, () -> {
+            throw new ResourceNotFoundException("Transaction", "id", 99L);
+        });
+        CompletableFuture<String> last = writer.submit(1L, () -> "last");
+
+        assertThat(first.join()).isEqualTo("first");
+        assertThat(last.join()).isEqualTo("last");
+        assertThatThrownBy(failing::join).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThat(transactionManager.rollbacks.get()).isPositive();
+    }
+
+    @Test
+    void lanesLeaveReservedConnectionsToRequests() {
+        // One lane per core on a 16-core host would take the whole default pool
+        assertThat(LedgerWriter.laneCount(0, 16, 10, 5)).isEqualTo(5);
+        assertThat(LedgerWriter.laneCount(0, 4, 20, 5)).isEqualTo(4);
+        assertThat(LedgerWriter.laneCount(12, 4, 20, 5)).isEqualTo(12);
+        assertThat(LedgerWriter.laneCount(0, 16, 4, 5)).isEqualTo(1);
+    }
+
+    /**
+     * Transaction manager without a database that only counts commits and rollbacks
+     */
+    private static class CountingTransactionManager extends AbstractPlatformTransactionManager {
+
+        final AtomicInteger commits = new AtomicInteger();
+        final AtomicInteger rollbacks = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+    }
+}
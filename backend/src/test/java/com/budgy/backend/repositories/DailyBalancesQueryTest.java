@@ -0,0 +1,97 @@
+package com.budgy.backend.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs TransactionRepository.DAILY_BALANCES against a MySQL-compatible server
+ * Like QueryPlanTest, it only runs when BUDGY_EXPLAIN_DB_URL is set and works in a throwaway schema.
+ * The query is native SQL with window functions, so neither the unit tests nor the context test
+ * check it: without BUDGY_EXPLAIN_DB_URL (as in a plain mvn test) these tests are skipped, and the
+ * build that runs QueryPlanTest must set it for the balance history to be tested at all.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "BUDGY_EXPLAIN_DB_URL", matches = ".+")
+class DailyBalancesQueryTest {
+
+    private final String schema = "budgy_balances_" + System.currentTimeMillis();
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbc;
+
+    @BeforeAll
+    void createSchema() {
+        dataSource = new SingleConnectionDataSource(System.getenv("BUDGY_EXPLAIN_DB_URL"), true);
+        jdbc = new JdbcTemplate(dataSource);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .createSchemas(true)
+                .load()
+                .migrate();
+
+        jdbc.execute("USE " + schema);
+        // Balance 100 after an income of 40 on 2024-03-10 and an expense of 15 on 2024-04-02
+        jdbc.update("INSERT INTO users (id, name, email, password, current_balance) VALUES (1, 'User', 'user@example.com', 'x', 100)");
+        jdbc.update("INSERT INTO transactions (name, transaction_date, amount, category, type, user_id) " +
+                "VALUES ('Salary', '2024-03-10', 40, 'Salary', 'INCOME', 1), ('Food', '2024-04-02', -15, 'Food', 'EXPENSE', 1)");
+    }
+
+    @AfterAll
+    void dropSchema() {
+        if (jdbc != null) {
+            jdbc.execute("DROP DATABASE IF EXISTS " + schema);
+        }
+        if (dataSource != null) {
+            dataSource.destroy();
+        }
+    }
+
+    @Test
+    void rangeWithTransactionsStartsWithTheOpeningRow() {
+        List<Map<String, Object>> rows = dailyBalances(1L, "2024-03-01", "2024-03-31");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).get("day")).isNull();
+        assertThat((BigDecimal) rows.get(0).get("openingBalance")).isEqualByComparingTo("75");
+        assertThat(rows.get(1).get("day")).isEqualTo(Date.valueOf("2024-03-10"));
+        assertThat((BigDecimal) rows.get(1).get("endBalance")).isEqualByComparingTo("115");
+    }
+
+    @Test
+    void rangeWithOnlyLaterTransactionsStillHasTheOpeningRow() {
+        List<Map<String, Object>> rows = dailyBalances(1L, "2024-01-01", "2024-01-31");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).get("day")).isNull();
+        assertThat((BigDecimal) rows.get(0).get("openingBalance")).isEqualByComparingTo("75");
+    }
+
+    @Test
+    void unknownUserHasNoRows() {
+        assertThat(dailyBalances(99L, "2024-01-01", "2024-01-31")).isEmpty();
+    }
+
+    private List<Map<String, Object>> dailyBalances(Long userId, String from, String to) {
+        return new NamedParameterJdbcTemplate(jdbc).queryForList(TransactionRepository.DAILY_BALANCES, Map.of(
+                "userId", userId,
+                "from", LocalDate.parse(from),
+                "to", LocalDate.parse(to)));
+    }
+}
@@ -0,0 +1,439 @@
+package com.budgy.backend.repositories;
+
+import com.budgy.backend.entities.Transaction;
+import com.budgy.backend.enums.BillStatus;
+import com.budgy.backend.enums.TransactionType;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan regression suite
+ * <p>
+ * Calls every repository query with representative arguments, records the statements and
+ * bind values Hibernate sends, and runs EXPLAIN for each, failing if any table is read with a
+ * full scan. The SQL is captured rather than copied, so the suite follows the queries as they
+ * change. Needs a MySQL-compatible server, so it only runs when
+ * BUDGY_EXPLAIN_DB_URL is set, e.g. jdbc:mysql://localhost:3306/?user=root&password=secret.
+ * A throwaway schema is created, migrated with Flyway, seeded and dropped afterwards.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "BUDGY_EXPLAIN_DB_URL", matches = ".+")
+class QueryPlanTest {
+
+    private static final int USERS = 50;
+    private static final int TRANSACTIONS_PER_USER = 200;
+
+    private final String schema = "budgy_explain_" + System.currentTimeMillis();
+
+    private final StatementRecorder recorder = new StatementRecorder();
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transactionTemplate;
+
+    private TransactionRepository transactions;
+    private BudgetRepository budgets;
+    private SavingPotRepository savingPots;
+    private RecurringBillRepository recurringBills;
+    private UserRepository users;
+    private LedgerJournalRepository ledgerJournal;
+    private LedgerSnapshotRepository ledgerSnapshots;
+    private MonthlyRollupRepository monthlyRollups;
+    private BudgetPeriodTotalRepository budgetPeriodTotals;
+
+    @BeforeAll
+    void createSchema() {
+        dataSource = new SingleConnectionDataSource(System.getenv("BUDGY_EXPLAIN_DB_URL"), true);
+        jdbc = new JdbcTemplate(dataSource);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .createSchemas(true)
+                .load()
+                .migrate();
+
+        jdbc.execute("USE " + schema);
+        seed();
+        openRepositories();
+    }
+
+    /**
+     * Repositories as Spring Data builds them, over a Hibernate EntityManagerFactory that
+     * shares the schema's connection through the statement recorder
+     */
+    private void openRepositories() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(recorder.wrap(dataSource));
+        factory.setPackagesToScan("com.budgy.backend.entities");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // Spring Boot's naming strategies, which the entity mappings rely on
+        factory.setJpaPropertyMap(Map.of(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName()));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        transactions = repositories.getRepository(TransactionRepository.class);
+        budgets = repositories.getRepository(BudgetRepository.class);
+        savingPots = repositories.getRepository(SavingPotRepository.class);
+        recurringBills = repositories.getRepository(RecurringBillRepository.class);
+        users = repositories.getRepository(UserRepository.class);
+        ledgerJournal = repositories.getRepository(LedgerJournalRepository.class);
+        ledgerSnapshots = repositories.getRepository(LedgerSnapshotRepository.class);
+        monthlyRollups = repositories.getRepository(MonthlyRollupRepository.class);
+        budgetPeriodTotals = repositories.getRepository(BudgetPeriodTotalRepository.class);
+    }
+
+    @AfterAll
+    void dropSchema() {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+        if (jdbc != null) {
+            jdbc.execute("DROP DATABASE IF EXISTS " + schema);
+        }
+        if (dataSource != null) {
+            dataSource.destroy();
+        }
+    }
+
+    /**
+     * Seed enough rows that the optimizer prefers indexes over scanning tiny tables
+     */
+    private void seed() {
+        for (int u = 1; u <= USERS; u++) {
+            jdbc.update("INSERT INTO users (id, name, email, password, current_balance) VALUES (?, ?, ?, 'x', 0)",
+                    u, "User " + u, "user" + u + "@example.com");
+            jdbc.update("INSERT INTO budgets (id, category, spent, limit_amount, transaction_count, user_id) " +
+                    "VALUES (?, 'Food', 0, 100, 0, ?)", u, u);
+            jdbc.update("INSERT INTO saving_pots (id, name, saved, goal, transaction_count, user_id) " +
+                    "VALUES (?, 'Pot', 0, 100, 0, ?)", u, u);
+            for (int b = 0; b < 10; b++) {
+                jdbc.update("INSERT INTO recurring_bills (name, amount, due_date, status, category, user_id) " +
+                                "VALUES ('Bill', 10, DATE_ADD('2025-01-01', INTERVAL ? DAY), ?, 'Utilities', ?)",
+                        b * 30, b % 2 == 0 ? "PENDING" : "PAID", u);
+            }
+        }
+
+        String[] types = {"INCOME", "EXPENSE", "SAVING", "WITHDRAW"};
+        jdbc.batchUpdate("INSERT INTO transactions (name, transaction_date, amount, category, type, user_id, budget_id, saving_pot_id) " +
+                        "VALUES ('Tx', DATE_ADD('2024-01-01', INTERVAL ? DAY), 10, 'Food', ?, ?, ?, ?)",
+                Stream.iterate(0, i -> i + 1)
+                        .limit((long) USERS * TRANSACTIONS_PER_USER)
+                        .map(i -> {
+                            int user = i / TRANSACTIONS_PER_USER + 1;
+                            String type = types[i % types.length];
+                            return new Object[]{
+                                    i % 700, type, user,
+                                    type.equals("EXPENSE") ? user : null,
+                                    type.equals("SAVING") || type.equals("WITHDRAW") ? user : null
+                            };
+                        })
+                        .toList());
+
+        jdbc.batchUpdate("INSERT INTO ledger_journal (id, user_id, version, event_type, account_type, account_id, " +
+                        "amount_delta, count_delta, created_at) VALUES (?, ?, ?, 'CREATE', 'BALANCE', ?, 10, 0, NOW())",
+                Stream.iterate(0, i -> i + 1)
+                        .limit((long) USERS * TRANSACTIONS_PER_USER)
+                        .map(i -> {
+                            int user = i / TRANSACTIONS_PER_USER + 1;
+                            return new Object[]{i + 1, user, i % TRANSACTIONS_PER_USER + 1, user};
+                        })
+                        .toList());
+        for (int u = 1; u <= USERS; u++) {
+            jdbc.update("INSERT INTO ledger_snapshots (id, user_id, version, account_type, account_id, amount, item_count, created_at) " +
+                    "VALUES (?, ?, 100, 'BALANCE', ?, 1000, 0, NOW())", u, u, u);
+        }
+
+        jdbc.update("INSERT INTO monthly_rollups (user_id, month_start, type, category, total_amount, transaction_count) " +
+                "SELECT t.user_id, DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY), " +
+                "t.type, t.category, SUM(t.amount), COUNT(*) FROM transactions t " +
+                "GROUP BY t.user_id, DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY), " +
+                "t.type, t.category");
+        jdbc.update("INSERT INTO budget_period_totals (budget_id, period_start, spent, transaction_count) " +
+                "SELECT t.budget_id, DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY), " +
+                "SUM(t.amount), COUNT(*) FROM transactions t WHERE t.budget_id IS NOT NULL " +
+                "GROUP BY t.budget_id, DATE_SUB(t.transaction_date, INTERVAL DAYOFMONTH(t.transaction_date) - 1 DAY)");
+
+        jdbc.execute("ANALYZE TABLE users, budgets, saving_pots, recurring_bills, transactions, ledger_journal, " +
+                "ledger_snapshots, monthly_rollups, budget_period_totals");
+    }
+
+    /**
+     * Every repository query, called with representative arguments
+     */
+    Stream<Arguments> repositoryQueries() {
+        LocalDate march1 = LocalDate.of(2024, 3, 1);
+        LocalDate march31 = LocalDate.of(2024, 3, 31);
+        LocalDate cursorDate = LocalDate.of(2025, 6, 1);
+        LocalDate billsToday = LocalDate.of(2025, 2, 1);
+        LocalDate billsCursor = LocalDate.of(2025, 1, 1);
+        List<Long> billIds = List.of(41L, 42L, 43L);
+        Limit page = Limit.of(51);
+
+        return Stream.of(
+                // TransactionRepository
+                query("TransactionRepository.findViewById", () -> transactions.findViewById(7L)),
+                query("TransactionRepository.findByIdForUpdate", () -> transactions.findByIdForUpdate(3L)),
+                query("TransactionRepository.findPageByUserId",
+                        () -> transactions.findPageByUserId(3L, cursorDate, 9999L, page)),
+                query("TransactionRepository.findPageByUserIdAndType",
+                        () -> transactions.findPageByUserIdAndType(3L, TransactionType.EXPENSE, cursorDate, 9999L, page)),
+                query("TransactionRepository.findPageByUserIdAndBudgetId",
+                        () -> transactions.findPageByUserIdAndBudgetId(3L, 3L, cursorDate, 9999L, page)),
+                query("TransactionRepository.findPageByUserIdAndSavingPotId",
+                        () -> transactions.findPageByUserIdAndSavingPotId(3L, 3L, cursorDate, 9999L, page)),
+                query("TransactionRepository.findPageByUserIdAndDateRange",
+                        () -> transactions.findPageByUserIdAndDateRange(3L, march1, march31, cursorDate, 9999L, page)),
+                query("TransactionRepository.streamByUserId", () -> {
+                    try (Stream<Transaction> stream = transactions.streamByUserId(3L)) {
+                        stream.findFirst();
+                    }
+                }),
+                query("TransactionRepository.findByUserIdAndTypeAndTransactionDateBetween",
+                        () -> transactions.findByUserIdAndTypeAndTransactionDateBetween(3L, TransactionType.INCOME, march1, march31)),
+                query("TransactionRepository.findByUserIdAndSavingPotNotNullAndTransactionDateBetween",
+                        () -> transactions.findByUserIdAndSavingPotNotNullAndTransactionDateBetween(3L, march1, march31)),
+                query("TransactionRepository.countByUserIdAndTransactionDateBetween",
+                        () -> transactions.countByUserIdAndTransactionDateBetween(3L, march1, march31)),
+                query("TransactionRepository.sumByUserAndTypeAndDateRange",
+                        () -> transactions.sumByUserAndTypeAndDateRange(3L, TransactionType.INCOME, march1, march31)),
+                query("TransactionRepository.sumSavingPotTransactionsByDateRange",
+                        () -> transactions.sumSavingPotTransactionsByDateRange(3L, march1, march31)),
+                query("TransactionRepository.sumByCategory",
+                        () -> transactions.sumByCategory(3L, TransactionType.EXPENSE,
+                                LocalDate.of(2024, 2, 15), march1, LocalDate.of(2024, 3, 14))),
+                query("TransactionRepository.findDailyBalances",
+                        () -> transactions.findDailyBalances(3L, march1, march31)),
+                query("TransactionRepository.sumDailyByUserId", () -> transactions.sumDailyByUserId(3L)),
+                query("TransactionRepository.sumMonthlyByUserRange", () -> transactions.sumMonthlyByUserRange(3L, 4L)),
+                query("TransactionRepository.findByBudgetId", () -> transactions.findByBudgetId(3L)),
+                query("TransactionRepository.findBySavingPotId", () -> transactions.findBySavingPotId(3L)),
+
+                // BudgetRepository
+                query("BudgetRepository.findByUserId", () -> budgets.findByUserId(3L)),
+                query("BudgetRepository.findViewById", () -> budgets.findViewById(3L)),
+                query("BudgetRepository.findByUserIdAndCategory", () -> budgets.findByUserIdAndCategory(3L, "Food")),
+                query("BudgetRepository.existsByUserIdAndCategory", () -> budgets.existsByUserIdAndCategory(3L, "Food")),
+                query("BudgetRepository.applySpentDelta", () -> budgets.applySpentDelta(3L, BigDecimal.TEN, 1)),
+                query("BudgetRepository.resetSpent", () -> budgets.resetSpent(3L, BigDecimal.TEN, 1)),
+
+                // SavingPotRepository
+                query("SavingPotRepository.findByUserId", () -> savingPots.findByUserId(3L)),
+                query("SavingPotRepository.findViewById", () -> savingPots.findViewById(3L)),
+                query("SavingPotRepository.applySavedDelta", () -> savingPots.applySavedDelta(3L, BigDecimal.TEN, 1)),
+                query("SavingPotRepository.resetSaved", () -> savingPots.resetSaved(3L, BigDecimal.TEN, 1)),
+
+                // RecurringBillRepository
+                query("RecurringBillRepository.findByUserId", () -> recurringBills.findByUserId(3L)),
+                query("RecurringBillRepository.findViewById", () -> recurringBills.findViewById(41L)),
+                query("RecurringBillRepository.findByUserIdAndStatus",
+                        () -> recurringBills.findByUserIdAndStatus(3L, BillStatus.PENDING)),
+                query("RecurringBillRepository.findDueAfter",
+                        () -> recurringBills.findDueAfter(billsToday, BillStatus.PAID, billsCursor, 40L, Limit.of(500))),
+                query("RecurringBillRepository.lockDueBills", () -> recurringBills.lockDueBills(billIds, billsToday)),
+                query("RecurringBillRepository.findManualDueAfter",
+                        () -> recurringBills.findManualDueAfter(billsToday, List.of(BillStatus.PENDING, BillStatus.OVERDUE),
+                                billsCursor, 40L, Limit.of(1000))),
+                query("RecurringBillRepository.findOverdueCycles",
+                        () -> recurringBills.findOverdueCycles(billIds, billsToday, BillStatus.PENDING)),
+                query("RecurringBillRepository.markOverdue",
+                        () -> recurringBills.markOverdue(billIds, billsToday, BillStatus.PENDING, BillStatus.OVERDUE)),
+                query("RecurringBillRepository.linkPayments", () -> recurringBills.linkPayments(billIds, 5, billsToday)),
+                query("RecurringBillRepository.findPaidCycles", () -> recurringBills.findPaidCycles(billIds, BillStatus.PAID)),
+                query("RecurringBillRepository.markPaid", () -> recurringBills.markPaid(billIds, BillStatus.PAID)),
+
+                // UserRepository (findAllIds lists every user on purpose)
+                query("UserRepository.findByEmail", () -> users.findByEmail("user3@example.com")),
+                query("UserRepository.existsByEmail", () -> users.existsByEmail("user3@example.com")),
+                query("UserRepository.findCurrentBalance", () -> users.findCurrentBalance(3L)),
+                query("UserRepository.findLedgerVersion", () -> users.findLedgerVersion(3L)),
+                query("UserRepository.addToBalance", () -> users.addToBalance(3L, BigDecimal.TEN)),
+                query("UserRepository.lockLedgerVersion", () -> users.lockLedgerVersion(3L)),
+                query("UserRepository.resetBalance", () -> users.resetBalance(3L, BigDecimal.TEN)),
+                query("UserRepository.updatePassword", () -> users.updatePassword("user3@example.com", "x")),
+
+                // LedgerJournalRepository
+                query("LedgerJournalRepository.findEntries", () -> ledgerJournal.findEntries(3L, 100, 150)),
+                query("LedgerJournalRepository.findVersionAt", () -> ledgerJournal.findVersionAt(3L, LocalDateTime.now())),
+
+                // LedgerSnapshotRepository (findUserIdsDueForSnapshot reads every user on purpose)
+                query("LedgerSnapshotRepository.findLatestVersion", () -> ledgerSnapshots.findLatestVersion(3L, 150)),
+                query("LedgerSnapshotRepository.findTotals", () -> ledgerSnapshots.findTotals(3L, 100)),
+
+                // MonthlyRollupRepository (deleteByUserRange and backfillUserRange rebuild whole users on purpose)
+                query("MonthlyRollupRepository.findDashboardTotals",
+                        () -> monthlyRollups.findDashboardTotals(3L, LocalDate.of(2024, 2, 1), march1)),
+                query("MonthlyRollupRepository.sumByCategory",
+                        () -> monthlyRollups.sumByCategory(3L, TransactionType.EXPENSE,
+                                LocalDate.of(2024, 1, 1), march1, LocalDate.of(2024, 4, 1))),
+                query("MonthlyRollupRepository.findTotalsByUserId",
+                        () -> monthlyRollups.findTotalsByUserId(3L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 4, 1))),
+                query("MonthlyRollupRepository.findTotalsByUserRange", () -> monthlyRollups.findTotalsByUserRange(3L, 4L)),
+                query("MonthlyRollupRepository.addDelta",
+                        () -> monthlyRollups.addDelta(3L, march1, "EXPENSE", "Food", BigDecimal.TEN, 1)),
+
+                // TokenRevocationRepository is left out: it reloads its whole (small) table on purpose
+
+                // BudgetPeriodTotalRepository (deleteByUserRange and backfillUserRange rebuild whole users on purpose)
+                query("BudgetPeriodTotalRepository.addDelta",
+                        () -> budgetPeriodTotals.addDelta(3L, LocalDate.of(2024, 3, 5), BigDecimal.TEN, 1)),
+                query("BudgetPeriodTotalRepository.findByUserIdSince",
+                        () -> budgetPeriodTotals.findByUserIdSince(3L, LocalDate.of(2024, 1, 1))),
+                query("BudgetPeriodTotalRepository.findByBudgetIdSince",
+                        () -> budgetPeriodTotals.findByBudgetIdSince(3L, LocalDate.of(2024, 1, 1))),
+                query("BudgetPeriodTotalRepository.deleteByBudgetId", () -> budgetPeriodTotals.deleteByBudgetId(3L)),
+                query("BudgetPeriodTotalRepository.backfillBudget", () -> budgetPeriodTotals.backfillBudget(3L))
+        );
+    }
+
+    private static Arguments query(String name, Runnable call) {
+        return Arguments.of(name, call);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void queryDoesNotFullScan(String query, Runnable call) {
+        // Rolled back, so updates leave the seed data for the next query
+        List<RecordedStatement> statements = recorder.record(() -> transactionTemplate.executeWithoutResult(status -> {
+            call.run();
+            status.setRollbackOnly();
+        }));
+
+        assertThat(statements).as("%s sends no SQL", query).isNotEmpty();
+        for (RecordedStatement statement : statements) {
+            List<Map<String, Object>> plan = jdbc.queryForList("EXPLAIN " + statement.sql(), statement.parameters());
+
+            assertThat(plan).isNotEmpty();
+            for (Map<String, Object> row : plan) {
+                // Derived tables (<derivedN>) are materialized query results, scanning them is expected
+                if (String.valueOf(row.get("table")).startsWith("<derived")) {
+                    continue;
+                }
+                // The target of an INSERT is listed as ALL; it is written, not read
+                if ("INSERT".equals(row.get("select_type"))) {
+                    continue;
+                }
+                // "ALL" is a full table scan, "index" a full scan of an index
+                assertThat(String.valueOf(row.get("type")))
+                        .as("%s reads %s with access type %s (key=%s) in %s",
+                                query, row.get("table"), row.get("type"), row.get("key"), statement.sql())
+                        .isNotIn("ALL", "index");
+            }
+        }
+    }
+
+    /**
+     * A statement Hibernate prepared, with the values bound to it by position
+     */
+    private record RecordedStatement(String sql, Map<Integer, Object> bound) {
+
+        Object[] parameters() {
+            return bound.values().toArray();
+        }
+    }
+
+    /**
+     * Records the SQL and bind values of the statements prepared through a wrapped DataSource
+     */
+    private static class StatementRecorder {
+
+        private volatile List<RecordedStatement> recording;
+
+        List<RecordedStatement> record(Runnable work) {
+            List<RecordedStatement> statements = new ArrayList<>();
+            recording = statements;
+            try {
+                work.run();
+            } finally {
+                recording = null;
+            }
+            return statements;
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, (method, args) -> {
+                Object result = method.invoke(dataSource, args);
+                return method.getName().equals("getConnection") ? connection((Connection) result) : result;
+            });
+        }
+
+        private Connection connection(Connection connection) {
+            return proxy(Connection.class, (method, args) -> {
+                Object result = method.invoke(connection, args);
+                List<RecordedStatement> statements = recording;
+                if (!method.getName().equals("prepareStatement") || statements == null) {
+                    return result;
+                }
+                RecordedStatement statement = new RecordedStatement((String) args[0], new TreeMap<>());
+                statements.add(statement);
+                return preparedStatement((PreparedStatement) result, statement.bound());
+            });
+        }
+
+        private static PreparedStatement preparedStatement(PreparedStatement statement, Map<Integer, Object> bound) {
+            return proxy(PreparedStatement.class, (method, args) -> {
+                // setString(index, value), setNull(index, sqlType), setTimestamp(index, value, calendar), ...
+                if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    bound.put(index, method.getName().equals("setNull") ? null : args[1]);
+                }
+                return method.invoke(statement, args);
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, Invocation invocation) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return invocation.invoke(method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }));
+        }
+
+        private interface Invocation {
+            Object invoke(Method method, Object[] args) throws Exception;
+        }
+    }
+}
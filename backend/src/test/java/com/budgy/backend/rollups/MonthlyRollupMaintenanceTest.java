@@ -0,0 +1,50 @@
+package com.budgy.backend.rollups;
+
+import com.budgy.backend.dto.projection.MonthlyTotal;
+import com.budgy.backend.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MonthlyRollupMaintenanceTest {
+
+    @Test
+    void matchingTotalsHaveNoMismatches() {
+        List<MonthlyTotal> totals = List.of(
+                total(2024, 3, TransactionType.EXPENSE, "Food", "12.50", 2),
+                total(2024, 3, TransactionType.INCOME, "Salary", "1000.00", 1));
+
+        // Same amounts at a different scale still match
+        List<MonthlyTotal> rollups = List.of(
+                total(2024, 3, TransactionType.INCOME, "Salary", "1000", 1),
+                total(2024, 3, TransactionType.EXPENSE, "Food", "12.5", 2));
+
+        assertThat(MonthlyRollupMaintenance.compare(totals, rollups)).isEmpty();
+    }
+
+    @Test
+    void reportsDriftedMissingAndOrphanedRows() {
+        List<MonthlyTotal> totals = List.of(
+                total(2024, 3, TransactionType.EXPENSE, "Food", "12.50", 2),
+                total(2024, 4, TransactionType.EXPENSE, "Food", "5.00", 1));
+        List<MonthlyTotal> rollups = List.of(
+                total(2024, 3, TransactionType.EXPENSE, "Food", "10.00", 2),
+                total(2024, 3, TransactionType.SAVING, "Pot", "7.00", 1));
+
+        assertThat(MonthlyRollupMaintenance.compare(totals, rollups))
+                .extracting(RollupMismatch::month, RollupMismatch::type, RollupMismatch::expectedCount, RollupMismatch::actualCount)
+                .containsExactlyInAnyOrder(
+                        tuple(3, TransactionType.EXPENSE, 2L, 2L),
+                        tuple(4, TransactionType.EXPENSE, 1L, 0L),
+                        tuple(3, TransactionType.SAVING, 0L, 1L));
+    }
+
+    private static MonthlyTotal total(int year, int month, TransactionType type, String category,
+                                      String amount, long count) {
+        return new MonthlyTotal(1L, year, month, type, category, new BigDecimal(amount), count);
+    }
+}
@@ -0,0 +1,29 @@
+package com.budgy.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void neverMissesAnAddedKey() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("t:" + i));
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("t:" + i))).isTrue();
+    }
+
+    @Test
+    void keepsFalsePositivesNearTheConfiguredRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("t:" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("u:" + i))
+                .count();
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
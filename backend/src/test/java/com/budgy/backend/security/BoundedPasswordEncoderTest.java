@@ -0,0 +1,106 @@
+package com.budgy.backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void encodesAndMatchesThroughTheDelegate() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(4), 4, 1, 10, Duration.ofSeconds(5));
+        try {
+            String hash = encoder.encode("secret");
+
+            assertThat(encoder.matches("secret", hash)).isTrue();
+            assertThat(encoder.matches("other", hash)).isFalse();
+            assertThat(encoder.stats().completed()).isEqualTo(3);
+        } finally {
+            encoder.close();
+        }
+    }
+
+    @Test
+    void upgradesHashesWithAnotherCost() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(5), 5, 1, 10, Duration.ofSeconds(5));
+        try {
+            assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+            assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+            assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+        } finally {
+            encoder.close();
+        }
+    }
+
+    @Test
+    void rejectsWhenThreadAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                blockingEncoder(started, release), 10, 1, 1, Duration.ofSeconds(5));
+        try {
+            // One hash holds the only thread, a second fills the queue
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            while (encoder.stats().queued() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(RejectedExecutionException.class);
+            assertThat(encoder.stats().rejected()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        } finally {
+            release.countDown();
+            encoder.close();
+        }
+    }
+
+    @Test
+    void rejectsHashesThatTakeLongerThanMaxWait() {
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                blockingEncoder(new CountDownLatch(1), release), 10, 1, 1, Duration.ofMillis(50));
+        try {
+            assertThatThrownBy(() -> encoder.encode("a")).isInstanceOf(RejectedExecutionException.class);
+            assertThat(encoder.stats().timedOut()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            encoder.close();
+        }
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.budgy.backend.security;
+
+import com.budgy.backend.entities.User;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    // Between 32 and 47 bytes, so tokens are signed with HS256
+    private static final String SECRET = "testSecretKeyForJWTTokenGeneration123";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 100);
+
+    @Test
+    void verifiesTokenOnceAndServesRepeatsFromMemory() {
+        String token = jwtUtil.generateToken(userDetails());
+
+        VerifiedToken verified = jwtUtil.verify(token);
+        assertThat(verified.subject()).isEqualTo("jane@example.com");
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.name()).isEqualTo("Jane Doe");
+        assertThat(verified.tokenId()).isNotBlank();
+        assertThat(verified.expiresAt()).isAfter(verified.issuedAt());
+        assertThat(jwtUtil.verify(token)).isSameAs(verified);
+    }
+
+    @Test
+    void rejectsSignatureWithNonCanonicalTrailingBits() {
+        String token = jwtUtil.generateToken(userDetails());
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        // HS256 signatures are 32 bytes: 43 characters, the last carrying 2 spare bits
+        char last = signature.charAt(signature.length() - 1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        char tampered = alphabet.charAt(alphabet.indexOf(last) | 1);
+        String tamperedToken = token.substring(0, token.length() - 1) + tampered;
+
+        // Decodes to the same bytes, so only the format check catches it
+        assertThat(Base64.getUrlDecoder().decode(tamperedToken.substring(tamperedToken.lastIndexOf('.') + 1)))
+                .isEqualTo(Base64.getUrlDecoder().decode(signature));
+        assertThatThrownBy(() -> jwtUtil.verify(tamperedToken)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        String token = jwtUtil.generateToken(userDetails());
+
+        assertThatThrownBy(() -> jwtUtil.verify(token.substring(0, token.lastIndexOf('.'))))
+                .isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> jwtUtil.verify(token + "="))
+                .isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> new JwtUtil(SECRET + "other", 60_000L, 100).verify(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private static UserDetailsImpl userDetails() {
+        User user = new User();
+        user.setId(7L);
+        user.setName("Jane Doe");
+        user.setEmail("jane@example.com");
+        return new UserDetailsImpl(user);
+    }
+}
@@ -0,0 +1,145 @@
+package com.budgy.backend.security;
+
+import com.budgy.backend.entities.TokenRevocation;
+import com.budgy.backend.repositories.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationsTest {
+
+    private final Map<String, TokenRevocation> rows = new ConcurrentHashMap<>();
+    private final NoopTransactionManager transactionManager = new NoopTransactionManager();
+    private TokenRevocations revocations;
+
+    @BeforeEach
+    void create() {
+        revocations = new TokenRevocations(repository(rows), transactionManager);
+        ReflectionTestUtils.setField(revocations, "expirationMillis", Duration.ofDays(1).toMillis());
+        ReflectionTestUtils.setField(revocations, "expectedEntries", 1000);
+        ReflectionTestUtils.setField(revocations, "falsePositiveRate", 0.01);
+    }
+
+    @Test
+    void userRevocationCoversTokensIssuedUpToTheSameSecond() {
+        revocations.revokeUser(7L);
+        Instant cutoff = rows.get("u:7").getIssuedBefore();
+
+        assertThat(revocations.isRevoked(token("a", 7L, cutoff.minusSeconds(60)))).isTrue();
+        assertThat(revocations.isRevoked(token("b", 7L, cutoff))).isTrue();
+        assertThat(revocations.isRevoked(token("c", 7L, null))).isTrue();
+        assertThat(revocations.isRevoked(token("d", 7L, cutoff.plusSeconds(1)))).isFalse();
+        assertThat(revocations.isRevoked(token("e", 8L, cutoff))).isFalse();
+    }
+
+    @Test
+    void passwordChangeSparesTheTokenItWasMadeWith() {
+        revocations.revokeUser(7L, "current");
+        Instant cutoff = rows.get("u:7").getIssuedBefore();
+
+        VerifiedToken current = token("current", 7L, cutoff);
+        assertThat(revocations.isRevoked(current)).isFalse();
+        assertThat(revocations.isRevoked(token("other", 7L, cutoff))).isTrue();
+
+        // Logging out still revokes the spared token
+        revocations.revokeToken(current);
+        assertThat(revocations.isRevoked(current)).isTrue();
+    }
+
+    @Test
+    void appliesRevocationsOnlyOnceTheirTransactionCommits() {
+        VerifiedToken committed = token("committed", 7L, Instant.now());
+        VerifiedToken rolledBack = token("rolled-back", 7L, Instant.now());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // Load before the fake repository, which has no isolation, holds uncommitted rows
+        assertThat(revocations.isRevoked(committed)).isFalse();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            revocations.revokeToken(committed);
+            assertThat(revocations.isRevoked(committed)).isFalse();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            revocations.revokeToken(rolledBack);
+            status.setRollbackOnly();
+        });
+
+        assertThat(revocations.isRevoked(committed)).isTrue();
+        assertThat(revocations.isRevoked(rolledBack)).isFalse();
+    }
+
+    @Test
+    void reloadPicksUpRowsWrittenElsewhereAndPurgesExpiredOnes() {
+        VerifiedToken token = token("remote", 7L, Instant.now());
+        assertThat(revocations.isRevoked(token)).isFalse();
+
+        // Written by another instance, plus a row whose tokens have all expired
+        rows.put("t:remote", new TokenRevocation("t:remote", null, null, Instant.now().plus(Duration.ofHours(1))));
+        rows.put("t:old", new TokenRevocation("t:old", null, null, Instant.now().minusSeconds(1)));
+        assertThat(revocations.isRevoked(token)).isFalse();
+
+        revocations.reload();
+
+        assertThat(revocations.isRevoked(token)).isTrue();
+        assertThat(rows).containsOnlyKeys("t:remote");
+    }
+
+    private static VerifiedToken token(String tokenId, Long userId, Instant issuedAt) {
+        return new VerifiedToken(tokenId, "user@example.com", userId, "User", "U",
+                issuedAt, Instant.now().plus(Duration.ofHours(1)));
+    }
+
+    // Keeps rows in the map; a rolled back save stays there, as only the in-memory set is under test
+    private static TokenRevocationRepository repository(Map<String, TokenRevocation> rows) {
+        return (TokenRevocationRepository) Proxy.newProxyInstance(
+                TokenRevocationRepository.class.getClassLoader(),
+                new Class<?>[]{TokenRevocationRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> {
+                        TokenRevocation row = (TokenRevocation) args[0];
+                        rows.put(row.getRevocationKey(), row);
+                        yield row;
+                    }
+                    case "findActive" -> rows.values().stream()
+                            .filter(row -> row.getExpiresAt().isAfter((Instant) args[0]))
+                            .toList();
+                    case "deleteExpired" -> {
+                        int before = rows.size();
+                        rows.values().removeIf(row -> !row.getExpiresAt().isAfter((Instant) args[0]));
+                        yield before - rows.size();
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static class NoopTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.budgy.backend.services;
+
+import com.budgy.backend.dto.response.BudgetResponseDTO;
+import com.budgy.backend.dto.response.CursorPageResponseDTO;
+import com.budgy.backend.dto.response.DashboardStatsDTO;
+import com.budgy.backend.dto.response.OverviewDTO;
+import com.budgy.backend.dto.response.RecurringBillResponseDTO;
+import com.budgy.backend.dto.response.SavingPotResponseDTO;
+import com.budgy.backend.dto.response.TransactionResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OverviewServiceTest {
+
+    private static final int REQUESTS = 6;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger peakRunning = new AtomicInteger();
+    private final Map<Long, AtomicInteger> runningPerUser = new ConcurrentHashMap<>();
+    private final AtomicInteger peakPerUser = new AtomicInteger();
+    private final ExecutorService requests = Executors.newFixedThreadPool(REQUESTS);
+    private OverviewService overviewService;
+
+    @AfterEach
+    void close() {
+        requests.shutdownNow();
+        overviewService.close();
+    }
+
+    @Test
+    void boundsSectionsPerRequestAndAcrossConcurrentRequests() throws Exception {
+        // 2 per request, 4 in total: half of the 8 connections left to requests
+        overviewService = overviewService(2, 6, 8);
+
+        List<Future<OverviewDTO>> overviews = new ArrayList<>();
+        for (long userId = 1; userId <= REQUESTS; userId++) {
+            long user = userId;
+            overviews.add(requests.submit(() -> overviewService.getOverview(user)));
+        }
+
+        for (Future<OverviewDTO> overview : overviews) {
+            assertThat(overview.get().getFailedSections()).isEmpty();
+        }
+        assertThat(peakPerUser.get()).isLessThanOrEqualTo(2);
+        assertThat(peakRunning.get()).isEqualTo(4);
+    }
+
+    @Test
+    void capsSharedSectionsAtHalfOfTheConnectionsLeftToRequests() {
+        overviewService = overviewService(2, 8, 10);
+
+        assertThat(OverviewService.concurrentSections(8, 10)).isEqualTo(5);
+        assertThat(OverviewService.concurrentSections(3, 10)).isEqualTo(3);
+        assertThat(OverviewService.concurrentSections(8, 1)).isEqualTo(1);
+    }
+
+    private OverviewService overviewService(int perRequest, int concurrent, int reservedConnections) {
+        DashboardService dashboardService = new DashboardService(null, null) {
+            @Override
+            public DashboardStatsDTO getDashboardStats(Long userId) {
+                return section(userId, null);
+            }
+        };
+        BudgetService budgetService = new BudgetService(null, null, null, null, null, null) {
+            @Override
+            public List<BudgetResponseDTO> getAllBudgetsByUser(Long userId) {
+                return section(userId, List.of());
+            }
+        };
+        SavingPotService savingPotService = new SavingPotService(null, null, null, null) {
+            @Override
+            public List<SavingPotResponseDTO> getAllSavingPotsByUser(Long userId) {
+                return section(userId, List.of());
+            }
+        };
+        RecurringBillService recurringBillService = new RecurringBillService(null, null, null, null) {
+            @Override
+            public List<RecurringBillResponseDTO> getBillsDueBy(Long userId, LocalDate today, LocalDate to) {
+                return section(userId, List.of());
+            }
+        };
+        TransactionService transactionService = new TransactionService(null, null, null, null, null, null) {
+            @Override
+            public CursorPageResponseDTO<TransactionResponseDTO> getAllTransactionsByUser(Long userId, String cursor, Integer limit) {
+                return section(userId, new CursorPageResponseDTO<>(List.of(), null, false));
+            }
+        };
+        return new OverviewService(dashboardService, budgetService, savingPotService, recurringBillService,
+                transactionService, Duration.ofSeconds(10), perRequest, concurrent, reservedConnections);
+    }
+
+    // Stands in for a section holding a connection for a while
+    private <T> T section(Long userId, T result) {
+        AtomicInteger userRunning = runningPerUser.computeIfAbsent(userId, id -> new AtomicInteger());
+        peakRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        peakPerUser.accumulateAndGet(userRunning.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            userRunning.decrementAndGet();
+            running.decrementAndGet();
+        }
+        return result;
+    }
+}
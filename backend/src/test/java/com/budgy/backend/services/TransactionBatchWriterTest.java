@@ -0,0 +1,93 @@
+package com.budgy.backend.services;
+
+import com.budgy.backend.cache.UserCache;
+import com.budgy.backend.cache.UserCacheInvalidator;
+import com.budgy.backend.entities.Budget;
+import com.budgy.backend.entities.Transaction;
+import com.budgy.backend.entities.User;
+import com.budgy.backend.enums.TransactionType;
+import com.budgy.backend.repositories.BudgetPeriodTotalRepository;
+import com.budgy.backend.repositories.MonthlyRollupRepository;
+import com.budgy.backend.repositories.TransactionRepository;
+import com.budgy.backend.rollups.BudgetPeriodWriter;
+import com.budgy.backend.rollups.MonthlyRollupWriter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionBatchWriterTest {
+
+    private final List<List<Object>> calls = new ArrayList<>();
+
+    @Test
+    void deletingABudgetsTransactionsTakesThemOutOfRollupsAndPeriodTotals() {
+        UserCache<String> cache = new UserCache<>("test", 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(7L, () -> "v" + loads.incrementAndGet());
+        TransactionBatchWriter writer = new TransactionBatchWriter(
+                fake(TransactionRepository.class), null,
+                new MonthlyRollupWriter(fake(MonthlyRollupRepository.class)),
+                new BudgetPeriodWriter(fake(BudgetPeriodTotalRepository.class)),
+                new UserCacheInvalidator(List.of(cache)));
+
+        // Expenses stored with either sign, as older rows and imports may have them
+        writer.delete(7L, List.of(
+                expense(3, "-12.50"),
+                expense(3, "7.50"),
+                expense(4, "5.00")));
+
+        assertThat(calls).containsExactly(
+                List.of("addDelta", 7L, LocalDate.of(2024, 3, 1), "EXPENSE", "Food", new BigDecimal("20.00"), -2),
+                List.of("addDelta", 7L, LocalDate.of(2024, 4, 1), "EXPENSE", "Food", new BigDecimal("5.00"), -1),
+                List.of("addDelta", 3L, LocalDate.of(2024, 3, 10), new BigDecimal("-20.00"), -2),
+                List.of("addDelta", 3L, LocalDate.of(2024, 4, 10), new BigDecimal("-5.00"), -1),
+                List.of("deleteAll", 3));
+        // Evicted, outside of a transaction right away
+        assertThat(cache.get(7L, () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+    }
+
+    private Transaction expense(int month, String amount) {
+        User user = new User();
+        user.setId(7L);
+        Budget budget = new Budget();
+        budget.setId(3L);
+        Transaction transaction = new Transaction();
+        transaction.setUser(user);
+        transaction.setBudget(budget);
+        transaction.setType(TransactionType.EXPENSE);
+        transaction.setCategory("Food");
+        transaction.setTransactionDate(LocalDate.of(2024, month, 10));
+        transaction.setAmount(new BigDecimal(amount));
+        return transaction;
+    }
+
+    // Records every call with its arguments; collections are recorded by size
+    private <T> T fake(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    List<Object> call = new ArrayList<>();
+                    call.add(method.getName());
+                    for (Object arg : args) {
+                        call.add(arg instanceof Iterable<?> rows ? (Object) sizeOf(rows) : arg);
+                    }
+                    calls.add(call);
+                    return method.getReturnType() == int.class ? 1 : null;
+                }));
+    }
+
+    private static int sizeOf(Iterable<?> rows) {
+        int size = 0;
+        for (Object ignored : rows) {
+            size++;
+        }
+        return size;
+    }
+}
@@ -45,16 +45,35 @@ export const getDashboardStats = (userId) => {
 
 // ==================== TRANSACTIONS ====================
 
+// Listing endpoints are keyset-paginated: each page carries a nextCursor that
+// is passed back as the "cursor" parameter until it comes back null.
+const fetchAllPages = async (url) => {
+  const separator = url.includes("?") ? "&" : "?";
+  const items = [];
+  let cursor = null;
+
+  do {
+    const query = cursor
+      ? `${separator}cursor=${encodeURIComponent(cursor)}&limit=200`
+      : `${separator}limit=200`;
+    const page = await apiCall(`${url}${query}`);
+    items.push(...page.items);
+    cursor = page.nextCursor;
+  } while (cursor);
+
+  return items;
+};
+
 export const getTransactions = (userId) => {
-  return apiCall(`/users/${userId}/transactions`);
+  return fetchAllPages(`/users/${userId}/transactions`);
 };
 
 export const getTransactionsByType = (userId, type) => {
-  return apiCall(`/users/${userId}/transactions/type/${type}`);
+  return fetchAllPages(`/users/${userId}/transactions/type/${type}`);
 };
 
 export const getTransactionsByDateRange = (userId, startDate, endDate) => {
-  return apiCall(
+  return fetchAllPages(
     `/users/${userId}/transactions/date-range?startDate=${startDate}&endDate=${endDate}`,
   );
 };